@@ -2,12 +2,19 @@ package seedu.fitchasers;
 
 import seedu.fitchasers.exceptions.CorruptedDataException;
 import seedu.fitchasers.exceptions.FileNonexistent;
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
 import seedu.fitchasers.ui.UI;
 import seedu.fitchasers.workouts.ViewLog;
 import seedu.fitchasers.gym.EquipmentDisplay;
 import seedu.fitchasers.gym.Gym;
-import seedu.fitchasers.gym.StaticGymData;
+import seedu.fitchasers.gym.GymIndex;
+import seedu.fitchasers.gym.GymRepository;
+import seedu.fitchasers.search.SearchQuery;
+import seedu.fitchasers.search.WorkoutSearch;
+import seedu.fitchasers.tagger.CachingTagger;
 import seedu.fitchasers.tagger.DefaultTagger;
+import seedu.fitchasers.tagger.HistoryRetagger;
+import seedu.fitchasers.tagger.LearnedTagger;
 import seedu.fitchasers.tagger.Modality;
 import seedu.fitchasers.tagger.MuscleGroup;
 import seedu.fitchasers.user.GoalWeightTracker;
@@ -22,6 +29,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -42,10 +50,18 @@ public class FitChasers {
     private static String savedName = null;
     private static final UI ui = new UI();
     private static final FileHandler fileHandler = new FileHandler();
+    private static final WorkoutSearch workoutSearch =
+            new WorkoutSearch(fileHandler, FileHandler.DATA_DIRECTORY.resolve(WorkoutSearch.INDEX_FILE_NAME));
+    private static final int SEARCH_RESULT_LIMIT = 20;
     private static final YearMonth currentMonth = YearMonth.now();
     private static ViewLog viewLog;
-    private static final DefaultTagger tagger = new DefaultTagger();
-    private static final List<Gym> gyms = StaticGymData.getNusGyms();
+    private static final DefaultTagger tagger =
+            new DefaultTagger(FileHandler.DATA_DIRECTORY.resolve(DefaultTagger.KEYWORD_FILE_NAME));
+    private static final LearnedTagger learnedTagger =
+            new LearnedTagger(tagger, FileHandler.DATA_DIRECTORY.resolve(LearnedTagger.MODEL_FILE_NAME));
+    private static final CachingTagger cachedTagger = new CachingTagger(learnedTagger);
+    private static final GymRepository gymRepository =
+            new GymRepository(FileHandler.DATA_DIRECTORY.resolve(GymRepository.FILE_NAME));
     private static WorkoutManager workoutManager;
     private static boolean isRunning = true;
     private static String argumentStr = "";
@@ -184,6 +200,11 @@ public class FitChasers {
                     gpMethod();
                     break;
 
+                case "/reload_gyms":
+                case "rlg":
+                    reloadGymsMethod();
+                    break;
+
                 case "/override_workout_tag":
                 case "owt":
                     owtMethod();
@@ -210,6 +231,21 @@ public class FitChasers {
                     }
                     break;
 
+                case "/timeline":
+                case "tl":
+                    viewLog.renderTimeline(argumentStr);
+                    break;
+
+                case "/search":
+                case "sr":
+                    searchMethod();
+                    break;
+
+                case "/retag_all":
+                case "ra":
+                    retagAllMethod();
+                    break;
+
                 case "/open":
                 case "o":
                     viewLog.openByIndex(Integer.parseInt(argumentStr));
@@ -220,6 +256,11 @@ public class FitChasers {
                     workoutManager.deleteParser(argumentStr);
                     break;
 
+                case "/export_log":
+                case "el":
+                    exportLogMethod();
+                    break;
+
                 case "/exit":
                 case "e":
                     exitMethod();
@@ -258,6 +299,8 @@ public class FitChasers {
         ui.showMessage("Saving your progress...");
         try {
             fileHandler.saveWeightList(person);
+            fileHandler.compactJournals();
+            workoutSearch.save();
             ui.showExitMessage();
         } catch (IOException e) {
             ui.showError("Failed to save workouts before exit.");
@@ -265,6 +308,70 @@ public class FitChasers {
         isRunning = false;
     }
 
+    private static void searchMethod() throws InvalidArgumentInput, IOException {
+        SearchQuery query = SearchQuery.parse(argumentStr);
+        WorkoutSearch.Result result = workoutSearch.search(query, SEARCH_RESULT_LIMIT);
+        if (result.total() == 0) {
+            ui.showMessage("No workouts match \"" + argumentStr + "\". Try fewer words, OR, or a prefix like dead*");
+            return;
+        }
+
+        StringBuilder buf = new StringBuilder();
+        buf.append(String.format("Found %d workout%s matching \"%s\"", result.total(),
+                result.total() == 1 ? "" : "s", argumentStr));
+        if (result.total() > result.matches().size()) {
+            buf.append(" (newest ").append(result.matches().size()).append(" shown)");
+        }
+        buf.append(System.lineSeparator());
+        for (Workout w : result.matches()) {
+            String start = w.getWorkoutStartDateTime() == null ? "Unknown date"
+                    : w.getWorkoutStartDateTime().toLocalDate().toString();
+            buf.append(String.format("%-12s %-22s %s%n", start, w.getWorkoutName(),
+                    String.join(", ", w.getAllTags())));
+        }
+        buf.append("Tip: /view_log ym/<MM>/<YY> lists a month so you can /open a workout.");
+        ui.showMessage(buf.toString());
+    }
+
+    private static void retagAllMethod() throws FileNonexistent, IOException {
+        HistoryRetagger retagger = new HistoryRetagger(fileHandler, cachedTagger,
+                FileHandler.DATA_DIRECTORY.resolve(HistoryRetagger.PROGRESS_FILE_NAME));
+        ui.showMessage("Retagging your whole history with the current keywords...");
+        HistoryRetagger.Summary summary;
+        try {
+            String fingerprint = tagger.keywordFingerprint() + "-" + learnedTagger.modelFingerprint();
+            summary = retagger.run(fingerprint, (month, retagged, monthsRun) -> {
+                if (retagged > 0) {
+                    ui.showMessage(month + ": retagged " + retagged + " workout" + (retagged == 1 ? "" : "s"));
+                } else if (monthsRun % 12 == 0) {
+                    ui.showMessage("Checked " + monthsRun + " months so far...");
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ui.showMessage("Retagging stopped. Run /retag_all again to pick up where it left off.");
+            return;
+        }
+
+        // Months are retagged in place in the storage cache, which keeps the month being edited, so the list and
+        // any open workout WorkoutManager holds already carry the new tags and need no reload
+        StringBuilder buf = new StringBuilder();
+        buf.append("Done! Checked ").append(summary.monthsChecked()).append(" month")
+                .append(summary.monthsChecked() == 1 ? "" : "s").append(", retagged ")
+                .append(summary.workoutsRetagged()).append(" workout")
+                .append(summary.workoutsRetagged() == 1 ? "" : "s").append('.');
+        if (summary.monthsResumed() > 0) {
+            buf.append(" (").append(summary.monthsResumed()).append(" months were already done by an earlier run.)");
+        }
+        ui.showMessage(buf.toString());
+    }
+
+    private static void exportLogMethod() throws InvalidArgumentInput, FileNonexistent, IOException {
+        YearMonth month = viewLog.parseArgs(argumentStr).ym();
+        Path exported = fileHandler.exportMonthAsText(month);
+        ui.showMessage("Exported workouts for " + month + " to " + exported);
+    }
+
     //@@author bennyy117
     private static void owtMethod() throws FileNonexistent, IOException {
         // Parse parameters
@@ -292,13 +399,6 @@ public class FitChasers {
                 return;
             }
 
-            // Validate workout ID
-            if (workoutId <= 0 || workoutId > workoutManager.getWorkouts().size()) {
-                ui.showMessage("Invalid workout ID. Use valid ID between 1 and " +
-                        workoutManager.getWorkouts().size());
-                return;
-            }
-
             Workout workout = viewLog.getWorkoutByDisplayId(workoutId, currentMonth);
             if (workout == null) {
                 ui.showMessage("Invalid workout ID.");
@@ -306,6 +406,7 @@ public class FitChasers {
             }
 
             Set<String> oldTags = workout.getAllTags();
+            Set<String> oldManualTags = new LinkedHashSet<>(workout.getManualTags());
 
             ui.showMessage("Current tags: " + String.join(", ", oldTags));
             ui.showMessage("Change to: " + newTag + "?");
@@ -316,7 +417,7 @@ public class FitChasers {
                 return;
             }
 
-            Set<String> autoTagsThatWillBeOverridden = tagger.suggest(workout);
+            Set<String> autoTagsThatWillBeOverridden = cachedTagger.suggest(workout);
             if (!autoTagsThatWillBeOverridden.isEmpty()) {
                 ui.showMessage("WARNING: This will override auto generated tags: " + String.join(", ",
                         autoTagsThatWillBeOverridden));
@@ -331,15 +432,13 @@ public class FitChasers {
             workoutManager.overrideWorkoutTags(workout, newTag);
 
             try {
-                fileHandler.saveMonthList(currentMonth, workoutManager.getWorkouts());
-
-                ArrayList<Workout> reloadedWorkouts = fileHandler.getWorkoutsForMonth(currentMonth);
-                workoutManager.setWorkouts(reloadedWorkouts);
+                YearMonth workoutMonth = fileHandler.findMonthOf(workout.getId());
+                fileHandler.recordWorkoutRetagged(workoutMonth, fileHandler.loadMonthList(workoutMonth), workout);
 
                 ui.showMessage("✓ Workout tags updated successfully.");
                 ui.showMessage("  New tags: " + newTag);
 
-                Set<String> conflicts = workoutManager.checkForOverriddenTags(reloadedWorkouts.get(workoutId - 1));
+                Set<String> conflicts = workoutManager.checkForOverriddenTags(workout);
 
                 if (!conflicts.isEmpty()) {
                     ui.showMessage("WARNING: These manual tags override auto-tags: " + conflicts);
@@ -347,10 +446,17 @@ public class FitChasers {
 
             } catch (IOException e) {
                 ui.showMessage("Error saving workout data: " + e.getMessage());
+                return;
             } catch (FileNonexistent e) {
                 throw new RuntimeException(e);
             }
 
+            try {
+                learnedTagger.learn(workout, oldManualTags);
+            } catch (IOException e) {
+                ui.showMessage("Could not update the tag suggestions from this change: " + e.getMessage());
+            }
+
         } else {
             ui.showMessage("Usage: /override_workout_tag id/WORKOUT_ID newTag/NEW_TAG");
         }
@@ -359,6 +465,7 @@ public class FitChasers {
     //@@author Exceptional-Khoi
     private static void gpMethod() {
         try {
+            List<Gym> gyms = gymRepository.getGyms();
             String trimmedArg = argumentStr.trim();
             Gym selectedGym = null;
 
@@ -366,7 +473,7 @@ public class FitChasers {
                 String input = trimmedArg.substring(2).trim();
                 if (input.isEmpty()) {  // ADD THIS
                     ui.showMessage("Please provide a gym number or name.");
-                    listAvailableGyms();
+                    listAvailableGyms(gyms);
                     return;
                 }
 
@@ -376,26 +483,28 @@ public class FitChasers {
                         selectedGym = gyms.get(pageNum - 1);
                     }
                 } catch (NumberFormatException e) {
-                    selectedGym = findGymByName(input);
+                    selectedGym = findGymByName(gyms, input);
                 }
 
                 if (selectedGym != null) {
                     EquipmentDisplay.showEquipmentForSingleGym(selectedGym);
                 } else {
                     ui.showMessage("Invalid gym. Use number (1-" + gyms.size() + ") or gym name (e.g., SRC Gym)");
-                    listAvailableGyms();
+                    listAvailableGyms(gyms);
                 }
             } else {
                 ui.showMessage("Usage: /gym_page p/page_number_or_gym_name");
                 ui.showMessage("Example: /gym_page p/1 OR /gym_page p/SRC Gym");
-                listAvailableGyms();
+                listAvailableGyms(gyms);
             }
+        } catch (IOException e) {
+            ui.showError("Could not load the gym list: " + e.getMessage());
         } catch (Exception e) {
             ui.showMessage("Error: " + e.getMessage());
         }
     }
 
-    private static Gym findGymByName(String gymName) {
+    private static Gym findGymByName(List<Gym> gyms, String gymName) {
         String searchName = gymName.toLowerCase().trim();
         for (Gym gym : gyms) {
             if (gym.getName().toLowerCase().contains(searchName)) {
@@ -405,7 +514,7 @@ public class FitChasers {
         return null;
     }
 
-    private static void listAvailableGyms() {
+    private static void listAvailableGyms(List<Gym> gyms) {
         ui.showMessage("Available gyms:");
         for (int i = 0; i < gyms.size(); i++) {
             ui.showMessage("  " + (i + 1) + ". " + gyms.get(i).getName());
@@ -416,22 +525,42 @@ public class FitChasers {
         String trimmedArg = argumentStr.trim();
         try {
             if (trimmedArg.startsWith("n/") && trimmedArg.length() > 2) {
-                Set<String> gymsToSuggest = EquipmentDisplay.suggestGymsForExercise(gyms, argumentStr);
+                List<GymIndex.Match> gymsToSuggest =
+                        EquipmentDisplay.matchGymsForExercise(gymRepository.getIndex(), argumentStr);
                 if (!gymsToSuggest.isEmpty()) {
-                    ui.showMessage("You can do this workout at: " + String.join(", ",
-                            gymsToSuggest));
+                    List<String> shown = new ArrayList<>();
+                    for (GymIndex.Match match : gymsToSuggest) {
+                        int n = match.machines().size();
+                        shown.add(match.gym().getName() + " (" + n + " machine" + (n == 1 ? "" : "s") + ")");
+                    }
+                    ui.showMessage("You can do this workout at: " + String.join(", ", shown));
                 } else {
                     ui.showMessage("Sorry, no gyms found for that exercise.");
                 }
             } else {
                 ui.showMessage("Usage: /gym_where n/exercise_name");
             }
+        } catch (IOException e) {
+            ui.showError("Could not load the gym list: " + e.getMessage());
         } catch (Exception e) {
             ui.showMessage("An error occurred while searching for gyms. Please check your input " +
                     "and try again.");
         }
     }
 
+    //@@author nitin19011
+    private static void reloadGymsMethod() {
+        try {
+            int count = gymRepository.reload();
+            String source = gymRepository.usesUserFile()
+                    ? FileHandler.DATA_DIRECTORY.resolve(GymRepository.FILE_NAME).toString() : "the built-in list";
+            ui.showMessage("Loaded " + count + " gym" + (count == 1 ? "" : "s") + " from " + source + ".");
+        } catch (IOException e) {
+            ui.showError("Could not reload the gym list, keeping the previous one: " + e.getMessage());
+        }
+    }
+    //@@author Exceptional-Khoi
+
     private static void amtMethod() {
         String[] params = argumentStr.split("\\s+");
         String mus = null;
@@ -460,12 +589,12 @@ public class FitChasers {
                 tagger.addMuscleKeyword(muscleGroup, keyword);
 
                 for (Workout w : workoutManager.getWorkouts()) {
-                    Set<String> updatedTags = tagger.suggest(w);
+                    Set<String> updatedTags = cachedTagger.suggest(w);
                     w.setAutoTags(updatedTags);
                     ui.showMessage("Retagged workout " + w.getWorkoutName() + ": " + updatedTags);
                 }
                 try {
-                    fileHandler.saveMonthList(currentMonth, workoutManager.getWorkouts());
+                    fileHandler.saveMonthList(workoutManager.getCurrentLoadedMonth(), workoutManager.getWorkouts());
                     ui.showMessage("Added keyword " + keyword + " to muscle group " + mus);
                 } catch (IOException e) {
                     ui.showMessage("Error saving changes: " + e.getMessage());
@@ -473,6 +602,8 @@ public class FitChasers {
             } catch (IllegalArgumentException e) {
                 ui.showMessage("Invalid muscle group. Valid options: LEGS, POSTERIOR_CHAIN, CHEST, BACK, " +
                         "SHOULDERS, ARMS, CORE");
+            } catch (IOException e) {
+                ui.showMessage("Error saving keyword: " + e.getMessage());
             }
         } else {
             ui.showMessage("Usage: /add_muscle_tag m/LEGS/ CHEST/... k/keyword");
@@ -507,9 +638,8 @@ public class FitChasers {
         if (mod != null && keyword != null) {
             try {
                 Modality modality = Modality.valueOf(mod);
-                tagger.addModalityKeyword(modality, keyword);
 
-                // Check ONLY workouts that contain this keyword
+                // Check ONLY workouts that contain this keyword, before the keyword is saved
                 StringBuilder conflicts = new StringBuilder();
                 List<Workout> affectedWorkouts = new ArrayList<>();
 
@@ -531,21 +661,24 @@ public class FitChasers {
                     ui.showMessage("\nTo change these tags, first remove the old keyword or manually edit the tag.");
                     return;
                 }
-
-                for (Workout w : affectedWorkouts) {
-                    Set<String> updatedTags = tagger.suggest(w);
-                    w.setAutoTags(updatedTags);
-                    ui.showMessage("Retagged: " + w.getWorkoutName() + " → " + updatedTags);
-                }
+                tagger.addModalityKeyword(modality, keyword);
 
                 try {
-                    fileHandler.saveMonthList(currentMonth, workoutManager.getWorkouts());
+                    for (Workout w : affectedWorkouts) {
+                        Set<String> updatedTags = cachedTagger.suggest(w);
+                        w.setAutoTags(updatedTags);
+                        fileHandler.recordWorkoutRetagged(workoutManager.getCurrentLoadedMonth(),
+                                workoutManager.getWorkouts(), w);
+                        ui.showMessage("Retagged: " + w.getWorkoutName() + " → " + updatedTags);
+                    }
                     ui.showMessage("✓ Added keyword '" + keyword + "' to modality " + mod);
                 } catch (IOException e) {
                     ui.showMessage("Error saving changes: " + e.getMessage());
                 }
             } catch (IllegalArgumentException e) {
                 ui.showMessage("Invalid modality. Valid options: CARDIO, STRENGTH");
+            } catch (IOException e) {
+                ui.showMessage("Error saving keyword: " + e.getMessage());
             }
 
         } else {
@@ -646,8 +779,15 @@ public class FitChasers {
         }
 
         weightManager = new WeightManager(person);
-        workoutManager = new WorkoutManager(tagger, fileHandler);
+        workoutManager = new WorkoutManager(cachedTagger, fileHandler);
+        try {
+            tagger.watchForChanges();
+        } catch (IOException e) {
+            ui.showError("Edits to " + DefaultTagger.KEYWORD_FILE_NAME + " will apply after a restart: "
+                    + e.getMessage());
+        }
         fileHandler.initIndex();
+        learnedTagger.trainInBackgroundIfMissing(fileHandler);
 
         try {
             fileHandler.loadWeightList(person);
@@ -664,7 +804,7 @@ public class FitChasers {
             fileHandler.saveMonthList(currentMonth, new ArrayList<>());
         }
 
-        viewLog = new ViewLog(ui, workoutManager, fileHandler);
+        viewLog = new ViewLog(ui, workoutManager, fileHandler, workoutSearch);
         goalTracker = new GoalWeightTracker();
     }
 }
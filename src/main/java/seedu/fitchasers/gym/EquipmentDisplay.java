@@ -1,10 +1,10 @@
 package seedu.fitchasers.gym;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 //@@author nitin19011
 /**
@@ -15,40 +15,14 @@ import java.util.Set;
  *   <li>Display all available machines in a gym, along with the exercises each machine supports.</li>
  *   <li>Suggest gyms that contain machines matching specific exercise-related tags provided by the user.</li>
  * </ul>
- * It maintains an internal mapping between machine names and the exercises they enable,
- * facilitating quick lookups and formatted display outputs.
+ * The exercises each machine enables come with the machine from the gym catalogue (see {@link GymRepository}).
  */
 public class EquipmentDisplay {
 
-    private static final Map<String, String> MACHINE_TO_EXERCISES = new HashMap<>();
-
-    static {
-        MACHINE_TO_EXERCISES.put("Deadlift Platform", "Deadlifts");
-        MACHINE_TO_EXERCISES.put("Squat Rack", "Squats");
-        MACHINE_TO_EXERCISES.put("Cycling Studio", "Cycling");
-        MACHINE_TO_EXERCISES.put("Swimming Pool", "Swimming");
-        MACHINE_TO_EXERCISES.put("Hypertrophy Machine", "Strength Training");
-        MACHINE_TO_EXERCISES.put("Queenax Functional Trainer", "Functional Training");
-
-        MACHINE_TO_EXERCISES.put("Treadmill", "Running, Jogging");
-        MACHINE_TO_EXERCISES.put("Leg Curl", "Leg Curls");
-        MACHINE_TO_EXERCISES.put("Leg Extension", "Leg Extensions");
-        MACHINE_TO_EXERCISES.put("Bench Press", "Bench Press");
-        MACHINE_TO_EXERCISES.put("Push-up Station", "Push-ups");
-        MACHINE_TO_EXERCISES.put("Calf Raise", "Calf Raises");
-        MACHINE_TO_EXERCISES.put("Abs Bench", "Ab Exercises");
-
-        MACHINE_TO_EXERCISES.put("Rowing Machine", "Rowing");
-        MACHINE_TO_EXERCISES.put("Lat Pulldown", "Lat Pulldowns");
-        MACHINE_TO_EXERCISES.put("Pull-up Bar", "Pull-ups");
-        MACHINE_TO_EXERCISES.put("Shoulder Press", "Shoulder Press");
-        MACHINE_TO_EXERCISES.put("Bicep Curl", "Bicep Curls");
-        MACHINE_TO_EXERCISES.put("Tricep Extension", "Tricep Extensions");
-        MACHINE_TO_EXERCISES.put("Ab Crunch", "Ab Crunches");
-    }
+    private static final Pattern EXERCISE_PARAM = Pattern.compile("(?:^|\\s)n/(.*)$");
 
-    private static String getExercisesForMachine(String machineName) {
-        return MACHINE_TO_EXERCISES.getOrDefault(machineName, "Various exercises");
+    private static String getExercisesForMachine(Machine machine) {
+        return machine.getExercises().isBlank() ? "Various exercises" : machine.getExercises();
     }
 
     /**
@@ -68,7 +42,7 @@ public class EquipmentDisplay {
 
         for (Machine machine : gym.getMachines()) {
             machineWidth = Math.max(machineWidth, machine.getName().length());
-            String exercises = getExercisesForMachine(machine.getName());
+            String exercises = getExercisesForMachine(machine);
             exerciseWidth = Math.max(exerciseWidth, exercises.length());
         }
 
@@ -81,7 +55,7 @@ public class EquipmentDisplay {
         System.out.println(line);
 
         for (Machine machine : gym.getMachines()) {
-            String exercises = getExercisesForMachine(machine.getName());
+            String exercises = getExercisesForMachine(machine);
             System.out.printf(format, machine.getName(), exercises);
         }
 
@@ -90,50 +64,41 @@ public class EquipmentDisplay {
     }
 
     /**
-     * Suggests gyms that have machines matching all tags corresponding to the given exercise.
+     * Suggests gyms that have machines matching the given exercise, the gym with most matching machines first.
+     * Builds an index over the gyms for this one call; callers searching repeatedly should keep a
+     * {@link GymIndex} and use {@link #matchGymsForExercise(GymIndex, String)}.
      *
      * @param gyms        The list of Gym objects to check.
      * @param argumentStr The user input string containing the exercise to search for (e.g. "n/bench").
-     * @return A set of gym names that have matching machines; empty set if none found.
+     * @return The names of the gyms that have matching machines, best first; empty set if none found.
      */
     public static Set<String> suggestGymsForExercise(List<Gym> gyms, String argumentStr) {
 
         assert gyms != null : "Gyms list passed to suggestGymsForExercise cannot be null";
 
-        assert argumentStr != null : "Argument string passed to suggestGymsForExercise cannot be null";
-
-        String exerciseName = "";
-
-        // Extract exercise name from n/ parameter
-        String[] params = argumentStr.split("\\s+");
-        for (String param : params) {
-            if (param.startsWith("n/")) {
-                exerciseName = param.substring(2).trim().toLowerCase();
-                break;
-            }
+        Set<String> gymsWithMatch = new LinkedHashSet<>();
+        for (GymIndex.Match match : matchGymsForExercise(new GymIndex(gyms), argumentStr)) {
+            gymsWithMatch.add(match.gym().getName());
         }
+        return gymsWithMatch;
+    }
 
-        if (exerciseName.isEmpty()) {
-            return new HashSet<>();
-        }
+    /**
+     * Finds the gyms with machines matching the given exercise, the gym with most matching machines first.
+     *
+     * @param index       The index over the gyms to search.
+     * @param argumentStr The user input string containing the exercise to search for (e.g. "n/bench press").
+     * @return The matching gyms with their matching machines; empty if none found or no exercise was given.
+     */
+    public static List<GymIndex.Match> matchGymsForExercise(GymIndex index, String argumentStr) {
 
-        Set<String> gymsWithMatch = new HashSet<>();
-
-        // For each gym, check if any machine's tags match the exercise name
-        for (Gym gym : gyms) {
-            for (Machine machine : gym.getMachines()) {
-                List<String> tags = machine.getBodyPartsTargeted();
-
-                // Check if ANY tag appears in the exercise name
-                for (String tag : tags) {
-                    if (exerciseName.contains(tag.toLowerCase())) {
-                        gymsWithMatch.add(gym.getName());
-                        break; // Found a match, move to next gym
-                    }
-                }
-            }
-        }
+        assert argumentStr != null : "Argument string passed to matchGymsForExercise cannot be null";
 
-        return gymsWithMatch;
+        // Extract exercise name from n/ parameter; it runs to the end of the input
+        Matcher m = EXERCISE_PARAM.matcher(argumentStr);
+        if (!m.find() || m.group(1).isBlank()) {
+            return List.of();
+        }
+        return index.match(m.group(1));
     }
 }
@@ -0,0 +1,145 @@
+package seedu.fitchasers.gym;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+//@@author nitin19011
+/**
+ * Inverted index from body-part word to the machines targeting it, for finding gyms by exercise.
+ * <p>
+ * Built once from a gym catalogue, so a lookup touches only the machines sharing a word with the exercise
+ * name instead of every tag of every machine of every gym. Tags and exercise names are split into words the
+ * same way, and a tag of several words (e.g. "overhead press") matches only if its words appear together.
+ * Words are matched whole after reducing them to a rough stem, so "squats" finds "squat", "swimming" finds "swim"
+ * and "cycling" finds "cycle", but "pullover" does not find "pull".
+ */
+public class GymIndex {
+
+    /**
+     * A gym and its machines matching an exercise.
+     *
+     * @param gym      the gym
+     * @param machines the matching machines, in the gym's order
+     */
+    public record Match(Gym gym, List<Machine> machines) {
+    }
+
+    private record Posting(int gym, int machine) {
+    }
+
+    private final List<Gym> gyms;
+    private final Map<String, List<Posting>> postings = new HashMap<>();
+    private int longestTag = 1;
+
+    /**
+     * Builds the index over the given gyms.
+     *
+     * @param gyms the gym catalogue; later changes to it are not seen
+     */
+    public GymIndex(List<Gym> gyms) {
+        this.gyms = List.copyOf(gyms);
+        for (int g = 0; g < this.gyms.size(); g++) {
+            List<Machine> machines = this.gyms.get(g).getMachines();
+            for (int m = 0; m < machines.size(); m++) {
+                for (String tag : machines.get(m).getBodyPartsTargeted()) {
+                    List<String> words = words(tag);
+                    if (words.isEmpty()) {
+                        continue;
+                    }
+                    longestTag = Math.max(longestTag, words.size());
+                    List<Posting> list = postings.computeIfAbsent(String.join(" ", words), k -> new ArrayList<>());
+                    Posting posting = new Posting(g, m);
+                    if (list.isEmpty() || !list.get(list.size() - 1).equals(posting)) {
+                        list.add(posting); // a machine listing a tag twice is indexed once
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the gyms with machines matching the exercise, the gym with most matching machines first;
+     * gyms with as many are kept in catalogue order.
+     *
+     * @param exerciseName the exercise, in any case
+     * @return the matching gyms; empty if none
+     */
+    public List<Match> match(String exerciseName) {
+        List<String> words = words(exerciseName);
+        Map<Integer, List<Integer>> found = new TreeMap<>(); // gym -> matching machines, so gyms stay in order
+        Set<Posting> seen = new HashSet<>();
+        for (int start = 0; start < words.size(); start++) {
+            StringBuilder phrase = new StringBuilder();
+            for (int end = start; end < words.size() && end - start < longestTag; end++) {
+                if (end > start) {
+                    phrase.append(' ');
+                }
+                phrase.append(words.get(end));
+                for (Posting p : postings.getOrDefault(phrase.toString(), List.of())) {
+                    if (seen.add(p)) {
+                        found.computeIfAbsent(p.gym(), g -> new ArrayList<>()).add(p.machine());
+                    }
+                }
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (Map.Entry<Integer, List<Integer>> e : found.entrySet()) {
+            Gym gym = gyms.get(e.getKey());
+            List<Integer> indices = e.getValue();
+            Collections.sort(indices);
+            List<Machine> machines = new ArrayList<>();
+            for (int m : indices) {
+                machines.add(gym.getMachines().get(m));
+            }
+            matches.add(new Match(gym, machines));
+        }
+        matches.sort((a, b) -> Integer.compare(b.machines().size(), a.machines().size())); // stable: ties keep order
+        return matches;
+    }
+
+    /**
+     * Splits text into lower-case words of letters, digits and inner hyphens, each reduced to its stem.
+     */
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        for (String w : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}-]+")) {
+            w = stem(w.replaceAll("^-+|-+$", ""));
+            if (!w.isEmpty()) {
+                words.add(w);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Strips the endings exercise names and tags differ by, so both sides meet on the same stem:
+     * "-ies" becomes "y", a plural "s" and an "-ing" are dropped (undoubling "nn", "mm", ... as in "running"),
+     * and so is a final "e", so "cycle" and "cycling" both become "cycl". Short words are left alone.
+     */
+    static String stem(String w) {
+        if (w.length() > 4 && w.endsWith("ies")) {
+            w = w.substring(0, w.length() - 3) + "y";
+        } else if (w.length() > 3 && w.endsWith("s") && !w.endsWith("ss")) {
+            w = w.substring(0, w.length() - 1);
+        }
+        if (w.length() > 5 && w.endsWith("ing")) {
+            w = w.substring(0, w.length() - 3);
+            int n = w.length();
+            if (n > 3 && w.charAt(n - 1) == w.charAt(n - 2) && "lsz".indexOf(w.charAt(n - 1)) < 0) {
+                w = w.substring(0, n - 1);
+            }
+        }
+        if (w.length() > 3 && w.endsWith("e")) {
+            w = w.substring(0, w.length() - 1);
+        }
+        return w;
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.fitchasers.gym;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+//@@author nitin19011
+/**
+ * Loads the gym catalogue from a data file and keeps it for the rest of the session.
+ * <p>
+ * The catalogue bundled with the app is used unless the user provides their own file, normally
+ * {@code data/gyms.txt}, so venues can be added without rebuilding. Nothing is read until gyms are first
+ * needed, since most sessions never look at them; {@link #reload()} re-reads the file after it was edited.
+ * File format:
+ * <pre>
+ *   # FitChasers gyms v1
+ *   gym|NAME
+ *   machine|NAME|EXERCISES YOU CAN DO|body part, body part, ...
+ * </pre>
+ * Lines starting with {@code #} after the header and blank lines are ignored. Each machine belongs to the gym
+ * line before it.
+ */
+public class GymRepository {
+    public static final String FILE_NAME = "gyms.txt";
+    static final String HEADER = "# FitChasers gyms v1";
+    static final String BUNDLED_RESOURCE = "gyms.txt";
+    private static final String SEP = "|";
+
+    /**
+     * A parsed catalogue with its index, replaced as a whole on reload.
+     */
+    private record Catalogue(List<Gym> gyms, GymIndex index) {
+    }
+
+    private final Path userFile;
+    private Catalogue catalogue;
+
+    /**
+     * Constructs a repository reading the given file if it exists, or the bundled catalogue otherwise.
+     *
+     * @param userFile the user's gym file
+     */
+    public GymRepository(Path userFile) {
+        this.userFile = userFile;
+    }
+
+    /**
+     * Returns the gyms, reading the catalogue on the first call.
+     *
+     * @return the gyms, in file order
+     * @throws IOException if the catalogue cannot be read or is malformed
+     */
+    public synchronized List<Gym> getGyms() throws IOException {
+        return catalogue().gyms();
+    }
+
+    /**
+     * Returns the body-part index over the gyms, reading the catalogue on the first call.
+     *
+     * @return the index
+     * @throws IOException if the catalogue cannot be read or is malformed
+     */
+    public synchronized GymIndex getIndex() throws IOException {
+        return catalogue().index();
+    }
+
+    /**
+     * Re-reads the catalogue. If it cannot be read, the gyms loaded before are kept.
+     *
+     * @return the number of gyms now loaded
+     * @throws IOException if the catalogue cannot be read or is malformed
+     */
+    public synchronized int reload() throws IOException {
+        catalogue = read();
+        return catalogue.gyms().size();
+    }
+
+    /**
+     * Returns whether the catalogue has been read yet.
+     *
+     * @return {@code true} once gyms have been asked for or reloaded
+     */
+    public synchronized boolean isLoaded() {
+        return catalogue != null;
+    }
+
+    /**
+     * Returns whether the gyms come from the user's file rather than the bundled catalogue.
+     *
+     * @return {@code true} if the user's file exists
+     */
+    public boolean usesUserFile() {
+        return Files.exists(userFile);
+    }
+
+    private Catalogue catalogue() throws IOException {
+        if (catalogue == null) {
+            catalogue = read();
+        }
+        return catalogue;
+    }
+
+    private Catalogue read() throws IOException {
+        List<Gym> gyms;
+        if (Files.exists(userFile)) {
+            try (BufferedReader in = Files.newBufferedReader(userFile, StandardCharsets.UTF_8)) {
+                gyms = parse(in, userFile.toString());
+            }
+        } else {
+            InputStream bundled = GymRepository.class.getResourceAsStream(BUNDLED_RESOURCE);
+            if (bundled == null) {
+                throw new IOException("Bundled gym list is missing");
+            }
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(bundled, StandardCharsets.UTF_8))) {
+                gyms = parse(in, "bundled gym list");
+            }
+        }
+        return new Catalogue(Collections.unmodifiableList(gyms), new GymIndex(gyms));
+    }
+
+    /**
+     * Parses a gym file.
+     *
+     * @param in     the file contents
+     * @param source where the contents came from, for error messages
+     * @return the gyms, in file order
+     * @throws IOException if the contents cannot be read or a line cannot be understood
+     */
+    static List<Gym> parse(BufferedReader in, String source) throws IOException {
+        String header = in.readLine();
+        if (header == null || !HEADER.equals(header.trim())) {
+            throw new IOException(source + " is not a gym file (first line must be \"" + HEADER + "\")");
+        }
+        List<Gym> gyms = new ArrayList<>();
+        Gym current = null;
+        String line;
+        int lineNo = 1;
+        while ((line = in.readLine()) != null) {
+            lineNo++;
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] f = trimmed.split("\\" + SEP, -1);
+            if ("gym".equals(f[0]) && f.length == 2 && !f[1].isBlank()) {
+                current = new Gym(f[1].trim());
+                gyms.add(current);
+            } else if ("machine".equals(f[0]) && f.length == 4 && !f[1].isBlank()) {
+                if (current == null) {
+                    throw new IOException(source + " line " + lineNo + ": machine before any gym");
+                }
+                current.addMachine(new Machine(f[1].trim(), splitList(f[3]), f[2].trim()));
+            } else {
+                throw new IOException(source + " line " + lineNo + ": cannot understand \"" + trimmed + "\"");
+            }
+        }
+        return gyms;
+    }
+
+    private static List<String> splitList(String field) {
+        List<String> items = new ArrayList<>();
+        for (String item : field.split(",")) {
+            if (!item.isBlank()) {
+                items.add(item.trim());
+            }
+        }
+        return List.copyOf(items);
+    }
+}
@@ -13,6 +13,7 @@ import java.util.List;
 public class Machine {
     private final String name;
     private final List<String> bodyPartsTargeted;
+    private final String exercises;
 
     /**
      * Constructs a {@code Machine} with the specified name and targeted body parts.
@@ -21,8 +22,20 @@ public class Machine {
      * @param bodyPartsTargeted A list of body parts targeted by this machine.
      */
     public Machine(String name, List<String> bodyPartsTargeted) {
+        this(name, bodyPartsTargeted, "");
+    }
+
+    /**
+     * Constructs a {@code Machine} with the specified name, targeted body parts and the exercises it is used for.
+     *
+     * @param name              The name of the machine.
+     * @param bodyPartsTargeted A list of body parts targeted by this machine.
+     * @param exercises         The exercises you can do on it, e.g. "Running, Jogging"; empty if not known.
+     */
+    public Machine(String name, List<String> bodyPartsTargeted, String exercises) {
         this.name = name;
         this.bodyPartsTargeted = bodyPartsTargeted;
+        this.exercises = exercises;
     }
 
     /**
@@ -42,4 +55,13 @@ public class Machine {
     public List<String> getBodyPartsTargeted() {
         return bodyPartsTargeted;
     }
+
+    /**
+     * Returns the exercises you can do on this machine.
+     *
+     * @return The exercises, e.g. "Running, Jogging"; empty if not known.
+     */
+    public String getExercises() {
+        return exercises;
+    }
 }
@@ -0,0 +1,129 @@
+package seedu.fitchasers.search;
+
+import java.util.Arrays;
+
+//@@author nitin19011
+/**
+ * Sorted set of workout IDs containing one search token.
+ * <p>
+ * IDs are handed out in increasing order, so new workouts are appended at the end; the rare insert in the
+ * middle and every removal use a binary search.
+ */
+class PostingList {
+    private long[] ids = new long[4];
+    private int size;
+
+    /**
+     * Adds a workout ID if it is not already present.
+     *
+     * @param id The workout ID.
+     */
+    void add(long id) {
+        if (size > 0 && ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+        int at = Arrays.binarySearch(ids, 0, size, id);
+        if (at >= 0) {
+            return;
+        }
+        at = -at - 1;
+        ensureCapacity();
+        System.arraycopy(ids, at, ids, at + 1, size - at);
+        ids[at] = id;
+        size++;
+    }
+
+    /**
+     * Removes a workout ID if it is present.
+     *
+     * @param id The workout ID.
+     */
+    void remove(long id) {
+        int at = Arrays.binarySearch(ids, 0, size, id);
+        if (at >= 0) {
+            System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+            size--;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the IDs in increasing order.
+     *
+     * @return A new array of the IDs.
+     */
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * Returns the IDs present in both sorted arrays. Each ID of the shorter array is looked up in the longer one
+     * with a search that resumes where the previous one ended, so a rare term keeps the cost low.
+     *
+     * @param a Sorted IDs.
+     * @param b Sorted IDs.
+     * @return The sorted intersection.
+     */
+    static long[] intersect(long[] a, long[] b) {
+        long[] small = a.length <= b.length ? a : b;
+        long[] large = small == a ? b : a;
+        long[] out = new long[small.length];
+        int n = 0;
+        int from = 0;
+        for (long id : small) {
+            int at = Arrays.binarySearch(large, from, large.length, id);
+            if (at >= 0) {
+                out[n++] = id;
+                from = at + 1;
+            } else {
+                from = -at - 1;
+            }
+            if (from >= large.length) {
+                break;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * Returns the IDs present in either sorted array.
+     *
+     * @param a Sorted IDs.
+     * @param b Sorted IDs.
+     * @return The sorted union without duplicates.
+     */
+    static long[] union(long[] a, long[] b) {
+        long[] out = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length || j < b.length) {
+            long next;
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                next = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                next = b[j++];
+            } else {
+                next = a[i++];
+                j++;
+            }
+            out[n++] = next;
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package seedu.fitchasers.search;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+//@@author nitin19011
+/**
+ * Inverted index from search word to the sorted IDs of the workouts containing it.
+ * <p>
+ * A forward map from each workout ID to its month and words is kept next to the postings so a workout can be
+ * re-indexed or removed without scanning every posting list. Only the forward map is persisted; the postings
+ * are rebuilt from it when the index is read. Each indexed month also carries the signature of the month file
+ * it was built from, so a later session can tell which months changed in the meantime.
+ * <p>
+ * Tags are indexed a second time as whole tags under a {@link #TAG_PREFIX} that no query word can produce, so
+ * tag filters do not match a workout that merely has the word in its name. Start times are indexed too, as a
+ * sorted map from start minute to IDs, so a date range can be sliced out and intersected with tag postings.
+ * <p>
+ * File format:
+ * <pre>
+ *   # FitChasers search index v2
+ *   month|YYYY-MM|signature
+ *   doc|workoutId|YYYY-MM|startEpochMinute or -|word word ...
+ * </pre>
+ */
+public class SearchIndex {
+    public static final String HEADER = "# FitChasers search index v2";
+    public static final String TAG_PREFIX = "#";
+    private static final String SEP = "|";
+    private static final String NO_START = "-";
+
+    private record Document(YearMonth month, Long start, String[] tokens) {
+    }
+
+    private final TreeMap<String, PostingList> postings = new TreeMap<>();
+    private final TreeMap<Long, PostingList> byStart = new TreeMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<YearMonth, String> signatures = new TreeMap<>();
+
+    /**
+     * Indexes a workout under the given words, replacing whatever it was indexed under before.
+     *
+     * @param id     The workout ID.
+     * @param month  The month holding the workout.
+     * @param tokens The workout's words, as produced by {@link SearchQuery#tokensOf}.
+     */
+    public void put(long id, YearMonth month, Collection<String> tokens) {
+        put(id, month, (Long) null, tokens);
+    }
+
+    /**
+     * Indexes a workout under the given words and start time, replacing whatever it was indexed under before.
+     *
+     * @param id     The workout ID.
+     * @param month  The month holding the workout.
+     * @param start  The workout's start, or {@code null} if unknown.
+     * @param tokens The workout's words, as produced by {@link SearchQuery#tokensOf}.
+     */
+    public void put(long id, YearMonth month, LocalDateTime start, Collection<String> tokens) {
+        put(id, month, start == null ? null : toMinute(start), tokens);
+    }
+
+    private void put(long id, YearMonth month, Long start, Collection<String> tokens) {
+        remove(id);
+        String[] words = tokens.toArray(new String[0]);
+        documents.put(id, new Document(month, start, words));
+        for (String word : words) {
+            postings.computeIfAbsent(word, w -> new PostingList()).add(id);
+        }
+        if (start != null) {
+            byStart.computeIfAbsent(start, m -> new PostingList()).add(id);
+        }
+    }
+
+    /**
+     * Removes a workout from the index.
+     *
+     * @param id The workout ID.
+     */
+    public void remove(long id) {
+        Document old = documents.remove(id);
+        if (old == null) {
+            return;
+        }
+        for (String word : old.tokens()) {
+            removePosting(postings, word, id);
+        }
+        if (old.start() != null) {
+            removePosting(byStart, old.start(), id);
+        }
+    }
+
+    /**
+     * Removes every workout of a month and forgets the month's signature.
+     *
+     * @param month The month.
+     */
+    public void removeMonth(YearMonth month) {
+        List<Long> ids = new ArrayList<>();
+        for (Map.Entry<Long, Document> e : documents.entrySet()) {
+            if (e.getValue().month().equals(month)) {
+                ids.add(e.getKey());
+            }
+        }
+        for (long id : ids) {
+            remove(id);
+        }
+        signatures.remove(month);
+    }
+
+    /**
+     * Returns the IDs of the workouts matching the query.
+     *
+     * @param query The parsed query.
+     * @return The matching IDs in increasing order.
+     */
+    public long[] query(SearchQuery query) {
+        long[] result = new long[0];
+        for (List<String> clause : query.clauses()) {
+            List<long[]> terms = new ArrayList<>();
+            for (String term : clause) {
+                terms.add(lookup(term));
+            }
+            terms.sort((a, b) -> Integer.compare(a.length, b.length)); // rarest first keeps intersections small
+            long[] matches = terms.get(0);
+            for (int i = 1; i < terms.size() && matches.length > 0; i++) {
+                matches = PostingList.intersect(matches, terms.get(i));
+            }
+            result = PostingList.union(result, matches);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the IDs of the workouts carrying a tag.
+     *
+     * @param tag The tag, in any case.
+     * @return The IDs in increasing order.
+     */
+    public long[] taggedWith(String tag) {
+        PostingList list = postings.get(tagToken(tag));
+        return list == null ? new long[0] : list.toArray();
+    }
+
+    /**
+     * Returns the IDs of the workouts starting in a time range.
+     *
+     * @param from The start of the range, inclusive.
+     * @param to   The end of the range, exclusive.
+     * @return The IDs in increasing order.
+     */
+    public long[] startingBetween(LocalDateTime from, LocalDateTime to) {
+        long fromMinute = toMinute(from);
+        long toMinute = toMinute(to);
+        if (fromMinute >= toMinute) {
+            return new long[0];
+        }
+        Collection<PostingList> slice = byStart.subMap(fromMinute, toMinute).values();
+        int total = 0;
+        for (PostingList list : slice) {
+            total += list.size();
+        }
+        long[] ids = new long[total];
+        int n = 0;
+        for (PostingList list : slice) {
+            long[] part = list.toArray();
+            System.arraycopy(part, 0, ids, n, part.length);
+            n += part.length;
+        }
+        Arrays.sort(ids);
+        return ids; // a workout has one start, so the slice holds no duplicates
+    }
+
+    /**
+     * Returns the index word under which a tag is filed.
+     *
+     * @param tag The tag.
+     * @return The tag in lower case with spaces replaced, behind {@link #TAG_PREFIX}.
+     */
+    public static String tagToken(String tag) {
+        return TAG_PREFIX + tag.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", "_");
+    }
+
+    /**
+     * Returns the month holding an indexed workout.
+     *
+     * @param id The workout ID.
+     * @return The month, or {@code null} if the workout is not indexed.
+     */
+    public YearMonth monthOf(long id) {
+        Document doc = documents.get(id);
+        return doc == null ? null : doc.month();
+    }
+
+    /**
+     * Records the signature of the month file the month's entries were built from.
+     *
+     * @param month     The month.
+     * @param signature The file signature, or {@code null} if it is not known yet.
+     */
+    public void setSignature(YearMonth month, String signature) {
+        signatures.put(month, signature);
+    }
+
+    /**
+     * Returns the signature recorded for a month.
+     *
+     * @param month The month.
+     * @return The signature, or {@code null} if the month is not indexed or its file has changed since.
+     */
+    public String getSignature(YearMonth month) {
+        return signatures.get(month);
+    }
+
+    /**
+     * Returns the months the index has entries or a signature for.
+     *
+     * @return A copy of the indexed months.
+     */
+    public Set<YearMonth> getMonths() {
+        Set<YearMonth> months = new TreeSet<>(signatures.keySet());
+        for (Document doc : documents.values()) {
+            months.add(doc.month());
+        }
+        return months;
+    }
+
+    /**
+     * Returns the number of indexed workouts.
+     *
+     * @return The number of workouts.
+     */
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Serialises the index. Months without a known signature are left out, so they are rebuilt when read back.
+     *
+     * @return The index file contents.
+     */
+    public String render() {
+        StringBuilder sb = new StringBuilder(HEADER).append(System.lineSeparator());
+        for (Map.Entry<YearMonth, String> e : signatures.entrySet()) {
+            if (e.getValue() != null) {
+                sb.append("month").append(SEP).append(e.getKey()).append(SEP).append(e.getValue())
+                        .append(System.lineSeparator());
+            }
+        }
+        for (Map.Entry<Long, Document> e : documents.entrySet()) {
+            Document doc = e.getValue();
+            if (signatures.get(doc.month()) != null) {
+                sb.append("doc").append(SEP).append(e.getKey()).append(SEP).append(doc.month()).append(SEP)
+                        .append(doc.start() == null ? NO_START : doc.start()).append(SEP)
+                        .append(String.join(" ", doc.tokens())).append(System.lineSeparator());
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Replaces the contents with an index read from {@link #render()} output.
+     *
+     * @param in The index file.
+     * @return {@code true} if it was read, {@code false} if it was unrecognised or damaged and the index is empty.
+     */
+    public boolean read(BufferedReader in) {
+        clear();
+        try {
+            if (!HEADER.equals(in.readLine())) {
+                return false;
+            }
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] f = line.split("\\|", -1);
+                if ("month".equals(f[0])) {
+                    signatures.put(YearMonth.parse(f[1]), f[2]);
+                } else if ("doc".equals(f[0])) {
+                    put(Long.parseLong(f[1]), YearMonth.parse(f[2]),
+                            NO_START.equals(f[3]) ? null : Long.valueOf(f[3]),
+                            f[4].isEmpty() ? List.of() : List.of(f[4].split(" ")));
+                } else {
+                    throw new IllegalArgumentException("Unknown line: " + line);
+                }
+            }
+            return true;
+        } catch (IOException | RuntimeException e) {
+            clear();
+            return false;
+        }
+    }
+
+    /**
+     * Removes everything from the index.
+     */
+    public void clear() {
+        postings.clear();
+        byStart.clear();
+        documents.clear();
+        signatures.clear();
+    }
+
+    private static <K> void removePosting(Map<K, PostingList> map, K key, long id) {
+        PostingList list = map.get(key);
+        if (list != null) {
+            list.remove(id);
+            if (list.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    private static long toMinute(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private long[] lookup(String term) {
+        if (!term.endsWith(SearchQuery.PREFIX_WILDCARD)) {
+            PostingList list = postings.get(term);
+            return list == null ? new long[0] : list.toArray();
+        }
+        String prefix = term.substring(0, term.length() - 1);
+        NavigableMap<String, PostingList> range = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+        long[] result = new long[0];
+        for (PostingList list : range.values()) {
+            result = PostingList.union(result, list.toArray());
+        }
+        return result;
+    }
+}
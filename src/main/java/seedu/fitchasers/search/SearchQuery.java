@@ -0,0 +1,99 @@
+package seedu.fitchasers.search;
+
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+//@@author nitin19011
+/**
+ * A parsed {@code /search} query: alternatives joined by {@code OR}, each a list of terms that must all match.
+ * <p>
+ * Terms are matched against whole words of workout names, exercise names and tags, ignoring case.
+ * A term ending in {@code *} matches every word starting with it. For example {@code dead* legs OR swim}
+ * finds workouts with a word starting with "dead" and the word "legs", plus every workout mentioning "swim".
+ *
+ * @param clauses The alternatives; a workout matches if it matches every term of at least one of them.
+ */
+public record SearchQuery(List<List<String>> clauses) {
+    public static final String PREFIX_WILDCARD = "*";
+
+    /**
+     * Parses a query typed by the user.
+     *
+     * @param raw The text after {@code /search}.
+     * @return The parsed query.
+     * @throws InvalidArgumentInput If the query has no terms or an alternative is empty.
+     */
+    public static SearchQuery parse(String raw) throws InvalidArgumentInput {
+        if (raw == null || raw.isBlank()) {
+            throw new InvalidArgumentInput("Tell me what to look for! e.g. /search deadlift OR squat");
+        }
+        List<List<String>> clauses = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        for (String word : raw.trim().split("\\s+")) {
+            if (word.equalsIgnoreCase("OR")) {
+                addClause(clauses, current);
+                current = new ArrayList<>();
+                continue;
+            }
+            boolean prefix = word.endsWith(PREFIX_WILDCARD);
+            List<String> tokens = tokenize(prefix ? word.substring(0, word.length() - 1) : word);
+            for (int i = 0; i < tokens.size(); i++) {
+                boolean last = i == tokens.size() - 1;
+                current.add(prefix && last ? tokens.get(i) + PREFIX_WILDCARD : tokens.get(i));
+            }
+        }
+        addClause(clauses, current);
+        return new SearchQuery(clauses);
+    }
+
+    /**
+     * Splits text into lower-case words of letters and digits, the unit the index is built from.
+     *
+     * @param text The text, may be {@code null}.
+     * @return The words in order.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String t : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!t.isEmpty()) {
+                tokens.add(t);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the distinct words a workout can be found by.
+     *
+     * @param workout The workout.
+     * @return Words from its name, exercise names and tags, plus each whole tag as a tag word.
+     */
+    public static Set<String> tokensOf(Workout workout) {
+        Set<String> tokens = new LinkedHashSet<>(tokenize(workout.getWorkoutName()));
+        for (Exercise e : workout.getExercises()) {
+            tokens.addAll(tokenize(e.getName()));
+        }
+        for (String tag : workout.getAllTags()) {
+            tokens.addAll(tokenize(tag));
+            tokens.add(SearchIndex.tagToken(tag));
+        }
+        return tokens;
+    }
+
+    private static void addClause(List<List<String>> clauses, List<String> terms) throws InvalidArgumentInput {
+        if (terms.isEmpty()) {
+            throw new InvalidArgumentInput("Each side of OR needs a word to search for, e.g. /search squat OR lunge");
+        }
+        clauses.add(List.copyOf(terms));
+    }
+}
@@ -0,0 +1,257 @@
+package seedu.fitchasers.search;
+
+import seedu.fitchasers.exceptions.FileNonexistent;
+import seedu.fitchasers.storage.AtomicFileWriter;
+import seedu.fitchasers.storage.FileHandler;
+import seedu.fitchasers.storage.WorkoutChangeListener;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+//@@author nitin19011
+/**
+ * Answers {@code /search} queries over the whole workout history from a {@link SearchIndex}.
+ * <p>
+ * The index is read from {@code data/search_index.txt} on the first search of a session. Months whose file
+ * changed since the index was saved, or that were never indexed, are re-read and re-indexed at that point;
+ * every other month is answered without opening its file. From then on the index follows each change
+ * {@link FileHandler} persists, and it is written back on exit.
+ * <p>
+ * The handler calls this class while holding its own lock, so every method here that calls into the handler
+ * takes the handler's lock before this object's. Taking them the other way round would let a search deadlock
+ * with a background load that re-indexes a month.
+ */
+public class WorkoutSearch implements WorkoutChangeListener {
+    public static final String INDEX_FILE_NAME = "search_index.txt";
+
+    private final FileHandler fileHandler;
+    private final Path indexFile;
+    private final SearchIndex index = new SearchIndex();
+    private boolean loaded;
+
+    /**
+     * Result of a search.
+     *
+     * @param total   The number of matching workouts.
+     * @param matches The newest matches, at most the requested limit, newest first.
+     */
+    public record Result(int total, List<Workout> matches) {
+    }
+
+    /**
+     * Constructs a search over the workouts stored by the given handler and registers it for their changes.
+     *
+     * @param fileHandler The storage to search.
+     * @param indexFile   Where the index is persisted, normally {@code data/search_index.txt}.
+     */
+    public WorkoutSearch(FileHandler fileHandler, Path indexFile) {
+        this.fileHandler = fileHandler;
+        this.indexFile = indexFile;
+        fileHandler.addChangeListener(this);
+    }
+
+    /**
+     * Finds the workouts matching a query.
+     * Only the months holding the newest {@code limit} matches are read to show them.
+     *
+     * @param query The parsed query.
+     * @param limit The maximum number of workouts to return.
+     * @return The total number of matches and the newest of them.
+     * @throws IOException If the index or a month cannot be read.
+     */
+    public Result search(SearchQuery query, int limit) throws IOException {
+        synchronized (fileHandler) {
+            return searchLocked(query, limit);
+        }
+    }
+
+    private synchronized Result searchLocked(SearchQuery query, int limit) throws IOException {
+        ensureLoaded();
+        long[] ids = index.query(query);
+
+        // Group by month, newest month first, and read only as many months as the shown matches need
+        TreeMap<YearMonth, Set<Long>> byMonth = new TreeMap<>(Comparator.reverseOrder());
+        for (long id : ids) {
+            byMonth.computeIfAbsent(index.monthOf(id), m -> new HashSet<>()).add(id);
+        }
+        List<Workout> matches = new ArrayList<>();
+        for (Map.Entry<YearMonth, Set<Long>> e : byMonth.entrySet()) {
+            if (matches.size() >= limit) {
+                break;
+            }
+            List<Workout> inMonth = new ArrayList<>();
+            for (Workout w : monthList(e.getKey())) {
+                if (e.getValue().contains(w.getId())) {
+                    inMonth.add(w);
+                }
+            }
+            inMonth.sort(Comparator.comparing(Workout::getWorkoutStartDateTime,
+                    Comparator.nullsLast(Comparator.reverseOrder())));
+            matches.addAll(inMonth.subList(0, Math.min(inMonth.size(), limit - matches.size())));
+        }
+        return new Result(ids.length, matches);
+    }
+
+    /**
+     * Finds the workouts carrying every given tag that start within a time range.
+     * <p>
+     * The range is cut from the start-time index and intersected with each tag's posting list, smallest first,
+     * before any month is touched. Only months holding a match are then read, through their display-ordered
+     * views, so the result is in the same order as {@code /view_log}.
+     *
+     * @param tags The tags a workout must all carry; may be empty.
+     * @param from The start of the range, inclusive.
+     * @param to   The end of the range, exclusive.
+     * @return The matching workouts, newest first.
+     * @throws IOException If the index or a month cannot be read.
+     */
+    public List<Workout> filter(Collection<String> tags, LocalDateTime from, LocalDateTime to)
+            throws IOException {
+        synchronized (fileHandler) {
+            return filterLocked(tags, from, to);
+        }
+    }
+
+    private synchronized List<Workout> filterLocked(Collection<String> tags, LocalDateTime from, LocalDateTime to)
+            throws IOException {
+        ensureLoaded();
+        List<long[]> sets = new ArrayList<>();
+        sets.add(index.startingBetween(from, to));
+        for (String tag : tags) {
+            sets.add(index.taggedWith(tag));
+        }
+        sets.sort(Comparator.comparingInt(a -> a.length));
+        long[] ids = sets.get(0);
+        for (int i = 1; i < sets.size() && ids.length > 0; i++) {
+            ids = PostingList.intersect(ids, sets.get(i));
+        }
+
+        TreeMap<YearMonth, Set<Long>> byMonth = new TreeMap<>(Comparator.reverseOrder());
+        for (long id : ids) {
+            byMonth.computeIfAbsent(index.monthOf(id), m -> new HashSet<>()).add(id);
+        }
+        List<Workout> matches = new ArrayList<>(ids.length);
+        for (Map.Entry<YearMonth, Set<Long>> e : byMonth.entrySet()) {
+            for (Workout w : sortedMonth(e.getKey())) {
+                if (e.getValue().contains(w.getId())) {
+                    matches.add(w);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Writes the index to disk if it was used this session. Call after pending month writes are flushed,
+     * e.g. after {@link FileHandler#compactJournals()}, so the recorded month signatures match the files.
+     *
+     * @throws IOException If the index cannot be written.
+     */
+    public void save() throws IOException {
+        synchronized (fileHandler) {
+            saveLocked();
+        }
+    }
+
+    private synchronized void saveLocked() throws IOException {
+        if (!loaded) {
+            return;
+        }
+        Map<YearMonth, String> current = fileHandler.monthSignatures();
+        for (YearMonth month : index.getMonths()) {
+            index.setSignature(month, current.get(month));
+        }
+        AtomicFileWriter writer = new AtomicFileWriter(false);
+        writer.writeString(indexFile, index.render());
+        writer.commit();
+    }
+
+    @Override
+    public synchronized void workoutChanged(YearMonth month, Workout workout) {
+        if (loaded) {
+            index.put(workout.getId(), month, workout.getWorkoutStartDateTime(), SearchQuery.tokensOf(workout));
+            index.setSignature(month, null);
+        }
+    }
+
+    @Override
+    public synchronized void workoutRemoved(YearMonth month, Workout workout) {
+        if (loaded) {
+            index.remove(workout.getId());
+            index.setSignature(month, null);
+        }
+    }
+
+    @Override
+    public synchronized void monthReplaced(YearMonth month, List<Workout> workouts) {
+        if (loaded) {
+            indexMonth(month, workouts, null);
+        }
+    }
+
+    /**
+     * Reads the saved index and brings every month whose file changed since up to date.
+     */
+    private void ensureLoaded() throws IOException {
+        if (loaded) {
+            return;
+        }
+        if (Files.exists(indexFile)) {
+            try (BufferedReader in = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+                index.read(in);
+            }
+        }
+        Map<YearMonth, String> current = fileHandler.monthSignatures();
+        for (YearMonth month : index.getMonths()) {
+            if (!current.containsKey(month)) {
+                index.removeMonth(month);
+            }
+        }
+        for (Map.Entry<YearMonth, String> e : current.entrySet()) {
+            String indexed = index.getSignature(e.getKey());
+            if (indexed == null || !Objects.equals(indexed, e.getValue())) {
+                indexMonth(e.getKey(), monthList(e.getKey()), e.getValue());
+            }
+        }
+        loaded = true;
+    }
+
+    private void indexMonth(YearMonth month, List<Workout> workouts, String signature) {
+        index.removeMonth(month);
+        for (Workout w : workouts) {
+            index.put(w.getId(), month, w.getWorkoutStartDateTime(), SearchQuery.tokensOf(w));
+        }
+        index.setSignature(month, signature);
+    }
+
+    private List<Workout> sortedMonth(YearMonth month) throws IOException {
+        try {
+            return fileHandler.loadSortedMonth(month);
+        } catch (FileNonexistent e) {
+            return List.of();
+        }
+    }
+
+    private List<Workout> monthList(YearMonth month) throws IOException {
+        try {
+            return fileHandler.loadMonthList(month);
+        } catch (FileNonexistent e) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package seedu.fitchasers.storage;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+//@@author Kart04
+/**
+ * Write-behind stage for month files, run by a single background thread.
+ * <p>
+ * Marking a month dirty queues its write. If the month is marked again before the write window has passed,
+ * the newer write replaces the queued one, so a burst of changes to one month costs a single disk write.
+ * Queued writes can be forced out with {@link #flush(YearMonth)} or {@link #flushAll()}, and a shutdown hook
+ * flushes whatever is left when the JVM exits. A writer that is replaced should be {@link #close() closed} so
+ * its thread and hook go away with it.
+ * <p>
+ * All state is guarded by the lock passed in, which is also held while a write runs. A caller that holds
+ * the lock therefore never sees a half-finished write, and flushing from such a caller runs the queued write
+ * on the caller's own thread.
+ * <p>
+ * An optional commit step runs once after each batch of writes, e.g. to sync the directory they were
+ * renamed into.
+ */
+public class AsyncMonthWriter {
+
+    /**
+     * A queued month write.
+     */
+    @FunctionalInterface
+    public interface MonthWrite {
+        void write() throws IOException;
+    }
+
+    private record Pending(MonthWrite write, long dueNanos) {
+    }
+
+    private final Object lock;
+    private final long windowNanos;
+    private final MonthWrite commit;
+    private final Map<YearMonth, Pending> pending = new LinkedHashMap<>();
+    private Thread worker;
+    private Thread shutdownHook;
+    private IOException failure;
+    private long requested;
+    private long performed;
+
+    /**
+     * Constructs a writer that coalesces writes of the same month within the given window.
+     * A zero window performs every write immediately on the calling thread.
+     *
+     * @param lock   The lock guarding the files being written.
+     * @param window How long a write may wait for further changes to the same month.
+     */
+    public AsyncMonthWriter(Object lock, Duration window) {
+        this(lock, window, () -> { });
+    }
+
+    /**
+     * Constructs a writer that also runs a commit step after each batch of writes.
+     *
+     * @param lock   The lock guarding the files being written.
+     * @param window How long a write may wait for further changes to the same month.
+     * @param commit The step run once after every batch, e.g. a directory sync.
+     */
+    public AsyncMonthWriter(Object lock, Duration window, MonthWrite commit) {
+        this.lock = lock;
+        this.windowNanos = window.toNanos();
+        this.commit = commit;
+    }
+
+    /**
+     * Queues a write of the month, replacing any write of that month that is still waiting.
+     *
+     * @param month The month that changed.
+     * @param write The write bringing the month file up to date.
+     * @throws IOException If an earlier background write failed, or the write fails when run immediately.
+     */
+    public void markDirty(YearMonth month, MonthWrite write) throws IOException {
+        synchronized (lock) {
+            rethrowFailure();
+            requested++;
+            if (windowNanos <= 0) {
+                pending.remove(month);
+                run(write);
+                commit.write();
+                return;
+            }
+            Pending previous = pending.get(month);
+            long due = previous != null ? previous.dueNanos() : System.nanoTime() + windowNanos;
+            pending.put(month, new Pending(write, due));
+            startWorker();
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Returns whether the month has a write waiting to reach disk.
+     *
+     * @param month The month to check.
+     * @return {@code true} if the month file on disk is behind.
+     */
+    public boolean isPending(YearMonth month) {
+        synchronized (lock) {
+            return pending.containsKey(month);
+        }
+    }
+
+    /**
+     * Writes the month now if it has a write waiting, and returns once it is on disk.
+     *
+     * @param month The month to make durable.
+     * @throws IOException If the write, or an earlier background write, fails.
+     */
+    public void flush(YearMonth month) throws IOException {
+        synchronized (lock) {
+            Pending p = pending.remove(month);
+            if (p != null) {
+                run(p.write());
+                commit.write();
+            }
+            rethrowFailure();
+        }
+    }
+
+    /**
+     * Writes every waiting month now, and returns once all of them are on disk.
+     *
+     * @throws IOException If a write, or an earlier background write, fails.
+     */
+    public void flushAll() throws IOException {
+        synchronized (lock) {
+            boolean wrote = !pending.isEmpty();
+            while (!pending.isEmpty()) {
+                YearMonth month = pending.keySet().iterator().next();
+                run(pending.remove(month).write());
+            }
+            if (wrote) {
+                commit.write();
+            }
+            rethrowFailure();
+        }
+    }
+
+    /**
+     * Writes every waiting month, then stops the background thread and removes its shutdown hook.
+     * The writer stays usable: a later delayed write starts a new thread.
+     *
+     * @throws IOException If a write, or an earlier background write, fails; the thread is stopped regardless.
+     */
+    public void close() throws IOException {
+        synchronized (lock) {
+            try {
+                flushAll();
+            } finally {
+                stopWorker();
+            }
+        }
+    }
+
+    /**
+     * Returns how many writes were requested, including ones later replaced by a newer write.
+     */
+    public long getRequestedWrites() {
+        synchronized (lock) {
+            return requested;
+        }
+    }
+
+    /**
+     * Returns how many writes actually reached disk.
+     */
+    public long getPerformedWrites() {
+        synchronized (lock) {
+            return performed;
+        }
+    }
+
+    private void run(MonthWrite write) throws IOException {
+        write.write();
+        performed++;
+    }
+
+    private void rethrowFailure() throws IOException {
+        if (failure != null) {
+            IOException e = failure;
+            failure = null;
+            throw e;
+        }
+    }
+
+    private void startWorker() {
+        if (worker != null) {
+            return;
+        }
+        worker = new Thread(this::drainLoop, "fitchasers-month-writer");
+        worker.setDaemon(true);
+        worker.start();
+        shutdownHook = new Thread(() -> {
+            try {
+                flushAll();
+            } catch (IOException e) {
+                System.err.println("Failed to save workouts on shutdown: " + e.getMessage());
+            }
+        }, "fitchasers-month-writer-flush");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    private void stopWorker() {
+        if (worker == null) {
+            return;
+        }
+        worker.interrupt(); // the worker wakes from its wait once the caller releases the lock
+        worker = null;
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // The JVM is already shutting down, so the hook is running or has run
+        }
+        shutdownHook = null;
+    }
+
+    private void drainLoop() {
+        synchronized (lock) {
+            while (true) {
+                try {
+                    if (pending.isEmpty()) {
+                        lock.wait();
+                        continue;
+                    }
+                    long waitNanos = earliest().getValue().dueNanos() - System.nanoTime();
+                    if (waitNanos > 0) {
+                        lock.wait(Math.max(1, waitNanos / 1_000_000));
+                        continue;
+                    }
+                    writeDueBatch();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes every month whose window has passed, then commits them together.
+     */
+    private void writeDueBatch() {
+        long now = System.nanoTime();
+        try {
+            var it = pending.values().iterator();
+            while (it.hasNext()) {
+                Pending p = it.next();
+                if (p.dueNanos() - now <= 0) {
+                    it.remove();
+                    run(p.write());
+                }
+            }
+            commit.write();
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    private Map.Entry<YearMonth, Pending> earliest() {
+        Map.Entry<YearMonth, Pending> best = null;
+        for (Map.Entry<YearMonth, Pending> e : pending.entrySet()) {
+            if (best == null || e.getValue().dueNanos() < best.getValue().dueNanos()) {
+                best = e;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.fitchasers.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+//@@author Kart04
+/**
+ * Replaces files atomically: the new contents go to a temporary file next to the target, which is
+ * synced to disk and then renamed over the target. A crash leaves either the old file or the new one,
+ * never a half-written mix.
+ * <p>
+ * A rename only becomes durable once its directory is synced. In group-commit mode that directory sync is
+ * deferred until {@link #commit()}, so a batch of writes to one directory costs one directory sync rather
+ * than one per file.
+ */
+public class AtomicFileWriter {
+    public static final String TEMP_SUFFIX = ".tmp";
+
+    private final boolean groupCommit;
+    private final Set<Path> unsyncedDirs = new LinkedHashSet<>();
+
+    /**
+     * Constructs a writer.
+     *
+     * @param groupCommit {@code true} to defer directory syncs until {@link #commit()}, {@code false} to sync
+     *                    the directory after every write
+     */
+    public AtomicFileWriter(boolean groupCommit) {
+        this.groupCommit = groupCommit;
+    }
+
+    /**
+     * Atomically replaces the target with the given bytes.
+     *
+     * @param target The file to replace or create.
+     * @param bytes  The new contents.
+     * @throws IOException If writing, syncing or renaming fails. The target is left unchanged.
+     */
+    public synchronized void write(Path target, byte[] bytes) throws IOException {
+        Path dir = target.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path temp = dir.resolve(target.getFileName() + TEMP_SUFFIX);
+        try (FileChannel ch = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buf = ByteBuffer.wrap(bytes);
+            while (buf.hasRemaining()) {
+                ch.write(buf);
+            }
+            ch.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        unsyncedDirs.add(dir);
+        if (!groupCommit) {
+            commit();
+        }
+    }
+
+    /**
+     * Atomically replaces the target with the given text, encoded as UTF-8.
+     *
+     * @param target The file to replace or create.
+     * @param text   The new contents.
+     * @throws IOException If writing fails. The target is left unchanged.
+     */
+    public void writeString(Path target, String text) throws IOException {
+        write(target, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Deletes a file, leaving the directory sync to the next {@link #commit()} in group-commit mode.
+     *
+     * @param target The file to delete.
+     * @throws IOException If the file cannot be deleted.
+     */
+    public synchronized void delete(Path target) throws IOException {
+        if (Files.deleteIfExists(target)) {
+            unsyncedDirs.add(target.toAbsolutePath().getParent());
+            if (!groupCommit) {
+                commit();
+            }
+        }
+    }
+
+    /**
+     * Syncs every directory touched since the last commit, making the renames and deletes durable.
+     *
+     * @throws IOException If a directory cannot be synced.
+     */
+    public synchronized void commit() throws IOException {
+        for (Path dir : unsyncedDirs) {
+            try (FileChannel ch = FileChannel.open(dir, StandardOpenOption.READ)) {
+                ch.force(true);
+            } catch (IOException | UnsupportedOperationException ignore) {
+                // some platforms (e.g. Windows) cannot open a directory; the rename is still atomic there
+            }
+        }
+        unsyncedDirs.clear();
+    }
+
+    /**
+     * Returns the number of directories waiting for {@link #commit()}.
+     */
+    public synchronized int getUnsyncedDirCount() {
+        return unsyncedDirs.size();
+    }
+}
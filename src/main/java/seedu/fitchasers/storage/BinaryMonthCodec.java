@@ -0,0 +1,456 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.workouts.DeferredExercises;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//@@author Kart04
+/**
+ * Compact binary encoding of a month of workouts, stored as {@code workouts_YYYY-MM.bin}.
+ * <p>
+ * Layout (all integers are unsigned LEB128 varints unless noted):
+ * <pre>
+ *   magic "FCWB" (4 bytes), version (1 byte), journal sequence number
+ *   dictionary: count, then each string as byte length + UTF-8 bytes
+ *   workout count, then per workout:
+ *     flags (1 byte: bit 0 = has start, bit 1 = has end)
+ *     workout ID (version 2 onwards)
+ *     name id, start in epoch minutes (UTC), end as zig-zag minutes after start, zig-zag duration
+ *     auto tag count + ids, manual tag count + ids
+ *     exercise count, then per exercise: name id, set count, reps per set
+ * </pre>
+ * Workout names, exercise names and tags are dictionary-coded, so a name repeated across the month is
+ * stored once. Timestamps keep minute precision, which is all the app records.
+ * <p>
+ * Decoding builds only the workout headers. Each workout's exercise list is validated and kept in encoded
+ * form until {@link Workout#getExercises()} is first called, so listing a month costs no exercise objects.
+ */
+public class BinaryMonthCodec {
+    public static final byte[] MAGIC = {'F', 'C', 'W', 'B'};
+    public static final int VERSION = 2;
+    // Oldest version still read; version 1 segments have no workout IDs
+    private static final int MIN_VERSION = 1;
+
+    private static final int HAS_START = 1;
+    private static final int HAS_END = 2;
+
+    /**
+     * Represents a decoded month segment.
+     *
+     * @param workouts    The workouts in file order.
+     * @param journalSeq  The last journal sequence number folded into this segment.
+     * @param skipped     The number of workouts dropped because they could not be parsed; always 0 for binary
+     *                    segments, which are checked as a whole.
+     */
+    public record Segment(ArrayList<Workout> workouts, long journalSeq, int skipped) {
+        public Segment(ArrayList<Workout> workouts, long journalSeq) {
+            this(workouts, journalSeq, 0);
+        }
+    }
+
+    private BinaryMonthCodec() {
+    }
+
+    /**
+     * Encodes the workouts of a month into the given stream.
+     *
+     * @param out        The stream to write to.
+     * @param workouts   The workouts to encode, in order.
+     * @param journalSeq The last journal sequence number contained in these workouts.
+     * @throws IOException If writing fails.
+     */
+    public static void encode(OutputStream out, List<Workout> workouts, long journalSeq) throws IOException {
+        Map<String, Integer> dictionary = buildDictionary(workouts);
+
+        out.write(MAGIC);
+        out.write(VERSION);
+        writeVarLong(out, journalSeq);
+
+        writeVarLong(out, dictionary.size());
+        for (String s : dictionary.keySet()) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(out, bytes.length);
+            out.write(bytes);
+        }
+
+        writeVarLong(out, workouts.size());
+        for (Workout w : workouts) {
+            LocalDateTime start = w.getWorkoutStartDateTime();
+            LocalDateTime end = w.getWorkoutEndDateTime();
+            int flags = (start != null ? HAS_START : 0) | (end != null ? HAS_END : 0);
+            out.write(flags);
+            writeVarLong(out, w.getId());
+            writeVarLong(out, dictionary.get(nonNull(w.getWorkoutName())));
+            long startMinute = start == null ? 0 : toEpochMinute(start);
+            if (start != null) {
+                writeVarLong(out, startMinute);
+            }
+            if (end != null) {
+                writeVarLong(out, zigZag(toEpochMinute(end) - startMinute));
+            }
+            writeVarLong(out, zigZag(w.getDuration()));
+            writeTags(out, w.getAutoTags(), dictionary);
+            writeTags(out, w.getManualTags(), dictionary);
+
+            if (w.getDeferredExercises() instanceof LazyExercises lazy) {
+                lazy.transcode(out, dictionary);
+                continue;
+            }
+            writeVarLong(out, w.getExercises().size());
+            for (Exercise e : w.getExercises()) {
+                writeVarLong(out, dictionary.get(nonNull(e.getName())));
+                writeVarLong(out, e.getNumSets());
+                for (int k = 0; k < e.getNumSets(); k++) {
+                    writeVarLong(out, zigZag(e.getReps(k)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Decodes a month segment from the given stream.
+     *
+     * @param in The stream to read from.
+     * @return The decoded workouts and journal sequence number.
+     * @throws IOException If the stream is truncated, has the wrong magic, or has an unsupported version.
+     */
+    public static Segment decode(InputStream in) throws IOException {
+        int version = readVersion(in);
+        long journalSeq = readVarLong(in);
+
+        int dictionarySize = readCount(in);
+        String[] dictionary = new String[dictionarySize];
+        for (int i = 0; i < dictionarySize; i++) {
+            int length = readCount(in);
+            byte[] bytes = in.readNBytes(length);
+            if (bytes.length != length) {
+                throw new EOFException("Workout segment is truncated");
+            }
+            dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        int workoutCount = readCount(in);
+        ArrayList<Workout> workouts = new ArrayList<>(workoutCount);
+        ByteArrayOutputStream exerciseBytes = new ByteArrayOutputStream();
+        int[] exerciseOffsets = new int[workoutCount];
+        for (int i = 0; i < workoutCount; i++) {
+            int flags = readByte(in);
+            long id = version >= 2 ? readVarLong(in) : 0;
+            String name = lookup(dictionary, readCount(in));
+            long startMinute = 0;
+            LocalDateTime start = null;
+            LocalDateTime end = null;
+            if ((flags & HAS_START) != 0) {
+                startMinute = readVarLong(in);
+                start = fromEpochMinute(startMinute);
+            }
+            if ((flags & HAS_END) != 0) {
+                end = fromEpochMinute(startMinute + unZigZag(readVarLong(in)));
+            }
+            Workout w = new Workout(name, start, end);
+            w.setId(id);
+            w.setDuration((int) unZigZag(readVarLong(in)));
+            w.setAutoTags(readTags(in, dictionary));
+            w.setManualTags(readTags(in, dictionary));
+            exerciseOffsets[i] = copyExercises(in, exerciseBytes, dictionarySize);
+            workouts.add(w);
+        }
+
+        byte[] exerciseSection = exerciseBytes.toByteArray();
+        for (int i = 0; i < workoutCount; i++) {
+            if (exerciseOffsets[i] >= 0) {
+                workouts.get(i).deferExercises(new LazyExercises(exerciseSection, exerciseOffsets[i], dictionary));
+            }
+        }
+        return new Segment(workouts, journalSeq);
+    }
+
+    /**
+     * Decodes a month segment held in a buffer, such as a memory-mapped file.
+     *
+     * @param in The segment bytes, from the buffer's position to its limit.
+     * @return The decoded workouts and journal sequence number.
+     * @throws IOException If the segment is truncated, has the wrong magic, or has an unsupported version.
+     */
+    public static Segment decode(ByteBuffer in) throws IOException {
+        return decode(new ByteBufferInput(in));
+    }
+
+    /**
+     * Reads only the header of a segment.
+     *
+     * @param in The stream positioned at the start of a segment.
+     * @return The journal sequence number stored in the header.
+     * @throws IOException If the magic or version does not match.
+     */
+    public static long readHeader(InputStream in) throws IOException {
+        readVersion(in);
+        return readVarLong(in);
+    }
+
+    private static int readVersion(InputStream in) throws IOException {
+        byte[] magic = in.readNBytes(MAGIC.length);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (magic.length != MAGIC.length || magic[i] != MAGIC[i]) {
+                throw new IOException("Not a FitChasers workout segment");
+            }
+        }
+        int version = readByte(in);
+        if (version < MIN_VERSION || version > VERSION) {
+            throw new IOException("Unsupported workout segment version " + version);
+        }
+        return version;
+    }
+
+    /**
+     * Copies one workout's exercise list into {@code section} without building any {@link Exercise}.
+     * Every count and dictionary id is checked here, so reading the copy later cannot fail.
+     *
+     * @return The offset of the copy in {@code section}, or -1 if the workout has no exercises.
+     */
+    private static int copyExercises(InputStream in, ByteArrayOutputStream section, int dictionarySize)
+            throws IOException {
+        int exerciseCount = readCount(in);
+        if (exerciseCount == 0) {
+            return -1;
+        }
+        int offset = section.size();
+        writeVarLong(section, exerciseCount);
+        for (int j = 0; j < exerciseCount; j++) {
+            int nameId = readCount(in);
+            if (nameId >= dictionarySize) {
+                throw new IOException("Workout segment refers to unknown dictionary entry " + nameId);
+            }
+            writeVarLong(section, nameId);
+            int setCount = readCount(in);
+            writeVarLong(section, setCount);
+            for (int k = 0; k < setCount; k++) {
+                writeVarLong(section, readVarLong(in));
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Exercises of a decoded workout, kept in their encoded form until the workout is opened.
+     * Re-encoding the month copies them across with remapped name ids instead of building them first.
+     */
+    private static final class LazyExercises implements DeferredExercises {
+        private final byte[] section;
+        private final int offset;
+        private final String[] dictionary;
+
+        LazyExercises(byte[] section, int offset, String[] dictionary) {
+            this.section = section;
+            this.offset = offset;
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        public ArrayList<Exercise> load() {
+            try {
+                InputStream in = open();
+                int exerciseCount = readCount(in);
+                ArrayList<Exercise> exercises = new ArrayList<>(exerciseCount);
+                for (int j = 0; j < exerciseCount; j++) {
+                    String exerciseName = dictionary[readCount(in)];
+                    int setCount = readCount(in);
+                    if (setCount == 0) {
+                        continue;
+                    }
+                    Exercise e = new Exercise(exerciseName, (int) unZigZag(readVarLong(in)));
+                    for (int k = 1; k < setCount; k++) {
+                        e.addSet((int) unZigZag(readVarLong(in)));
+                    }
+                    exercises.add(e);
+                }
+                return exercises;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Exercise section was validated when the month was read", e);
+            }
+        }
+
+        void collectNames(Map<String, Integer> target) throws IOException {
+            InputStream in = open();
+            int exerciseCount = readCount(in);
+            for (int j = 0; j < exerciseCount; j++) {
+                target.putIfAbsent(dictionary[readCount(in)], target.size());
+                skipSets(in);
+            }
+        }
+
+        void transcode(OutputStream out, Map<String, Integer> target) throws IOException {
+            InputStream in = open();
+            int exerciseCount = readCount(in);
+            writeVarLong(out, exerciseCount);
+            for (int j = 0; j < exerciseCount; j++) {
+                writeVarLong(out, target.get(dictionary[readCount(in)]));
+                int setCount = readCount(in);
+                writeVarLong(out, setCount);
+                for (int k = 0; k < setCount; k++) {
+                    writeVarLong(out, readVarLong(in));
+                }
+            }
+        }
+
+        private InputStream open() {
+            return new ByteArrayInputStream(section, offset, section.length - offset);
+        }
+
+        private static void skipSets(InputStream in) throws IOException {
+            int setCount = readCount(in);
+            for (int k = 0; k < setCount; k++) {
+                readVarLong(in);
+            }
+        }
+    }
+
+    /**
+     * Unsynchronised stream over a buffer; avoids copying a mapped file onto the heap before decoding.
+     */
+    private static final class ByteBufferInput extends InputStream {
+        private final ByteBuffer buf;
+
+        ByteBufferInput(ByteBuffer buf) {
+            this.buf = buf;
+        }
+
+        @Override
+        public int read() {
+            return buf.hasRemaining() ? buf.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buf.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buf.remaining());
+            buf.get(b, off, n);
+            return n;
+        }
+    }
+
+    private static Map<String, Integer> buildDictionary(List<Workout> workouts) throws IOException {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Workout w : workouts) {
+            dictionary.putIfAbsent(nonNull(w.getWorkoutName()), dictionary.size());
+            for (String tag : w.getAutoTags()) {
+                dictionary.putIfAbsent(tag, dictionary.size());
+            }
+            for (String tag : w.getManualTags()) {
+                dictionary.putIfAbsent(tag, dictionary.size());
+            }
+            if (w.getDeferredExercises() instanceof LazyExercises lazy) {
+                lazy.collectNames(dictionary);
+                continue;
+            }
+            for (Exercise e : w.getExercises()) {
+                dictionary.putIfAbsent(nonNull(e.getName()), dictionary.size());
+            }
+        }
+        return dictionary;
+    }
+
+    private static void writeTags(OutputStream out, Set<String> tags, Map<String, Integer> dictionary)
+            throws IOException {
+        writeVarLong(out, tags.size());
+        for (String tag : tags) {
+            writeVarLong(out, dictionary.get(tag));
+        }
+    }
+
+    private static Set<String> readTags(InputStream in, String[] dictionary) throws IOException {
+        int count = readCount(in);
+        Set<String> tags = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            tags.add(lookup(dictionary, readCount(in)));
+        }
+        return tags;
+    }
+
+    private static String lookup(String[] dictionary, int id) throws IOException {
+        if (id >= dictionary.length) {
+            throw new IOException("Workout segment refers to unknown dictionary entry " + id);
+        }
+        return dictionary[id];
+    }
+
+    private static String nonNull(String s) {
+        return s == null ? "" : s;
+    }
+
+    private static long toEpochMinute(LocalDateTime dt) {
+        return dt.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static LocalDateTime fromEpochMinute(long minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC).truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    private static long zigZag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    private static long unZigZag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long readVarLong(InputStream in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte(in);
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed varint in workout segment");
+    }
+
+    private static int readCount(InputStream in) throws IOException {
+        long v = readVarLong(in);
+        if (v < 0 || v > Integer.MAX_VALUE) {
+            throw new IOException("Malformed count in workout segment");
+        }
+        return (int) v;
+    }
+
+    private static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Workout segment is truncated");
+        }
+        return b;
+    }
+}
@@ -1,7 +1,6 @@
 package seedu.fitchasers.storage;
 
 import seedu.fitchasers.exceptions.CorruptedDataException;
-import seedu.fitchasers.exceptions.CorruptedFileError;
 import seedu.fitchasers.exceptions.FileNonexistent;
 import seedu.fitchasers.ui.UI;
 import seedu.fitchasers.user.Person;
@@ -9,24 +8,40 @@ import seedu.fitchasers.user.WeightRecord;
 import seedu.fitchasers.workouts.Exercise;
 import seedu.fitchasers.workouts.Workout;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 //@@author Kart04
 /**
@@ -39,31 +54,144 @@ import java.util.Set;
  * Each workout starts with "WORKOUT" and ends with "END_WORKOUT".
  * Exercises are listed between, with all set repetitions joined by commas.
  * <p>
+ * Every workout carries a stable ID ("Id: " line / binary field) that is never reused. IDs are handed out
+ * from a counter kept in the manifest, and {@link #findWorkout(long)} and {@link #deleteWorkout(long)} look
+ * a workout up by ID without re-sorting its month. The manifest also records each month file's IDs, so a
+ * workout in a month not yet read this session is found by reading just that month.
+ * <p>
+ * Months are written as compact binary segments ({@link BinaryMonthCodec}) by default. Text month files are
+ * still read, converted on startup, and can be exported on demand.
+ * <p>
+ * Small mutations are appended to a per-month {@link MutationJournal} instead of rewriting the month file.
+ * The journal is replayed on load and folded back into the month file during compaction.
+ * <p>
+ * Full month writes go through an {@link AsyncMonthWriter}, so saving a month only encodes it in memory and
+ * repeated saves of the same month within {@link #DEFAULT_WRITE_WINDOW} reach disk as one write. Reads of a
+ * month with a queued write flush it first; {@link #flush()} waits for all of them.
  */
 public class FileHandler {
 
     public static final Path DATA_DIRECTORY = Paths.get("data");
-    private final Path workoutDir = DATA_DIRECTORY.resolve("workouts");
+    public static final Duration DEFAULT_WRITE_WINDOW = Duration.ofMillis(200);
+    // Month files at least this large are memory-mapped instead of read through a buffered stream.
+    // Below this, mapping saves too little over a buffered read to be worth the extra mapping per file
+    public static final long MMAP_THRESHOLD_BYTES = 1024 * 1024;
+    // Upper bound on threads decoding month files for loadRange
+    private static final int MAX_RANGE_THREADS = 4;
+    private static final Comparator<Workout> BY_START = Comparator.comparing(
+            Workout::getWorkoutStartDateTime, Comparator.nullsLast(Comparator.naturalOrder()));
+    private final Path dataDir;
+    private final Path workoutDir;
+    private final MutationJournal journal;
     private final UI ui = new UI();
-    private final Map<YearMonth, ArrayList<Workout>> arrayByMonth = new HashMap<>();
-    private final Set<YearMonth> onDiskMonths = new HashSet<>();
+    private final MonthCache arrayByMonth = new MonthCache();
+    private final MonthManifest manifest;
+    private boolean indexed;
+    // Number of workouts on disk (snapshot + journal) per month, known once the month is loaded or saved
+    private final Map<YearMonth, Integer> onDiskSizes = new HashMap<>();
+    private final Map<YearMonth, Long> snapshotSeqs = new HashMap<>();
+    private final WorkoutIdIndex workoutIds = new WorkoutIdIndex();
+    private final SortedMonthViews sortedViews = new SortedMonthViews();
+    private final List<WorkoutChangeListener> listeners = new ArrayList<>();
+    private boolean binarySegments = true;
+    // Month writes defer their directory sync to the end of each writer batch (group commit)
+    private final AtomicFileWriter files = new AtomicFileWriter(true);
+    private AsyncMonthWriter writer = new AsyncMonthWriter(this, DEFAULT_WRITE_WINDOW, this::commitBatch);
+    private ExecutorService rangeLoader;
+    private ExecutorService prefetcher;
+
+    /**
+     * Constructs a file handler that stores everything under {@link #DATA_DIRECTORY}.
+     */
+    public FileHandler() {
+        this(DATA_DIRECTORY);
+    }
 
     /**
-     * Initilize index for lazy loading
+     * Constructs a file handler that stores everything under the given directory.
+     *
+     * @param dataDir the data directory, e.g. a temporary directory in tests
+     */
+    public FileHandler(Path dataDir) {
+        this.dataDir = dataDir;
+        this.workoutDir = dataDir.resolve("workouts");
+        this.journal = new MutationJournal(workoutDir);
+        this.manifest = new MonthManifest(dataDir.resolve("manifest.txt"));
+    }
+
+    /**
+     * Initilize index for lazy loading.
+     * The month manifest is loaded, or rebuilt from a directory scan if it is missing or stale. Months stored
+     * in the non-preferred format are converted, and journals left over from an unclean shutdown are folded
+     * into their month files.
      *
      * @throws IOException if directory or file creation fails
      */
-    public void initIndex() throws IOException {
+    public synchronized void initIndex() throws IOException {
+        long nextId = manifest.getNextId();
+        indexed = false;
+        ensureIndexed();
+        manifest.setNextId(nextId); // keep IDs handed out before the reload
+        for (Map.Entry<YearMonth, MonthManifest.Entry> e : new ArrayList<>(manifest.getEntries().entrySet())) {
+            if (!e.getValue().file().equals(preferredPath(e.getKey()).getFileName().toString())) {
+                compact(e.getKey()); // convert to the preferred segment format
+            }
+        }
+        compactJournals(); // fold journals left behind by a session that did not exit cleanly
+    }
+
+    /**
+     * Makes sure the data directories exist and the manifest is in memory. Runs once per session.
+     */
+    private void ensureIndexed() throws IOException {
+        if (indexed) {
+            return;
+        }
         ensureDataDir();
-        onDiskMonths.clear();
+        deleteStaleTempFiles(dataDir);
+        deleteStaleTempFiles(workoutDir);
+        if (!manifest.load(workoutDir)) {
+            rebuildManifest();
+        } else {
+            refreshChangedEntries();
+        }
+        indexed = true;
+    }
+
+    /**
+     * Re-reads the month files edited since the manifest was written, so their counts and checksums are
+     * current. Falls back to a full rebuild if one of them is gone.
+     */
+    private void refreshChangedEntries() throws IOException {
+        List<YearMonth> changed = manifest.changedEntries(workoutDir);
+        if (changed.isEmpty()) {
+            return;
+        }
+        for (YearMonth month : changed) {
+            Path path = existingSnapshotPath(month);
+            if (Files.notExists(path)) {
+                rebuildManifest();
+                return;
+            }
+            indexMonthFile(month, path);
+        }
+        commitBatch();
+    }
+
+    /**
+     * Scans the workouts directory and re-reads every month file to rebuild the manifest.
+     */
+    private void rebuildManifest() throws IOException {
+        manifest.clear();
+        Set<YearMonth> months = new HashSet<>();
         try (var stream = Files.list(workoutDir)) {
             stream.map(p -> p.getFileName().toString())
                     .filter(n -> n.startsWith("workouts_"))
                     .forEach(name -> {
-                        if (name.endsWith(".txt")) {
+                        if (name.endsWith(".txt") || name.endsWith(".bin")) {
                             String ym = name.substring("workouts_".length(), "workouts_".length() + 7);
                             try {
-                                onDiskMonths.add(YearMonth.parse(ym));
+                                months.add(YearMonth.parse(ym));
                             } catch (Exception ignore) {
                                 System.out.println("Skipping workout " + name
                                         + " because file does not conform to standards ");
@@ -71,22 +199,113 @@ public class FileHandler {
                         }
                     });
         }
+        for (YearMonth month : months) {
+            indexMonthFile(month, existingSnapshotPath(month));
+        }
+        commitBatch();
+    }
+
+    /**
+     * Reads one month file and records its summary and checksum in the manifest.
+     */
+    private void indexMonthFile(YearMonth month, Path path) throws IOException {
+        byte[] bytes = Files.readAllBytes(path);
+        List<Workout> list;
+        if (path.equals(binaryPath(month))) {
+            list = BinaryMonthCodec.decode(new ByteArrayInputStream(bytes)).workouts();
+        } else {
+            ArrayList<Workout> parsed = new ArrayList<>();
+            reportSkippedWorkouts(parseMonthText(path, parsed));
+            list = parsed;
+        }
+        manifest.put(month, path, bytes, MonthManifest.Summary.of(list));
+        for (Workout w : list) {
+            manifest.setNextId(w.getId() + 1);
+        }
+        if (journal.exists(month)) {
+            manifest.markJournalled(month);
+        }
+    }
+
+    /**
+     * Persists the manifest if it changed, then syncs the directories written in this batch.
+     * Runs after every batch of month writes.
+     */
+    private void commitBatch() throws IOException {
+        if (manifest.isDirty()) {
+            files.writeString(manifest.getPath(), manifest.render(workoutDir));
+        }
+        files.commit();
+    }
+
+    /**
+     * Chooses the format used when month files are written.
+     * Existing files in the other format are still read, and are converted the next time they are written.
+     *
+     * @param binarySegments {@code true} to write {@code .bin} segments, {@code false} to write {@code .txt} files
+     */
+    public void setBinarySegments(boolean binarySegments) {
+        this.binarySegments = binarySegments;
     }
 
     /**
      * Returns the mapping of all workouts grouped by month.
      *
-     * @return A map where each key is a {@code YearMonth} and the value is a list of workouts for that month.
+     * @return A read-only map where each key is a {@code YearMonth} and the value is a list of workouts for that
+     *         month.
      */
     public Map<YearMonth, ArrayList<Workout>> getArrayByMonth() {
+        return arrayByMonth.asMap();
+    }
+
+    /**
+     * Keeps the given month cached for as long as it is the month being edited, so the list returned by
+     * {@link #loadMonthList(YearMonth)} stays the one later reads return and mutations are recorded against.
+     * Pinning another month releases the previous one.
+     *
+     * @param month the month whose list the caller holds on to
+     */
+    public synchronized void pinMonth(YearMonth month) {
+        arrayByMonth.pin(month);
+    }
+
+    /**
+     * Returns the cache of parsed months, e.g. to inspect its hit, miss and eviction counters.
+     *
+     * @return the month cache backing {@link #getArrayByMonth()}
+     */
+    public MonthCache getMonthCache() {
         return arrayByMonth;
     }
 
     private void ensureDataDir() throws IOException {
-        Files.createDirectories(DATA_DIRECTORY);
+        Files.createDirectories(dataDir);
         Files.createDirectories(workoutDir);
     }
 
+    /**
+     * Replaces a small data file (weights, goal, profile) atomically and makes it durable right away.
+     */
+    private void writeAtomically(Path target, String text) throws IOException {
+        synchronized (files) {
+            files.writeString(target, text);
+            files.commit();
+        }
+    }
+
+    /**
+     * Removes temporary files left behind by a write that was interrupted before its rename.
+     */
+    private void deleteStaleTempFiles(Path dir) throws IOException {
+        try (var stream = Files.list(dir)) {
+            for (Path p : (Iterable<Path>) stream::iterator) {
+                if (p.getFileName().toString().endsWith(AtomicFileWriter.TEMP_SUFFIX)) {
+                    Files.deleteIfExists(p);
+                }
+            }
+        }
+    }
+
     // ----------------- Workout -----------------
     /**
      * Saves the given month's workout list into a serialized file inside /data/workouts/
@@ -95,64 +314,797 @@ public class FileHandler {
      * @param list  the list of workouts to save
      * @throws IOException if saving fails
      */
-    public void saveMonthList(YearMonth month, ArrayList<Workout> list) throws IOException {
-        ensureDataDir();
+    public synchronized void saveMonthList(YearMonth month, ArrayList<Workout> list) throws IOException {
+        sortedViews.invalidate(month);
+        writeSnapshot(month, list);
+        notifyReplaced(month, list);
+        ui.showMessage("Saved " + list.size() + " workouts for " + month);
+    }
 
-        String filename = String.format("workouts_%s.txt", month); // e.g., workouts_2025-10.txt
-        Path filePath = workoutDir.resolve(filename);
+    /**
+     * Captures the full month in the preferred format and hands it to the background writer.
+     * Once written, the month's journal is cleared, since the new snapshot already contains every journalled
+     * mutation, and a file of the same month in the other format is removed, which completes the conversion.
+     * From here on the list is treated as the month's on-disk state.
+     */
+    private void writeSnapshot(YearMonth month, ArrayList<Workout> list) throws IOException {
+        indexIds(month, list);
+        long foldedSeq = journal.lastSeq(month, snapshotSeq(month));
+        boolean binary = binarySegments;
+        byte[] bytes = encodeSnapshot(list, foldedSeq, binary);
+        Path target = binary ? binaryPath(month) : textPath(month);
+        Path stale = binary ? textPath(month) : binaryPath(month);
+        MonthManifest.Summary summary = MonthManifest.Summary.of(list);
 
-        try (BufferedWriter bw = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
-            for (Workout w : list) {
-                writeWorkoutBlock(bw, w);
+        onDiskSizes.put(month, list.size());
+        snapshotSeqs.put(month, foldedSeq);
+        arrayByMonth.put(month, list);
+        writer.markDirty(month, () -> {
+            ensureDataDir();
+            files.write(target, bytes);
+            files.delete(stale);
+            journal.clear(month);
+            manifest.put(month, target, bytes, summary);
+        });
+    }
+
+    private byte[] encodeSnapshot(List<Workout> list, long foldedSeq, boolean binary) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (binary) {
+            BinaryMonthCodec.encode(out, list, foldedSeq);
+        } else {
+            try (BufferedWriter bw = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+                bw.write(MutationJournal.SNAPSHOT_SEQ_PREFIX + " " + foldedSeq);
                 bw.newLine();
+                writeWorkoutBlocks(bw, list);
             }
         }
+        return out.toByteArray();
+    }
 
-        ui.showMessage("Saved " + list.size() + " workouts for " + month);
+    /**
+     * Blocks until every queued month write is on disk.
+     *
+     * @throws IOException if a queued write fails
+     */
+    public synchronized void flush() throws IOException {
+        writer.flushAll();
+    }
+
+    /**
+     * Returns the background writer, e.g. to compare requested and performed writes.
+     *
+     * @return the writer that persists month snapshots
+     */
+    public AsyncMonthWriter getMonthWriter() {
+        return writer;
+    }
+
+    /**
+     * Sets how long a month write may wait to be merged with later changes to the same month.
+     * A zero window writes every snapshot before the saving call returns. Queued writes are flushed first and
+     * the previous writer is closed.
+     *
+     * @param window the coalescing window
+     * @throws IOException if flushing queued writes fails
+     */
+    public synchronized void setWriteWindow(Duration window) throws IOException {
+        writer.close();
+        writer = new AsyncMonthWriter(this, window, this::commitBatch);
+    }
+
+    /**
+     * Writes the given month, including journalled changes, as a human-readable text file.
+     *
+     * @param month the month to export
+     * @return the path of the exported file, e.g. {@code data/export/workouts_2025-10.txt}
+     * @throws IOException     if reading the month or writing the export fails
+     * @throws FileNonexistent if no file exists for that month
+     */
+    public synchronized Path exportMonthAsText(YearMonth month) throws IOException, FileNonexistent {
+        ArrayList<Workout> list = loadMonthList(month);
+        Path exportDir = dataDir.resolve("export");
+        Files.createDirectories(exportDir);
+        Path target = exportDir.resolve(String.format("workouts_%s.txt", month));
+        StringWriter text = new StringWriter();
+        try (BufferedWriter bw = new BufferedWriter(text)) {
+            writeWorkoutBlocks(bw, list);
+        }
+        writeAtomically(target, text.toString());
+        return target;
+    }
+
+    private Path textPath(YearMonth month) {
+        return workoutDir.resolve(String.format("workouts_%s.txt", month)); // e.g., workouts_2025-10.txt
+    }
+
+    private Path binaryPath(YearMonth month) {
+        return workoutDir.resolve(String.format("workouts_%s.bin", month)); // e.g., workouts_2025-10.bin
+    }
+
+    private Path preferredPath(YearMonth month) {
+        return binarySegments ? binaryPath(month) : textPath(month);
+    }
+
+    /**
+     * Returns the month file to read, as recorded in the manifest. Without a manifest entry, the file system
+     * is checked; if a conversion was interrupted and both formats exist, the more recently written one wins.
+     *
+     * @return the month file, or {@code null} if the month has no file
+     */
+    private Path existingSnapshotPath(YearMonth month) throws IOException {
+        MonthManifest.Entry entry = manifest.get(month);
+        if (entry != null) {
+            return workoutDir.resolve(entry.file());
+        }
+        Path txt = textPath(month);
+        Path bin = binaryPath(month);
+        boolean hasTxt = Files.exists(txt);
+        boolean hasBin = Files.exists(bin);
+        if (hasTxt && hasBin) {
+            return Files.getLastModifiedTime(bin).compareTo(Files.getLastModifiedTime(txt)) >= 0 ? bin : txt;
+        }
+        return hasBin ? bin : (hasTxt ? txt : null);
+    }
+
+    /**
+     * Reads the month file (in whichever format it is stored) and replays the month's journal on top.
+     */
+    private ArrayList<Workout> readMonth(YearMonth month) throws IOException {
+        writer.flush(month);
+        Path path = existingSnapshotPath(month);
+        BinaryMonthCodec.Segment segment = path == null
+                ? new BinaryMonthCodec.Segment(new ArrayList<>(), 0)
+                : decodeSnapshot(path);
+        return applyJournal(month, segment);
+    }
+
+    /**
+     * Reads a month file in either format. Touches no shared state and prints nothing, so range loads can run it
+     * in parallel; workouts skipped while parsing are counted in the segment and reported by {@link #applyJournal}.
+     */
+    private BinaryMonthCodec.Segment decodeSnapshot(Path path) throws IOException {
+        long size = Files.size(path);
+        if (path.getFileName().toString().endsWith(".bin")) {
+            if (size >= MMAP_THRESHOLD_BYTES) {
+                return BinaryMonthCodec.decode(map(path, size));
+            }
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+                return BinaryMonthCodec.decode(in);
+            }
+        }
+        ArrayList<Workout> list = new ArrayList<>();
+        int skipped = parseMonthText(path, list);
+        return new BinaryMonthCodec.Segment(list, readSnapshotSeq(path), skipped);
+    }
+
+    /**
+     * Replays the month's journal on top of a decoded snapshot and records what is now on disk.
+     */
+    private ArrayList<Workout> applyJournal(YearMonth month, BinaryMonthCodec.Segment segment) throws IOException {
+        reportSkippedWorkouts(segment.skipped());
+        ArrayList<Workout> list = segment.workouts();
+        snapshotSeqs.put(month, segment.journalSeq());
+        MutationJournal.Replay replay = journal.replay(month, segment.journalSeq(), list);
+        if (replay.discarded() > 0) {
+            ui.showMessage("The change log for " + month + " was damaged; " + replay.discarded()
+                    + " change(s) recorded after the damage could not be restored.");
+        }
+        onDiskSizes.put(month, list.size());
+        if (indexIds(month, list)) {
+            // Persist IDs given to workouts saved before IDs existed, so they stay the same next session
+            writeSnapshot(month, list);
+            notifyReplaced(month, list);
+        }
+        return list;
+    }
+
+    private void writeWorkoutBlocks(BufferedWriter bw, List<Workout> list) throws IOException {
+        for (Workout w : list) {
+            writeWorkoutBlock(bw, w);
+            bw.newLine();
+        }
+    }
+
+    // ----------------- Journal -----------------
+
+    /**
+     * Journals the creation of a workout that has just been appended to the month list.
+     *
+     * @param month   the month the workout belongs to
+     * @param list    the in-memory month list containing the workout
+     * @param workout the new workout
+     * @throws IOException if writing the journal fails
+     */
+    public synchronized void recordWorkoutCreated(YearMonth month, ArrayList<Workout> list, Workout workout)
+            throws IOException {
+        sortedViews.inserted(month, list, workout);
+        if (!inSyncWithDisk(month, list, workout, list.size() - 1)) {
+            writeSnapshot(month, list);
+            notifyChanged(month, workout);
+            return;
+        }
+        if (workout.getId() <= 0) {
+            workout.setId(allocateId());
+        }
+        workoutIds.put(workout.getId(), month, indexOf(list, workout));
+        journal.appendCreate(month, snapshotSeq(month), workout);
+        onDiskSizes.put(month, list.size());
+        notifyChanged(month, workout);
+        compactIfNeeded(month, list);
+    }
+
+    /**
+     * Journals a new exercise (with its first set) added to a workout.
+     *
+     * @param month    the month the workout belongs to
+     * @param list     the in-memory month list containing the workout
+     * @param workout  the workout the exercise was added to
+     * @param exercise the new exercise
+     * @throws IOException if writing the journal fails
+     */
+    public synchronized void recordExerciseAdded(YearMonth month, ArrayList<Workout> list, Workout workout,
+                                    Exercise exercise) throws IOException {
+        notifyChanged(month, workout);
+        if (!inSyncWithDisk(month, list, workout, list.size())) {
+            writeSnapshot(month, list);
+            return;
+        }
+        journal.appendExercise(month, snapshotSeq(month), indexOf(list, workout), exercise);
+        compactIfNeeded(month, list);
+    }
+
+    /**
+     * Journals a new set added to the workout's current exercise.
+     *
+     * @param month   the month the workout belongs to
+     * @param list    the in-memory month list containing the workout
+     * @param workout the workout whose current exercise received the set
+     * @param reps    the reps of the new set
+     * @throws IOException if writing the journal fails
+     */
+    public synchronized void recordSetAdded(YearMonth month, ArrayList<Workout> list, Workout workout, int reps)
+            throws IOException {
+        if (!inSyncWithDisk(month, list, workout, list.size())) {
+            writeSnapshot(month, list);
+            return;
+        }
+        journal.appendSet(month, snapshotSeq(month), indexOf(list, workout), reps);
+        compactIfNeeded(month, list);
+    }
+
+    /**
+     * Journals the end time of a workout.
+     *
+     * @param month   the month the workout belongs to
+     * @param list    the in-memory month list containing the workout
+     * @param workout the workout that was ended
+     * @throws IOException if writing the journal fails
+     */
+    public synchronized void recordWorkoutEnded(YearMonth month, ArrayList<Workout> list, Workout workout)
+            throws IOException {
+        sortedViews.reordered(month, list, workout);
+        if (!inSyncWithDisk(month, list, workout, list.size())) {
+            writeSnapshot(month, list);
+            return;
+        }
+        journal.appendEnd(month, snapshotSeq(month), indexOf(list, workout), workout.getWorkoutEndDateTime());
+        compactIfNeeded(month, list);
+    }
+
+    /**
+     * Journals the current auto and manual tags of a workout.
+     *
+     * @param month   the month the workout belongs to
+     * @param list    the in-memory month list containing the workout
+     * @param workout the retagged workout
+     * @throws IOException if writing the journal fails
+     */
+    public synchronized void recordWorkoutRetagged(YearMonth month, ArrayList<Workout> list, Workout workout)
+            throws IOException {
+        notifyChanged(month, workout);
+        if (!inSyncWithDisk(month, list, workout, list.size())) {
+            writeSnapshot(month, list);
+            return;
+        }
+        journal.appendRetag(month, snapshotSeq(month), indexOf(list, workout), workout);
+        compactIfNeeded(month, list);
+    }
+
+    /**
+     * Removes the workout at the given position from the month list and journals the deletion.
+     *
+     * @param month the month the workout belongs to
+     * @param list  the in-memory month list containing the workout
+     * @param index the position of the deleted workout in the month list
+     * @throws IOException if writing the journal fails
+     */
+    public synchronized void recordWorkoutDeleted(YearMonth month, ArrayList<Workout> list, int index)
+            throws IOException {
+        boolean inSync = inSyncWithDisk(month, list, list.get(index), list.size());
+        workoutIds.remove(list.get(index).getId());
+        Workout removed = list.remove(index);
+        sortedViews.removed(month, list, removed);
+        for (WorkoutChangeListener listener : listeners) {
+            listener.workoutRemoved(month, removed);
+        }
+        if (!inSync) {
+            writeSnapshot(month, list);
+            return;
+        }
+        journal.appendDelete(month, snapshotSeq(month), index);
+        onDiskSizes.put(month, list.size());
+        compactIfNeeded(month, list);
+    }
+
+    /**
+     * Folds every outstanding journal into its month file and waits for all queued writes.
+     * Called on exit so the next launch starts from clean snapshots.
+     *
+     * @throws IOException if a month cannot be rewritten
+     */
+    public synchronized void compactJournals() throws IOException {
+        ensureIndexed();
+        writer.flushAll();
+        for (Map.Entry<YearMonth, MonthManifest.Entry> e : new ArrayList<>(manifest.getEntries().entrySet())) {
+            if (e.getValue().hasJournal()) {
+                compact(e.getKey());
+            }
+        }
+        writer.flushAll();
+        if (manifest.isDirty()) {
+            commitBatch(); // e.g. only the workout ID counter moved
+        }
+    }
+
+    /**
+     * Checks whether the month on disk is known to match the in-memory list, so a journal record is enough.
+     * Callers fall back to a full save when the month was never loaded in this session, the workout is not
+     * part of the list, the month has no snapshot yet, or a snapshot of the month is still waiting to be written.
+     *
+     * @param expectedOnDisk how many workouts the month should already have on disk for the list to match
+     * @return {@code true} if the mutation can be journalled
+     */
+    private boolean inSyncWithDisk(YearMonth month, ArrayList<Workout> list, Workout workout, int expectedOnDisk)
+            throws IOException {
+        if (writer.isPending(month)) {
+            return false; // a snapshot is already queued, so re-queue it with this change folded in
+        }
+        Integer onDisk = onDiskSizes.get(month);
+        return onDisk != null && onDisk == expectedOnDisk && indexOf(list, workout) >= 0 && checkFileExists(month);
+    }
+
+    private static int indexOf(List<Workout> list, Workout workout) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == workout) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private long snapshotSeq(YearMonth month) throws IOException {
+        Long seq = snapshotSeqs.get(month);
+        if (seq == null) {
+            Path path = existingSnapshotPath(month);
+            if (path == null) {
+                seq = 0L;
+            } else if (path.equals(binaryPath(month))) {
+                try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+                    seq = BinaryMonthCodec.readHeader(in);
+                }
+            } else {
+                seq = readSnapshotSeq(path);
+            }
+            snapshotSeqs.put(month, seq);
+        }
+        return seq;
+    }
+
+    /**
+     * Caches the list that now matches the month on disk, and folds the journal once it is long enough.
+     */
+    private void compactIfNeeded(YearMonth month, ArrayList<Workout> list) throws IOException {
+        arrayByMonth.put(month, list);
+        manifest.markJournalled(month);
+        if (journal.size(month) >= MutationJournal.COMPACTION_THRESHOLD) {
+            writeSnapshot(month, list);
+        }
+    }
+
+    private void compact(YearMonth month) throws IOException {
+        ArrayList<Workout> cached = arrayByMonth.get(month);
+        writeSnapshot(month, cached != null ? cached : readMonth(month));
+    }
+
+    /**
+     * Reads the journal sequence number recorded in the first line of a text month file.
+     *
+     * @return the sequence number, or 0 if the file is missing or predates the journal
+     */
+    private long readSnapshotSeq(Path txt) throws IOException {
+        if (Files.notExists(txt)) {
+            return 0;
+        }
+        try (BufferedReader br = Files.newBufferedReader(txt, StandardCharsets.UTF_8)) {
+            String first = br.readLine();
+            if (first != null && first.startsWith(MutationJournal.SNAPSHOT_SEQ_PREFIX)) {
+                try {
+                    return Long.parseLong(first.substring(MutationJournal.SNAPSHOT_SEQ_PREFIX.length()).trim());
+                } catch (NumberFormatException ignore) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
     }
 
     /**
      * Checks whether the workout data file for the specified month exists.
+     * Answered from the in-memory manifest, so no file system access is needed once it is loaded.
      *
      * @param month The {@code YearMonth} representing the target month.
      * @return {@code true} if the file exists, {@code false} otherwise.
      * @throws IOException If an I/O error occurs while accessing the directory.
      */
-    public boolean checkFileExists(YearMonth month) throws IOException {
-        ensureDataDir();
-        Path txt = workoutDir.resolve(String.format("workouts_%s.txt", month));
-        return Files.exists(txt);
+    public synchronized boolean checkFileExists(YearMonth month) throws IOException {
+        ensureIndexed();
+        return writer.isPending(month) || manifest.contains(month);
     }
 
     /**
-     * Loads the given month's workouts from the human-readable text file.
-     * If .txt is absent but legacy .dat exists, migrate once: load .dat, save as .txt, return data.
+     * Loads the given month's workouts from its binary segment or human-readable text file.
+     * Months read earlier in the session are served from the cache without touching disk.
+     * <p>
+     * The returned list is shared with the cache, so changes to it must be persisted through this class.
      */
-    public ArrayList<Workout> loadMonthList(YearMonth month) throws IOException, FileNonexistent {
-        Path txt = workoutDir.resolve(String.format("workouts_%s.txt", month));
+    public synchronized ArrayList<Workout> loadMonthList(YearMonth month) throws IOException, FileNonexistent {
+        ArrayList<Workout> cached = arrayByMonth.lookup(month);
+        if (cached != null) {
+            return cached;
+        }
         if (checkFileExists(month)) {
-            return readMonthFromTxt(txt);
+            ArrayList<Workout> list = readMonth(month);
+            arrayByMonth.put(month, list);
+            return list;
         }
 
         throw new FileNonexistent("No save file found for " + month);
     }
 
     /**
-     * Gets the workouts for a specific month from disk.
-     * This bypasses the cache and always reads fresh data from the file.
+     * Loads the given month in display order: newest start first, then latest end, unknown times last.
+     * <p>
+     * The order is kept up to date as workouts are created, ended and deleted through this class, so repeated
+     * calls, such as paging through a listing, only sort a month the first time.
+     *
+     * @param month the month to load
+     * @return a read-only list of the month's workouts in display order
+     * @throws IOException     if reading fails
+     * @throws FileNonexistent if no file exists for that month
+     */
+    public synchronized List<Workout> loadSortedMonth(YearMonth month) throws IOException, FileNonexistent {
+        return sortedViews.get(month, loadMonthList(month));
+    }
+
+    /**
+     * Returns the newest month before the given one that holds workouts, without reading any month file.
+     * Used to walk the history newest-first one month at a time.
+     *
+     * @param before the exclusive upper bound, or {@code null} to find the newest month overall
+     * @return the month, or {@code null} if no earlier month has workouts
+     * @throws IOException if the storage index has to be rebuilt and a month cannot be read
+     */
+    public synchronized YearMonth latestMonthBefore(YearMonth before) throws IOException {
+        ensureIndexed();
+        writer.flushAll(); // months saved moments ago reach the manifest once written
+        YearMonth latest = manifest.latestMonthBefore(before);
+        for (Map.Entry<YearMonth, ArrayList<Workout>> e : arrayByMonth.asMap().entrySet()) {
+            YearMonth month = e.getKey();
+            boolean inRange = before == null || month.isBefore(before);
+            if (inRange && !e.getValue().isEmpty() && (latest == null || month.isAfter(latest))) {
+                latest = month;
+            }
+        }
+        return latest;
+    }
+
+    /**
+     * Returns how many workouts a month holds if that is known without reading it.
+     *
+     * @param month the month
+     * @return the workout count, or -1 if the month would have to be read to tell
+     */
+    public synchronized int knownWorkoutCount(YearMonth month) {
+        ArrayList<Workout> cached = arrayByMonth.get(month);
+        if (cached != null) {
+            return cached.size();
+        }
+        MonthManifest.Entry entry = manifest.get(month);
+        return entry == null || entry.hasJournal() ? -1 : entry.workoutCount();
+    }
+
+    /**
+     * Starts reading a month in the background so a later {@link #loadMonthList(YearMonth)} finds it cached.
+     * Failures are ignored here; the later foreground read reports them.
+     *
+     * @param month the month that is likely to be needed next
+     */
+    public void prefetchMonth(YearMonth month) {
+        prefetcher().execute(() -> {
+            try {
+                loadMonthList(month);
+            } catch (IOException | FileNonexistent e) {
+                // best effort only
+            }
+        });
+    }
+
+    /**
+     * Registers a listener that is told about every workout change persisted through this handler.
+     *
+     * @param listener the listener
+     */
+    public synchronized void addChangeListener(WorkoutChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns a fingerprint of each month's file contents, for caches kept outside this class that must
+     * notice when a month changed, including between sessions.
+     * Pending writes are flushed first. A month with uncompacted journal records maps to {@code null},
+     * since its file alone does not describe it.
+     *
+     * @return the signature of every stored month
+     * @throws IOException if the storage index has to be rebuilt or a pending write fails
+     */
+    public synchronized Map<YearMonth, String> monthSignatures() throws IOException {
+        ensureIndexed();
+        writer.flushAll();
+        Map<YearMonth, String> signatures = new TreeMap<>();
+        for (Map.Entry<YearMonth, MonthManifest.Entry> e : manifest.getEntries().entrySet()) {
+            MonthManifest.Entry entry = e.getValue();
+            signatures.put(e.getKey(), entry.hasJournal() ? null
+                    : Long.toHexString(entry.checksum()) + ":" + entry.size());
+        }
+        return signatures;
+    }
+
+    private void notifyChanged(YearMonth month, Workout workout) {
+        for (WorkoutChangeListener listener : listeners) {
+            listener.workoutChanged(month, workout);
+        }
+    }
+
+    private void notifyReplaced(YearMonth month, List<Workout> list) {
+        for (WorkoutChangeListener listener : listeners) {
+            listener.monthReplaced(month, list);
+        }
+    }
+
+    /**
+     * Returns a number that changes whenever a month's display order may have changed, i.e. when a workout is
+     * created, ended or deleted or a month is saved.
+     *
+     * @return the current listing version
+     */
+    public synchronized long getListingVersion() {
+        return sortedViews.version();
+    }
+
+    /**
+     * Gets the workouts for a specific month.
+     * The cache always mirrors the month on disk, so a cached month is returned without re-reading the file.
      *
      * @param month the YearMonth to load workouts for
-     * @return a fresh ArrayList of workouts for that month
+     * @return the ArrayList of workouts for that month
      * @throws IOException     if reading fails
      * @throws FileNonexistent if no file exists for that month
      */
-    public ArrayList<Workout> getWorkoutsForMonth(YearMonth month) throws IOException, FileNonexistent {
-        // Always read directly from file, don't use cache
-        Path txt = workoutDir.resolve(String.format("workouts_%s.txt", month));
-        if (!checkFileExists(month)) {
-            throw new FileNonexistent("No save file found for " + month);
+    public synchronized ArrayList<Workout> getWorkoutsForMonth(YearMonth month) throws IOException, FileNonexistent {
+        return loadMonthList(month);
+    }
+
+    /**
+     * Loads every workout between two months, inclusive, as one list ordered by start time.
+     * <p>
+     * Cached months are used as they are and months the manifest records as empty are skipped without
+     * opening their files. The remaining month files are decoded in parallel on a small bounded pool;
+     * journals are then replayed and the results cached one month at a time.
+     *
+     * @param from the first month to load
+     * @param to   the last month to load
+     * @return a new list of the workouts in the range, earliest first
+     * @throws IOException if a month file cannot be read
+     */
+    public synchronized ArrayList<Workout> loadRange(YearMonth from, YearMonth to) throws IOException {
+        ensureIndexed();
+        Map<YearMonth, ArrayList<Workout>> loaded = new TreeMap<>();
+        Map<YearMonth, Future<BinaryMonthCodec.Segment>> decoding = new TreeMap<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            ArrayList<Workout> cached = arrayByMonth.lookup(month);
+            if (cached != null) {
+                loaded.put(month, cached);
+                continue;
+            }
+            writer.flush(month);
+            MonthManifest.Entry entry = manifest.get(month);
+            if (entry == null || (entry.workoutCount() == 0 && !entry.hasJournal())) {
+                continue;
+            }
+            Path path = existingSnapshotPath(month);
+            if (path != null) {
+                decoding.put(month, rangeLoader().submit(() -> decodeSnapshot(path)));
+            }
         }
-        return readMonthFromTxt(txt);  // Always fresh from disk
+
+        for (Map.Entry<YearMonth, Future<BinaryMonthCodec.Segment>> e : decoding.entrySet()) {
+            YearMonth month = e.getKey();
+            ArrayList<Workout> list = applyJournal(month, await(e.getValue()));
+            arrayByMonth.put(month, list);
+            loaded.put(month, list);
+        }
+
+        ArrayList<Workout> result = new ArrayList<>();
+        for (ArrayList<Workout> list : loaded.values()) {
+            int start = result.size();
+            result.addAll(list);
+            result.subList(start, result.size()).sort(BY_START);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the workout with the given stable ID, reading its month if it is not cached.
+     *
+     * @param id the workout ID
+     * @return the workout, or {@code null} if no month holds it
+     * @throws IOException if the month has to be read and reading fails
+     */
+    public synchronized Workout findWorkout(long id) throws IOException {
+        YearMonth month = locate(id);
+        if (month == null) {
+            return null;
+        }
+        ArrayList<Workout> list = monthList(month);
+        int position = workoutIds.positionIn(id, list);
+        return position < 0 ? null : list.get(position);
+    }
+
+    /**
+     * Returns the month holding the workout with the given stable ID.
+     *
+     * @param id the workout ID
+     * @return the month, or {@code null} if no month holds it
+     * @throws IOException if the month has to be read and reading fails
+     */
+    public synchronized YearMonth findMonthOf(long id) throws IOException {
+        return locate(id);
+    }
+
+    /**
+     * Deletes the workout with the given stable ID from its month, journalling the deletion rather than
+     * rewriting the month.
+     *
+     * @param id the workout ID
+     * @return {@code true} if the workout was found and deleted
+     * @throws IOException if reading the month or writing the journal fails
+     */
+    public synchronized boolean deleteWorkout(long id) throws IOException {
+        YearMonth month = locate(id);
+        if (month == null) {
+            return false;
+        }
+        ArrayList<Workout> list = monthList(month);
+        int position = workoutIds.positionIn(id, list);
+        if (position < 0) {
+            return false;
+        }
+        recordWorkoutDeleted(month, list, position);
+        return true;
+    }
+
+    /**
+     * Returns the month holding the workout. IDs of months read or written this session are indexed in memory;
+     * any other ID is looked up among the IDs the manifest recorded per month file, and that month is read,
+     * which indexes its IDs.
+     *
+     * @return the month, or {@code null} if no month holds the workout
+     */
+    private YearMonth locate(long id) throws IOException {
+        YearMonth month = workoutIds.monthOf(id);
+        if (month != null) {
+            return month;
+        }
+        ensureIndexed();
+        YearMonth recorded = manifest.monthOfId(id);
+        if (recorded == null || arrayByMonth.containsKey(recorded)) {
+            return null; // a cached month is already indexed, so the workout has left it this session
+        }
+        monthList(recorded);
+        return workoutIds.monthOf(id);
+    }
+
+    private ArrayList<Workout> monthList(YearMonth month) throws IOException {
+        ArrayList<Workout> list = arrayByMonth.lookup(month);
+        if (list == null) {
+            list = readMonth(month);
+            arrayByMonth.put(month, list);
+        }
+        return list;
+    }
+
+    /**
+     * Gives every workout of the month a unique ID and records where each one is.
+     * Workouts saved before IDs existed, or whose ID is already taken by another month (possible if the
+     * manifest's ID counter was not saved before a crash), get a fresh ID.
+     *
+     * @return whether any workout got a new ID
+     */
+    private boolean indexIds(YearMonth month, List<Workout> list) throws IOException {
+        ensureIndexed(); // the ID counter lives in the manifest
+        for (Workout w : list) {
+            manifest.setNextId(w.getId() + 1);
+        }
+        Set<Long> seen = new HashSet<>();
+        boolean reassigned = false;
+        for (Workout w : list) {
+            YearMonth owner = workoutIds.monthOf(w.getId());
+            boolean taken = owner != null && !owner.equals(month);
+            if (w.getId() <= 0 || taken || !seen.add(w.getId())) {
+                w.setId(allocateId());
+                seen.add(w.getId());
+                reassigned = true;
+            }
+        }
+        workoutIds.indexMonth(month, list);
+        return reassigned;
+    }
+
+    private long allocateId() throws IOException {
+        ensureIndexed();
+        long id = manifest.getNextId();
+        manifest.setNextId(id + 1);
+        return id;
+    }
+
+    private static BinaryMonthCodec.Segment await(Future<BinaryMonthCodec.Segment> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading workouts", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("Failed to load workouts", e.getCause());
+        }
+    }
+
+    private synchronized ExecutorService prefetcher() {
+        if (prefetcher == null) {
+            // Separate from the range loader: its tasks take this handler's lock, which loadRange holds while
+            // waiting for range loader tasks
+            prefetcher = Executors.newSingleThreadExecutor(task -> {
+                Thread t = new Thread(task, "fitchasers-prefetch");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return prefetcher;
+    }
+
+    private ExecutorService rangeLoader() {
+        if (rangeLoader == null) {
+            int threads = Math.min(MAX_RANGE_THREADS, Runtime.getRuntime().availableProcessors());
+            rangeLoader = Executors.newFixedThreadPool(Math.max(1, threads), task -> {
+                Thread t = new Thread(task, "fitchasers-range-loader");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return rangeLoader;
     }
 
     private void writeWorkoutBlock(BufferedWriter bw, Workout workout) throws IOException {
@@ -170,6 +1122,10 @@ public class FileHandler {
         }
         bw.write("WORKOUT");
         bw.newLine();
+        if (workout.getId() != 0) {
+            bw.write("Id: " + workout.getId());
+            bw.newLine();
+        }
         bw.write("Name: " + name);
         bw.newLine();
         bw.write("Start: " + start);
@@ -193,9 +1149,9 @@ public class FileHandler {
         bw.write("EXERCISES:");
         bw.newLine();
         for (Exercise exercise : exercises) {
-            for (int i = 0; i < exercise.getSets().size(); i++) {
-                String exerciseName = exercise.getName();
-                bw.write("  - " + exerciseName + " | " + exercise.getSets().get(i));
+            String exerciseName = exercise.getName();
+            for (int i = 0; i < exercise.getNumSets(); i++) {
+                bw.write("  - " + exerciseName + " | " + exercise.getReps(i));
                 bw.newLine();
             }
         }
@@ -203,165 +1159,34 @@ public class FileHandler {
         bw.newLine();
     }
 
-    private ArrayList<Workout> readMonthFromTxt(Path txt) throws IOException {
-        ArrayList<Workout> list = new ArrayList<>();
-        try (BufferedReader br = Files.newBufferedReader(txt, StandardCharsets.UTF_8)) {
-            String line;
-            List<String> block = new ArrayList<>();
-            while ((line = br.readLine()) != null) {
-                String trimmed = line.trim();
-                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
-                    continue; // ignore empties/comments
-                }
-                if ("WORKOUT".equals(trimmed)) {
-                    block.clear();
-                }
-                block.add(line);
-                if ("END_WORKOUT".equals(trimmed)) {
-                    Workout w;
-                    try {
-                        w = parseWorkoutBlock(block);
-                    } catch (CorruptedFileError e) {
-                        corruptedFileErrorHandling();
-                        w = null;
-                    }
-                    if (w != null) {
-                        list.add(w);
-                    }
-                    block.clear();
-                }
-            }
+    /**
+     * Maps a file read-only. The mapping stays valid after the channel is closed and is released by the GC.
+     */
+    private static MappedByteBuffer map(Path path, long size) throws IOException {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            return ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
         }
-        return list;
     }
 
-    private Workout parseWorkoutBlock(List<String> lines) throws CorruptedFileError {
-        String name = null;
-        LocalDateTime start = null;
-        LocalDateTime end = null;
-        Integer duration = null;
-        Set<String> autoTags = new HashSet<>();
-        Set<String> manualTags = new HashSet<>();
-
-        List<SetLine> setLines = new ArrayList<>();
-
-        boolean inSets = false;
-
-        for (String raw : lines) {
-            String line = raw.trim();
-            if (line.equals("WORKOUT") || line.equals("END_WORKOUT")) {
-                continue;
-            }
-
-            if (line.startsWith("Name:")) {
-                name = line.substring(5).trim();
-                continue;
-            }
-
-            if (line.startsWith("Start:")) {
-                String v = line.substring(6).trim();
-                try {
-                    if (!v.isEmpty()) {
-                        start = LocalDateTime.parse(v);
-                    }
-                } catch (Throwable e) {
-                    throw new CorruptedFileError();
-                }
-                continue;
-            }
-
-            if (line.startsWith("End:")) {
-                String v = line.substring(4).trim();
-                try {
-                    if (!v.isEmpty()) {
-                        end = LocalDateTime.parse(v);
-                    }
-                } catch (Throwable e) {
-                    if (v.equalsIgnoreCase("unended")) {
-                        end = null;
-                    } else {
-                        throw new CorruptedFileError();
-                    }
-                }
-                continue;
-            }
-
-            if (line.startsWith("DurationMin:")) {
-                String durationString = line.substring("DurationMin:".length()).trim();
-                try {
-                    duration = Integer.parseInt(durationString);
-                } catch (NumberFormatException ignore) {
-                    throw new CorruptedFileError();
-                }
-                continue;
-            }
-
-            if (line.startsWith("AutoTags:")) {
-                autoTags = parseTagList(line.substring("AutoTags:".length()).trim());
-                continue;
-            }
-
-            if (line.startsWith("ManualTags:")) {
-                manualTags = parseTagList(line.substring("ManualTags:".length()).trim());
-                continue;
-            }
-
-            if (line.startsWith("EXERCISES:")) {
-                inSets = true;
-                continue;
-            }
-
-            if (inSets && line.startsWith("-")) {
-                // "- Name | 12"
-                String body = line.substring(2).trim();
-                String[] parts = body.split("\\|", 2);
-                String setName = parts[0].trim();
-                Integer reps = null;
-                if (parts.length == 2) {
-                    String repStr = parts[1].trim();
-                    if (!repStr.isEmpty()) {
-                        try {
-                            reps = Integer.parseInt(repStr);
-                        } catch (NumberFormatException e) {
-                            throw new CorruptedFileError();
-                        }
-                    }
-                }
-                setLines.add(new SetLine(setName, reps));
-            }
+    /**
+     * Parses a month text file into {@code list} and returns the number of workouts skipped as corrupted.
+     */
+    private static int parseMonthText(Path txt, ArrayList<Workout> list) throws IOException {
+        long size = Files.size(txt);
+        if (size >= MMAP_THRESHOLD_BYTES) {
+            return new MonthTextParser().parse(map(txt, size), list);
         }
-
-        // Instantiate Workout with parsed values.
-        Workout w = new Workout(name, start, end); // e.g., ctor computes duration
-        w.setAutoTags(autoTags);
-        w.setManualTags(manualTags);
-        // Add sets
-        for (SetLine s : setLines) {
-            final String n = s.name == null ? "" : s.name;
-            final Integer r = s.reps == null ? 0 : s.reps;
-            w.addExercise(new Exercise(n, r));
+        try (Reader in = Files.newBufferedReader(txt, StandardCharsets.UTF_8)) {
+            return new MonthTextParser().parse(in, list);
         }
-        return w;
     }
 
-    private Set<String> parseTagList(String raw) {
-        Set<String> out = new LinkedHashSet<>();
-        if (raw == null || raw.isEmpty()) {
-            return out;
-        }
-        for (String part : raw.split(",")) {
-            String t = part.trim();
-            if (!t.isEmpty()) {
-                out.add(t);
-            }
+    private void reportSkippedWorkouts(int skipped) {
+        for (int i = 0; i < skipped; i++) {
+            corruptedFileErrorHandling();
         }
-        return out;
-    }
-
-    private record SetLine(String name, Integer reps) {
     }
 
-
     /**
      * Ask the user to input a valid End date-time and return it.
      */
@@ -377,7 +1202,7 @@ public class FileHandler {
      */
     public void loadWeightList(Person person) throws IOException, CorruptedDataException {
         ensureDataDir();
-        Path filePath = DATA_DIRECTORY.resolve("weight.txt");
+        Path filePath = dataDir.resolve("weight.txt");
         if (Files.notExists(filePath)) {
             return;
         }
@@ -443,10 +1268,8 @@ public class FileHandler {
      */
     public void saveGoal(double goalWeight, LocalDate setDate) throws IOException {
         ensureDataDir();
-        Path filePath = DATA_DIRECTORY.resolve("goal.txt");
-        try (BufferedWriter writer = Files.newBufferedWriter(filePath)) {
-            writer.write(goalWeight + "," + setDate);
-        }
+        Path filePath = dataDir.resolve("goal.txt");
+        writeAtomically(filePath, goalWeight + "," + setDate);
     }
 
     // ----------------- Weight -----------------
@@ -459,13 +1282,12 @@ public class FileHandler {
      */
     public void saveWeightList(Person person) throws IOException {
         ensureDataDir();
-        Path filePath = DATA_DIRECTORY.resolve("weight.txt");
-        try (BufferedWriter writer = Files.newBufferedWriter(filePath)) {
-            for (WeightRecord wr : person.getWeightHistory()) {
-                writer.write(wr.getDate() + "," + wr.getWeight());
-                writer.newLine();
-            }
+        Path filePath = dataDir.resolve("weight.txt");
+        StringBuilder sb = new StringBuilder();
+        for (WeightRecord wr : person.getWeightHistory()) {
+            sb.append(wr.getDate()).append(",").append(wr.getWeight()).append(System.lineSeparator());
         }
+        writeAtomically(filePath, sb.toString());
     }
 
     /**
@@ -476,7 +1298,7 @@ public class FileHandler {
      */
     public Double[] loadGoal() throws IOException {
         ensureDataDir();
-        Path filePath = DATA_DIRECTORY.resolve("goal.txt");
+        Path filePath = dataDir.resolve("goal.txt");
         if (Files.notExists(filePath)) {
             return null;
         }
@@ -502,8 +1324,8 @@ public class FileHandler {
      */
     public void saveUserName(Person person) throws IOException {
         ensureDataDir();
-        Path filePath = DATA_DIRECTORY.resolve("username.txt");
-        Files.writeString(filePath, person.getName());
+        Path filePath = dataDir.resolve("username.txt");
+        writeAtomically(filePath, person.getName());
     }
 
     /**
@@ -517,8 +1339,8 @@ public class FileHandler {
      */
     public void saveCreationMonth(YearMonth yearMonth) throws IOException {
         ensureDataDir();
-        Path filePath = DATA_DIRECTORY.resolve("creationDate.txt");
-        Files.writeString(filePath, yearMonth.toString());
+        Path filePath = dataDir.resolve("creationDate.txt");
+        writeAtomically(filePath, yearMonth.toString());
     }
 
     /**
@@ -533,7 +1355,7 @@ public class FileHandler {
      */
     public YearMonth getCreationMonth() throws IOException {
         ensureDataDir();
-        Path filePath = DATA_DIRECTORY.resolve("creationDate.txt");
+        Path filePath = dataDir.resolve("creationDate.txt");
         if (Files.notExists(filePath)) {
             ui.showError("Creation File Not Found!! Using Today's Date as Creation Date. \n" +
                     "This means you may not be able to add workout before today!");
@@ -560,7 +1382,7 @@ public class FileHandler {
      */
     public String loadUserName() throws IOException {
         ensureDataDir();
-        Path filePath = DATA_DIRECTORY.resolve("username.txt");
+        Path filePath = dataDir.resolve("username.txt");
         if (Files.notExists(filePath)) {
             return null;
         }
@@ -0,0 +1,143 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.workouts.Workout;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+//@@author Kart04
+/**
+ * Size-bounded cache of parsed month lists, evicting the least recently used month when full.
+ * <p>
+ * {@link FileHandler} keeps each cached list identical to what is on disk: a month is cached when it is
+ * read, and replaced by the written list whenever that month is saved or journalled. Callers that want to
+ * change a month without persisting it straight away should work on a copy.
+ * <p>
+ * A list handed out from the cache is only the month's single in-memory copy while it stays cached: once
+ * evicted, reading the month again yields a new list. The month being edited is therefore pinned, and is
+ * never evicted however many other months are read.
+ */
+public class MonthCache {
+    public static final int DEFAULT_CAPACITY = 12;
+
+    private final LinkedHashMap<YearMonth, ArrayList<Workout>> months = new LinkedHashMap<>(16, 0.75f, true);
+    private final int capacity;
+    private YearMonth pinned;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs a cache holding at most {@link #DEFAULT_CAPACITY} months.
+     */
+    public MonthCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a cache holding at most the given number of months.
+     *
+     * @param capacity The maximum number of months kept in memory.
+     */
+    public MonthCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Cache capacity must be at least 1");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Looks up a month and counts the lookup as a hit or a miss.
+     *
+     * @param month The month to look up.
+     * @return The cached list, or {@code null} if the month is not cached.
+     */
+    public ArrayList<Workout> lookup(YearMonth month) {
+        ArrayList<Workout> list = months.get(month);
+        if (list == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return list;
+    }
+
+    /**
+     * Returns a cached month without counting the lookup.
+     *
+     * @param month The month to look up.
+     * @return The cached list, or {@code null} if the month is not cached.
+     */
+    public ArrayList<Workout> get(YearMonth month) {
+        return months.get(month);
+    }
+
+    /**
+     * Caches a month's list, evicting the least recently used unpinned month if the cache is full.
+     *
+     * @param month The month.
+     * @param list  The month's workouts.
+     */
+    public void put(YearMonth month, ArrayList<Workout> list) {
+        months.put(month, list);
+        Iterator<YearMonth> eldest = months.keySet().iterator();
+        while (months.size() > capacity && eldest.hasNext()) {
+            YearMonth candidate = eldest.next();
+            if (!candidate.equals(pinned) && !candidate.equals(month)) {
+                eldest.remove();
+                evictions++;
+            }
+        }
+    }
+
+    /**
+     * Keeps the given month cached until another month is pinned, so the list callers hold for it stays the
+     * one every read returns. Only one month is pinned at a time; it need not be cached yet.
+     *
+     * @param month The month to pin, or {@code null} to unpin.
+     */
+    public void pin(YearMonth month) {
+        pinned = month;
+    }
+
+    public YearMonth getPinned() {
+        return pinned;
+    }
+
+    public boolean containsKey(YearMonth month) {
+        return months.containsKey(month);
+    }
+
+    public int size() {
+        return months.size();
+    }
+
+    /**
+     * Returns a read-only view of the cached months, least recently used first.
+     *
+     * @return The cached months and their lists.
+     */
+    public Map<YearMonth, ArrayList<Workout>> asMap() {
+        return Collections.unmodifiableMap(months);
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+}
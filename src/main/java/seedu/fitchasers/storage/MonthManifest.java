@@ -0,0 +1,349 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+//@@author Kart04
+/**
+ * In-memory index of the month files in {@code data/workouts}, persisted as {@code data/manifest.txt}.
+ * <p>
+ * Each entry records the month's file name, size, modification time, workout count, total duration,
+ * CRC-32 checksum, whether it has unended workouts, and whether a journal is waiting to be compacted.
+ * The manifest also stores the modification time of the workouts directory when it was written. Any file
+ * created, renamed or deleted there afterwards changes that time, which marks the manifest as stale so it
+ * is rebuilt from a directory scan. A file edited in place leaves the directory time alone on most file
+ * systems, so {@link #changedEntries(Path)} also compares each entry's size and modification time with the
+ * file's, and the entries that differ are re-read.
+ * <p>
+ * The manifest also holds the next unused workout ID, so IDs keep increasing across sessions, and the IDs of the
+ * workouts in each month file, so {@link #monthOfId(long)} finds a workout's month without reading any month.
+ * <p>
+ * File format:
+ * <pre>
+ *   # FitChasers manifest v2
+ *   dir|directoryMtimeMillis
+ *   next|nextWorkoutId
+ *   YYYY-MM|file|size|mtimeMillis|workouts|totalMinutes|crc32|unended|journal
+ *   ids|YYYY-MM|id,id,...
+ * </pre>
+ */
+public class MonthManifest {
+    // v2 adds the ids lines; a v1 manifest is rebuilt from the month files
+    public static final String HEADER = "# FitChasers manifest v2";
+    private static final String SEP = "|";
+
+    /**
+     * Summary of one month file.
+     *
+     * @param file         The month file name, e.g. {@code workouts_2025-10.bin}.
+     * @param size         The file size in bytes.
+     * @param mtime        The file's last modification time in epoch milliseconds.
+     * @param workoutCount The number of workouts in the month.
+     * @param totalMinutes The summed duration of the month's workouts.
+     * @param checksum     The CRC-32 of the file contents.
+     * @param hasUnended   Whether the month has a workout without an end time.
+     * @param hasJournal   Whether the month has journal records not yet folded into the file.
+     */
+    public record Entry(String file, long size, long mtime, int workoutCount, long totalMinutes,
+                        long checksum, boolean hasUnended, boolean hasJournal) {
+
+        Entry withJournal(boolean journal) {
+            return new Entry(file, size, mtime, workoutCount, totalMinutes, checksum, hasUnended, journal);
+        }
+    }
+
+    private final Path path;
+    private final TreeMap<YearMonth, Entry> entries = new TreeMap<>();
+    private final Map<YearMonth, long[]> idsByMonth = new HashMap<>(); // sorted, as of the month file
+    private long dirMtime = -1;
+    private long nextId = 1;
+    private boolean dirty;
+
+    /**
+     * Constructs an empty manifest stored at the given path.
+     *
+     * @param path The manifest file, normally {@code data/manifest.txt}.
+     */
+    public MonthManifest(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Loads the manifest from disk if it exists and is still current for the workouts directory.
+     *
+     * @param workoutDir The directory the manifest describes.
+     * @return {@code true} if the manifest was loaded, {@code false} if it must be rebuilt.
+     */
+    public boolean load(Path workoutDir) {
+        entries.clear();
+        idsByMonth.clear();
+        dirMtime = -1;
+        nextId = 1;
+        if (Files.notExists(path)) {
+            return false;
+        }
+        try (BufferedReader br = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(br.readLine())) {
+                return false;
+            }
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] f = line.split("\\|", -1);
+                if ("dir".equals(f[0])) {
+                    dirMtime = Long.parseLong(f[1]);
+                } else if ("next".equals(f[0])) {
+                    nextId = Long.parseLong(f[1]);
+                } else if ("ids".equals(f[0])) {
+                    idsByMonth.put(YearMonth.parse(f[1]), parseIds(f[2]));
+                } else {
+                    entries.put(YearMonth.parse(f[0]), new Entry(f[1], Long.parseLong(f[2]),
+                            Long.parseLong(f[3]), Integer.parseInt(f[4]), Long.parseLong(f[5]),
+                            Long.parseLong(f[6], 16), Boolean.parseBoolean(f[7]), Boolean.parseBoolean(f[8])));
+                }
+            }
+            if (dirMtime != Files.getLastModifiedTime(workoutDir).toMillis()
+                    || !idsByMonth.keySet().containsAll(entries.keySet())) {
+                entries.clear();
+                idsByMonth.clear();
+                return false;
+            }
+            dirty = false;
+            return true;
+        } catch (IOException | RuntimeException e) {
+            entries.clear();
+            idsByMonth.clear();
+            return false;
+        }
+    }
+
+    /**
+     * Returns the months whose file no longer matches its entry: the file is missing, or its size or
+     * modification time differs from the recorded one.
+     *
+     * @param workoutDir The directory the manifest describes.
+     * @return The months whose entries must be re-read, in month order.
+     */
+    public List<YearMonth> changedEntries(Path workoutDir) {
+        List<YearMonth> changed = new ArrayList<>();
+        for (Map.Entry<YearMonth, Entry> e : entries.entrySet()) {
+            Entry entry = e.getValue();
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(workoutDir.resolve(entry.file()),
+                        BasicFileAttributes.class);
+                if (attrs.size() != entry.size() || attrs.lastModifiedTime().toMillis() != entry.mtime()) {
+                    changed.add(e.getKey());
+                }
+            } catch (IOException ex) {
+                changed.add(e.getKey());
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Serialises the manifest, recording the current modification time of the workouts directory.
+     *
+     * @param workoutDir The directory the manifest describes.
+     * @return The manifest file contents.
+     * @throws IOException If the directory cannot be read.
+     */
+    public String render(Path workoutDir) throws IOException {
+        dirMtime = Files.getLastModifiedTime(workoutDir).toMillis();
+        StringBuilder sb = new StringBuilder(HEADER).append(System.lineSeparator());
+        sb.append("dir").append(SEP).append(dirMtime).append(System.lineSeparator());
+        sb.append("next").append(SEP).append(nextId).append(System.lineSeparator());
+        for (Map.Entry<YearMonth, Entry> e : entries.entrySet()) {
+            Entry v = e.getValue();
+            sb.append(e.getKey()).append(SEP).append(v.file()).append(SEP).append(v.size()).append(SEP)
+                    .append(v.mtime()).append(SEP).append(v.workoutCount()).append(SEP)
+                    .append(v.totalMinutes()).append(SEP).append(Long.toHexString(v.checksum())).append(SEP)
+                    .append(v.hasUnended()).append(SEP).append(v.hasJournal()).append(System.lineSeparator());
+            sb.append("ids").append(SEP).append(e.getKey()).append(SEP);
+            long[] ids = idsByMonth.getOrDefault(e.getKey(), new long[0]);
+            for (int i = 0; i < ids.length; i++) {
+                sb.append(i == 0 ? "" : ",").append(ids[i]);
+            }
+            sb.append(System.lineSeparator());
+        }
+        dirty = false;
+        return sb.toString();
+    }
+
+    /**
+     * Workout statistics of a month, captured when the month is queued for writing.
+     *
+     * @param workoutCount The number of workouts.
+     * @param totalMinutes The summed duration of the workouts.
+     * @param hasUnended   Whether any workout has no end time.
+     * @param ids          The workout IDs, in ascending order.
+     */
+    public record Summary(int workoutCount, long totalMinutes, boolean hasUnended, long[] ids) {
+
+        /**
+         * Summarises a month list.
+         *
+         * @param workouts The workouts of the month.
+         * @return The month's summary.
+         */
+        public static Summary of(List<Workout> workouts) {
+            long totalMinutes = 0;
+            boolean unended = false;
+            long[] ids = new long[workouts.size()];
+            for (int i = 0; i < ids.length; i++) {
+                Workout w = workouts.get(i);
+                totalMinutes += w.getDuration();
+                unended |= w.getWorkoutEndDateTime() == null;
+                ids[i] = w.getId();
+            }
+            Arrays.sort(ids);
+            return new Summary(workouts.size(), totalMinutes, unended, ids);
+        }
+    }
+
+    /**
+     * Records a month file that has just been written.
+     *
+     * @param month   The month of the file.
+     * @param file    The written file.
+     * @param bytes   The contents that were written, used for the checksum.
+     * @param summary The statistics of the workouts the file contains.
+     * @throws IOException If the file's attributes cannot be read.
+     */
+    public void put(YearMonth month, Path file, byte[] bytes, Summary summary) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        entries.put(month, new Entry(file.getFileName().toString(), bytes.length,
+                Files.getLastModifiedTime(file).toMillis(), summary.workoutCount(), summary.totalMinutes(),
+                crc.getValue(), summary.hasUnended(), false));
+        idsByMonth.put(month, summary.ids());
+        dirty = true;
+    }
+
+    /**
+     * Notes that the month now has journal records waiting to be compacted.
+     *
+     * @param month The journalled month.
+     */
+    public void markJournalled(YearMonth month) {
+        Entry e = entries.get(month);
+        if (e != null && !e.hasJournal()) {
+            entries.put(month, e.withJournal(true));
+            dirty = true;
+        }
+    }
+
+    /**
+     * Removes all entries, e.g. before a rebuild.
+     */
+    public void clear() {
+        entries.clear();
+        idsByMonth.clear();
+        dirty = true;
+    }
+
+    /**
+     * Returns the next unused workout ID.
+     *
+     * @return An ID greater than every ID handed out so far.
+     */
+    public long getNextId() {
+        return nextId;
+    }
+
+    /**
+     * Records the next unused workout ID. Lower values are ignored, so IDs are never reused.
+     *
+     * @param next The ID after the highest one in use.
+     */
+    public void setNextId(long next) {
+        if (next > nextId) {
+            nextId = next;
+            dirty = true;
+        }
+    }
+
+    /**
+     * Returns the newest month before the given one that may hold workouts. Months recorded as empty are
+     * skipped unless they have journal records, which can add workouts.
+     *
+     * @param before The exclusive upper bound, or {@code null} to search every month.
+     * @return The month, or {@code null} if no earlier month has workouts.
+     */
+    public YearMonth latestMonthBefore(YearMonth before) {
+        Map<YearMonth, Entry> earlier = before == null ? entries.descendingMap()
+                : entries.headMap(before, false).descendingMap();
+        for (Map.Entry<YearMonth, Entry> e : earlier.entrySet()) {
+            if (e.getValue().workoutCount() > 0 || e.getValue().hasJournal()) {
+                return e.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the month whose file held the workout with the given ID when it was last written. Changes
+     * journalled since then are not reflected, so callers holding newer state should check it first.
+     *
+     * @param id The workout ID.
+     * @return The month, or {@code null} if no month file holds the ID.
+     */
+    public YearMonth monthOfId(long id) {
+        for (Map.Entry<YearMonth, long[]> e : idsByMonth.entrySet()) {
+            if (Arrays.binarySearch(e.getValue(), id) >= 0) {
+                return e.getKey();
+            }
+        }
+        return null;
+    }
+
+    private static long[] parseIds(String raw) {
+        if (raw.isEmpty()) {
+            return new long[0];
+        }
+        String[] parts = raw.split(",");
+        long[] ids = new long[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            ids[i] = Long.parseLong(parts[i]);
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    public boolean contains(YearMonth month) {
+        return entries.containsKey(month);
+    }
+
+    public Entry get(YearMonth month) {
+        return entries.get(month);
+    }
+
+    public Map<YearMonth, Entry> getEntries() {
+        return Collections.unmodifiableMap(entries);
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+}
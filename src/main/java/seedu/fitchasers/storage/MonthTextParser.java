@@ -0,0 +1,506 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+//@@author Kart04
+/**
+ * Single-pass parser for text month files ({@code workouts_YYYY-MM.txt}).
+ * <p>
+ * Input is read through one reusable char buffer (or decoded straight from a UTF-8 {@link ByteBuffer}, e.g. a
+ * memory-mapped file), and each line is handled in place: the parser dispatches on
+ * the line's first character, and parses numbers and ISO timestamps straight from the buffer. Only values that
+ * end up in a {@link Workout} become strings, and workout names, exercise names and tags are pooled, so a name
+ * repeated across the file is allocated once.
+ * <p>
+ * The accepted format and corruption rules match the original block-based reader. Blank lines and
+ * {@code #} comments are ignored. A workout with an unparseable timestamp, duration or rep count is skipped
+ * and counted as corrupted, and each {@code - name | reps} line becomes its own exercise.
+ */
+public class MonthTextParser {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final char[] buf = new char[BUFFER_SIZE];
+    private final byte[] bytes = new byte[BUFFER_SIZE];
+    private char[] line = new char[256];
+    private int lineLength;
+    private final StringPool pool = new StringPool();
+
+    // State of the workout block being parsed
+    private long id;
+    private String name;
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private Set<String> autoTags;
+    private Set<String> manualTags;
+    private final List<Exercise> sets = new ArrayList<>();
+    private boolean inSets;
+    private boolean corrupted;
+
+    private int skipped;
+
+    /**
+     * Parses every workout in the stream.
+     *
+     * @param in  The month file contents.
+     * @param out The list the parsed workouts are appended to, in file order.
+     * @return The number of workouts skipped because they were corrupted.
+     * @throws IOException If reading the stream fails.
+     */
+    public int parse(Reader in, List<Workout> out) throws IOException {
+        begin();
+        int n;
+        while ((n = in.read(buf, 0, buf.length)) != -1) {
+            for (int i = 0; i < n; i++) {
+                accept(buf[i], out);
+            }
+        }
+        return finish(out);
+    }
+
+    /**
+     * Parses every workout in a UTF-8 encoded buffer, such as a memory-mapped month file.
+     * Bytes are decoded in place, without copying the file into a char array first.
+     *
+     * @param in  The month file contents, from its position to its limit.
+     * @param out The list the parsed workouts are appended to, in file order.
+     * @return The number of workouts skipped because they were corrupted.
+     */
+    public int parse(ByteBuffer in, List<Workout> out) {
+        begin();
+        int limit = in.limit();
+        int pos = in.position();
+        while (pos < limit) {
+            int n = Math.min(bytes.length, limit - pos);
+            in.get(pos, bytes, 0, n); // bulk copy of one page-sized chunk, no charset decoder involved
+            int i = 0;
+            while (i < n) {
+                int b = bytes[i++];
+                if (b >= 0) {
+                    accept((char) b, out);
+                    continue;
+                }
+                int extra = (b & 0xE0) == 0xC0 ? 1 : (b & 0xF0) == 0xE0 ? 2 : (b & 0xF8) == 0xF0 ? 3 : -1;
+                if (extra < 0 || limit - (pos + i) < extra) {
+                    accept('\uFFFD', out);
+                    continue;
+                }
+                int cp = b & (0x3F >> extra);
+                for (int k = 0; k < extra; k++, i++) {
+                    // a sequence may straddle the chunk boundary, so read continuation bytes from the buffer
+                    cp = (cp << 6) | (in.get(pos + i) & 0x3F);
+                }
+                acceptCodePoint(cp, out);
+            }
+            pos += i;
+        }
+        in.position(limit);
+        return finish(out);
+    }
+
+    private void acceptCodePoint(int cp, List<Workout> out) {
+        if (Character.isBmpCodePoint(cp)) {
+            accept((char) cp, out);
+        } else if (Character.isValidCodePoint(cp)) {
+            accept(Character.highSurrogate(cp), out);
+            accept(Character.lowSurrogate(cp), out);
+        } else {
+            accept('\uFFFD', out);
+        }
+    }
+
+    private void begin() {
+        resetBlock();
+        skipped = 0;
+        lineLength = 0;
+    }
+
+    private void accept(char c, List<Workout> out) {
+        if (c == '\n') {
+            handleLine(lineLength, out);
+            lineLength = 0;
+            return;
+        }
+        if (lineLength == line.length) {
+            line = Arrays.copyOf(line, lineLength * 2);
+        }
+        line[lineLength++] = c;
+    }
+
+    private int finish(List<Workout> out) {
+        if (lineLength > 0) {
+            handleLine(lineLength, out);
+            lineLength = 0;
+        }
+        return skipped;
+    }
+
+    private void resetBlock() {
+        id = 0;
+        name = null;
+        start = null;
+        end = null;
+        autoTags = null;
+        manualTags = null;
+        sets.clear();
+        inSets = false;
+        corrupted = false;
+    }
+
+    private void handleLine(int len, List<Workout> out) {
+        int s = 0;
+        int e = len;
+        while (s < e && line[s] <= ' ') {
+            s++;
+        }
+        while (e > s && line[e - 1] <= ' ') {
+            e--;
+        }
+        if (s == e) {
+            return;
+        }
+        switch (line[s]) {
+        case '#':
+            return;
+        case 'W':
+            if (equalsAt(s, e, "WORKOUT")) {
+                resetBlock();
+            }
+            return;
+        case 'E':
+            if (equalsAt(s, e, "END_WORKOUT")) {
+                emit(out);
+            } else if (startsWithAt(s, e, "End:")) {
+                parseEnd(s + 4, e);
+            } else if (startsWithAt(s, e, "EXERCISES:")) {
+                inSets = true;
+            }
+            return;
+        case 'I':
+            if (startsWithAt(s, e, "Id:")) {
+                id = parseId(skipSpaces(s + 3, e), e); // a bad ID is reassigned, not fatal
+            }
+            return;
+        case 'N':
+            if (startsWithAt(s, e, "Name:")) {
+                name = pooled(s + 5, e);
+            }
+            return;
+        case 'S':
+            if (startsWithAt(s, e, "Start:")) {
+                int vs = skipSpaces(s + 6, e);
+                if (vs < e) {
+                    start = parseDateTime(vs, e);
+                }
+            }
+            return;
+        case 'D':
+            if (startsWithAt(s, e, "DurationMin:")) {
+                int vs = skipSpaces(s + 12, e);
+                if (vs == e || parseInt(vs, e) == null) {
+                    corrupted = true; // the value itself is recomputed from start and end
+                }
+            }
+            return;
+        case 'A':
+            if (startsWithAt(s, e, "AutoTags:")) {
+                autoTags = parseTags(s + 9, e);
+            }
+            return;
+        case 'M':
+            if (startsWithAt(s, e, "ManualTags:")) {
+                manualTags = parseTags(s + 11, e);
+            }
+            return;
+        case '-':
+            if (inSets) {
+                parseSet(s + 1, e);
+            }
+            return;
+        default:
+            return;
+        }
+    }
+
+    private void emit(List<Workout> out) {
+        if (corrupted) {
+            skipped++;
+        } else {
+            Workout w = new Workout(name, start, end);
+            w.setId(id);
+            w.setAutoTags(autoTags != null ? autoTags : Set.of());
+            w.setManualTags(manualTags != null ? manualTags : Set.of());
+            for (Exercise ex : sets) {
+                w.addExercise(ex);
+            }
+            out.add(w);
+        }
+        resetBlock();
+    }
+
+    private void parseEnd(int from, int e) {
+        int vs = skipSpaces(from, e);
+        if (vs == e) {
+            return;
+        }
+        if (e - vs == 7 && regionEqualsIgnoreCase(vs, "unended")) {
+            end = null;
+            return;
+        }
+        end = parseDateTime(vs, e);
+    }
+
+    /**
+     * Parses "- name | reps". Reps may be missing, in which case the set has 0 reps.
+     */
+    private void parseSet(int from, int e) {
+        int bar = -1;
+        for (int i = from; i < e; i++) {
+            if (line[i] == '|') {
+                bar = i;
+                break;
+            }
+        }
+        int nameEnd = bar < 0 ? e : bar;
+        String setName = pooled(from, nameEnd);
+        int reps = 0;
+        if (bar >= 0) {
+            int rs = skipSpaces(bar + 1, e);
+            if (rs < e) {
+                Integer parsed = parseInt(rs, e);
+                if (parsed == null) {
+                    corrupted = true;
+                    return;
+                }
+                reps = parsed;
+            }
+        }
+        sets.add(new Exercise(setName, reps));
+    }
+
+    private Set<String> parseTags(int from, int e) {
+        Set<String> tags = new LinkedHashSet<>();
+        int partStart = from;
+        for (int i = from; i <= e; i++) {
+            if (i == e || line[i] == ',') {
+                String tag = pooled(partStart, i);
+                if (!tag.isEmpty()) {
+                    tags.add(tag);
+                }
+                partStart = i + 1;
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Parses a decimal int in {@code [s, e)}, returning {@code null} if it is malformed or out of range.
+     */
+    private Integer parseInt(int s, int e) {
+        boolean negative = false;
+        int i = s;
+        if (i < e && (line[i] == '-' || line[i] == '+')) {
+            negative = line[i] == '-';
+            i++;
+        }
+        if (i == e) {
+            return null;
+        }
+        long value = 0;
+        for (; i < e; i++) {
+            int d = line[i] - '0';
+            if (d < 0 || d > 9) {
+                return null;
+            }
+            value = value * 10 + d;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                return null;
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            return null;
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parses a positive workout ID in {@code [s, e)}, returning 0 if it is missing or malformed.
+     */
+    private long parseId(int s, int e) {
+        if (s == e || e - s > 18) {
+            return 0;
+        }
+        long value = 0;
+        for (int i = s; i < e; i++) {
+            int d = line[i] - '0';
+            if (d < 0 || d > 9) {
+                return 0;
+            }
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+    /**
+     * Parses {@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]]}, the form {@link LocalDateTime#toString()} writes.
+     * Marks the block as corrupted and returns {@code null} if the text is not a valid timestamp.
+     */
+    private LocalDateTime parseDateTime(int s, int e) {
+        int len = e - s;
+        if (len >= 16 && line[s + 4] == '-' && line[s + 7] == '-' && line[s + 10] == 'T'
+                && line[s + 13] == ':') {
+            int year = digits(s, 4);
+            int month = digits(s + 5, 2);
+            int day = digits(s + 8, 2);
+            int hour = digits(s + 11, 2);
+            int minute = digits(s + 14, 2);
+            int second = 0;
+            int nano = 0;
+            boolean ok = year >= 0 && month >= 0 && day >= 0 && hour >= 0 && minute >= 0;
+            if (ok && len > 16) {
+                ok = len >= 19 && line[s + 16] == ':' && (second = digits(s + 17, 2)) >= 0;
+                if (ok && len > 19) {
+                    int fraction = len - 20;
+                    ok = line[s + 19] == '.' && fraction >= 1 && fraction <= 9
+                            && (nano = digits(s + 20, fraction)) >= 0;
+                    for (int i = fraction; ok && i < 9; i++) {
+                        nano *= 10;
+                    }
+                }
+            }
+            if (ok) {
+                try {
+                    return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+                } catch (DateTimeException ignore) {
+                    // e.g. 31st of February, reported as corrupted below
+                }
+            }
+        }
+        corrupted = true;
+        return null;
+    }
+
+    private int digits(int from, int count) {
+        int v = 0;
+        for (int i = from; i < from + count; i++) {
+            int d = line[i] - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            v = v * 10 + d;
+        }
+        return v;
+    }
+
+    private int skipSpaces(int from, int e) {
+        while (from < e && line[from] <= ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    private boolean equalsAt(int s, int e, String word) {
+        return e - s == word.length() && startsWithAt(s, e, word);
+    }
+
+    private boolean startsWithAt(int s, int e, String prefix) {
+        if (e - s < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (line[s + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean regionEqualsIgnoreCase(int s, String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.toLowerCase(line[s + i]) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the trimmed text in {@code [s, e)} as a pooled string.
+     */
+    private String pooled(int s, int e) {
+        s = skipSpaces(s, e);
+        while (e > s && line[e - 1] <= ' ') {
+            e--;
+        }
+        return pool.intern(line, s, e);
+    }
+
+    /**
+     * Open-addressing pool that turns a char range into a shared {@code String} without allocating
+     * when the same text was seen before.
+     */
+    private static final class StringPool {
+        private String[] table = new String[64];
+        private int size;
+
+        String intern(char[] chars, int s, int e) {
+            int hash = 0;
+            for (int i = s; i < e; i++) {
+                hash = 31 * hash + chars[i];
+            }
+            int mask = table.length - 1;
+            int slot = hash & mask;
+            while (table[slot] != null) {
+                if (matches(table[slot], chars, s, e)) {
+                    return table[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            String str = new String(chars, s, e - s);
+            table[slot] = str;
+            if (++size * 2 > table.length) {
+                rehash();
+            }
+            return str;
+        }
+
+        private static boolean matches(String str, char[] chars, int s, int e) {
+            if (str.length() != e - s) {
+                return false;
+            }
+            for (int i = 0; i < str.length(); i++) {
+                if (str.charAt(i) != chars[s + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void rehash() {
+            String[] old = table;
+            table = new String[old.length * 2];
+            int mask = table.length - 1;
+            for (String str : old) {
+                if (str != null) {
+                    int slot = str.hashCode() & mask;
+                    while (table[slot] != null) {
+                        slot = (slot + 1) & mask;
+                    }
+                    table[slot] = str;
+                }
+            }
+        }
+    }
+}
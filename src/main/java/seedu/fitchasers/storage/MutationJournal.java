@@ -0,0 +1,424 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//@@author Kart04
+/**
+ * Append-only write-ahead journal of workout mutations, kept per month next to the month snapshot.
+ * <p>
+ * Every mutation (create workout, add exercise, add set, end workout, retag, delete) is appended as one
+ * short line to {@code workouts_YYYY-MM.journal}, so logging a set no longer rewrites the whole month file.
+ * When a month is loaded, the journal is replayed on top of the snapshot. Once it grows past
+ * {@link #COMPACTION_THRESHOLD} records, {@link FileHandler} folds it back into the snapshot.
+ * <p>
+ * Record format, one per line, fields separated by {@code '|'}:
+ * <pre>
+ *   seq|CREATE|start|name|autoTags|id
+ *   seq|EXERCISE|index|reps|name
+ *   seq|SET|index|reps
+ *   seq|END|index|end
+ *   seq|RETAG|index|autoTags|manualTags
+ *   seq|DELETE|index
+ * </pre>
+ * {@code index} is the workout's position in the month list, and tags are comma-separated. In names and tags,
+ * {@code \}, {@code |}, {@code ,} and line breaks are written as {@code \\}, {@code \p}, {@code \c},
+ * {@code \n} and {@code \r}, so a record is always one line and splits into the same fields it was written
+ * from. Sequence numbers only go up. A snapshot records the last sequence number it contains, so records that
+ * are already folded in are skipped if a crash leaves a stale journal behind.
+ * <p>
+ * Each record is forced to the storage device before the mutation is reported as saved, so a logged change
+ * survives a crash or power loss once the command returns. Only the creation of a month's journal file is not
+ * forced; if that is lost, the month falls back to its last snapshot.
+ */
+public class MutationJournal {
+    public static final int COMPACTION_THRESHOLD = 64;
+    public static final String SNAPSHOT_SEQ_PREFIX = "# Journal:";
+    private static final String SEP = "|";
+
+    private final Path dir;
+    private final Map<YearMonth, Long> lastSeqByMonth = new HashMap<>();
+    private final Map<YearMonth, Integer> recordCountByMonth = new HashMap<>();
+
+    /**
+     * Constructs a journal that stores its files inside the given directory.
+     *
+     * @param dir The directory holding the month snapshots and journals.
+     */
+    public MutationJournal(Path dir) {
+        this.dir = dir;
+    }
+
+    /**
+     * Returns the path of the journal file for the given month.
+     *
+     * @param month The month of the journal.
+     * @return The journal path, e.g. {@code data/workouts/workouts_2025-10.journal}.
+     */
+    public Path journalPath(YearMonth month) {
+        return dir.resolve(String.format("workouts_%s.journal", month));
+    }
+
+    /**
+     * Returns whether a journal file exists for the given month.
+     *
+     * @param month The month to check.
+     * @return {@code true} if there are journal records waiting to be compacted.
+     */
+    public boolean exists(YearMonth month) {
+        return Files.exists(journalPath(month));
+    }
+
+    /**
+     * Returns the number of records currently in the month's journal.
+     *
+     * @param month The month to check.
+     * @return The number of journal records.
+     * @throws IOException If the journal cannot be read.
+     */
+    public int size(YearMonth month) throws IOException {
+        Integer count = recordCountByMonth.get(month);
+        if (count == null) {
+            count = countRecords(month);
+            recordCountByMonth.put(month, count);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the highest sequence number issued for the month.
+     * A snapshot written now should record this value in its header.
+     *
+     * @param month          The month to check.
+     * @param snapshotSeq    The sequence number stored in the current snapshot header.
+     * @return The last sequence number that is in the snapshot or the journal.
+     * @throws IOException If the journal cannot be read.
+     */
+    public long lastSeq(YearMonth month, long snapshotSeq) throws IOException {
+        Long seq = lastSeqByMonth.get(month);
+        if (seq == null) {
+            seq = Math.max(snapshotSeq, readLastSeq(month));
+            lastSeqByMonth.put(month, seq);
+        }
+        return seq;
+    }
+
+    /**
+     * Deletes the month's journal after its records have been folded into a new snapshot.
+     * Sequence numbering continues from where it stopped.
+     *
+     * @param month The month whose journal is cleared.
+     * @throws IOException If the journal cannot be deleted.
+     */
+    public void clear(YearMonth month) throws IOException {
+        Files.deleteIfExists(journalPath(month));
+        recordCountByMonth.put(month, 0);
+    }
+
+    // ----------------- Appending -----------------
+
+    void appendCreate(YearMonth month, long snapshotSeq, Workout workout) throws IOException {
+        append(month, snapshotSeq, "CREATE", String.valueOf(workout.getWorkoutStartDateTime()),
+                escape(workout.getWorkoutName()), joinTags(workout.getAutoTags()), String.valueOf(workout.getId()));
+    }
+
+    void appendExercise(YearMonth month, long snapshotSeq, int index, Exercise exercise) throws IOException {
+        append(month, snapshotSeq, "EXERCISE", String.valueOf(index),
+                String.valueOf(exercise.getReps(0)), escape(exercise.getName()));
+    }
+
+    void appendSet(YearMonth month, long snapshotSeq, int index, int reps) throws IOException {
+        append(month, snapshotSeq, "SET", String.valueOf(index), String.valueOf(reps));
+    }
+
+    void appendEnd(YearMonth month, long snapshotSeq, int index, LocalDateTime end) throws IOException {
+        append(month, snapshotSeq, "END", String.valueOf(index), String.valueOf(end));
+    }
+
+    void appendRetag(YearMonth month, long snapshotSeq, int index, Workout workout) throws IOException {
+        append(month, snapshotSeq, "RETAG", String.valueOf(index),
+                joinTags(workout.getAutoTags()), joinTags(workout.getManualTags()));
+    }
+
+    void appendDelete(YearMonth month, long snapshotSeq, int index) throws IOException {
+        append(month, snapshotSeq, "DELETE", String.valueOf(index));
+    }
+
+    /**
+     * Appends one record and forces it to disk. Free-text fields must already be escaped.
+     */
+    private void append(YearMonth month, long snapshotSeq, String... fields) throws IOException {
+        long seq = lastSeq(month, snapshotSeq) + 1;
+        int recordsBefore = size(month);
+        Files.createDirectories(dir);
+        byte[] record = (seq + SEP + String.join(SEP, fields) + System.lineSeparator())
+                .getBytes(StandardCharsets.UTF_8);
+        try (FileChannel ch = FileChannel.open(journalPath(month), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buf = ByteBuffer.wrap(record);
+            while (buf.hasRemaining()) {
+                ch.write(buf);
+            }
+            ch.force(false);
+        }
+        lastSeqByMonth.put(month, seq);
+        recordCountByMonth.put(month, recordsBefore + 1);
+    }
+
+    // ----------------- Replaying -----------------
+
+    /**
+     * Outcome of replaying a month's journal.
+     *
+     * @param applied   The number of records applied to the list.
+     * @param discarded The number of records dropped from the damaged record on, or 0 if the journal was intact.
+     */
+    public record Replay(int applied, int discarded) {
+    }
+
+    /**
+     * Applies the month's journal records to a list loaded from the snapshot.
+     * Records already folded into the snapshot are skipped. Records address workouts by position, so replay
+     * stops at the first record that cannot be applied (e.g. a torn final line): applying later ones could
+     * change the wrong workout. The journal is cut back to the records before it, so the damage is reported
+     * once and new records follow the last good one.
+     *
+     * @param month       The month being loaded.
+     * @param snapshotSeq The sequence number stored in the snapshot header.
+     * @param list        The workouts read from the snapshot, modified in place.
+     * @return How many records were applied and how many were discarded.
+     * @throws IOException If the journal cannot be read or cut back.
+     */
+    public Replay replay(YearMonth month, long snapshotSeq, ArrayList<Workout> list) throws IOException {
+        Path path = journalPath(month);
+        if (Files.notExists(path)) {
+            return new Replay(0, 0);
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        int applied = 0;
+        int records = 0;
+        long lastSeq = snapshotSeq;
+        int pos = 0;
+        while (pos < bytes.length) {
+            int end = pos;
+            while (end < bytes.length && bytes[end] != '\n') {
+                end++;
+            }
+            if (end == bytes.length) {
+                break; // every record ends with a line break, so this one was cut off while being written
+            }
+            String line = new String(bytes, pos, end - pos, StandardCharsets.UTF_8);
+            if (line.endsWith("\r")) {
+                line = line.substring(0, line.length() - 1);
+            }
+            if (!line.isBlank()) {
+                String[] fields = line.split("\\|", -1);
+                try {
+                    long seq = Long.parseLong(fields[0]);
+                    if (seq > snapshotSeq) {
+                        if (!apply(fields, list)) {
+                            break;
+                        }
+                        applied++;
+                    }
+                    lastSeq = Math.max(lastSeq, seq);
+                } catch (RuntimeException e) {
+                    break; // torn or hand-edited record
+                }
+                records++;
+            }
+            pos = end + 1;
+        }
+
+        int discarded = 0;
+        if (pos < bytes.length) {
+            discarded = countLines(bytes, pos);
+            try (FileChannel ch = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                ch.truncate(pos);
+            }
+        }
+        lastSeqByMonth.put(month, Math.max(lastSeq, lastSeqByMonth.getOrDefault(month, 0L)));
+        recordCountByMonth.put(month, records);
+        return new Replay(applied, discarded);
+    }
+
+    /**
+     * Applies one record.
+     *
+     * @return {@code false} if the record does not fit the list, e.g. a set for a workout without exercises
+     */
+    private boolean apply(String[] f, List<Workout> list) {
+        switch (f[1]) {
+        case "CREATE": {
+            Workout w = new Workout(unescape(f[3]), LocalDateTime.parse(f[2]));
+            w.setAutoTags(parseTags(f[4]));
+            if (f.length > 5) {
+                w.setId(Long.parseLong(f[5])); // records written before workout IDs have none
+            }
+            list.add(w);
+            return true;
+        }
+        case "EXERCISE":
+            list.get(Integer.parseInt(f[2])).addExercise(new Exercise(unescape(f[4]), Integer.parseInt(f[3])));
+            return true;
+        case "SET": {
+            Exercise current = list.get(Integer.parseInt(f[2])).getCurrentExercise();
+            if (current == null) {
+                return false;
+            }
+            current.addSet(Integer.parseInt(f[3]));
+            return true;
+        }
+        case "END": {
+            Workout w = list.get(Integer.parseInt(f[2]));
+            w.setWorkoutEndDateTime(LocalDateTime.parse(f[3]));
+            w.setDuration(w.calculateDuration());
+            return true;
+        }
+        case "RETAG": {
+            Workout w = list.get(Integer.parseInt(f[2]));
+            w.setAutoTags(parseTags(f[3]));
+            w.setManualTags(parseTags(f[4]));
+            return true;
+        }
+        case "DELETE":
+            list.remove(Integer.parseInt(f[2]));
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Counts the non-blank lines from the given offset on, including a final line without a line break.
+     */
+    private static int countLines(byte[] bytes, int from) {
+        int count = 0;
+        boolean blank = true;
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                count += blank ? 0 : 1;
+                blank = true;
+            } else if (!Character.isWhitespace(bytes[i])) {
+                blank = false;
+            }
+        }
+        return count + (blank ? 0 : 1);
+    }
+
+    private int countRecords(YearMonth month) throws IOException {
+        Path path = journalPath(month);
+        if (Files.notExists(path)) {
+            return 0;
+        }
+        try (var lines = Files.lines(path, StandardCharsets.UTF_8)) {
+            return (int) lines.filter(l -> !l.isBlank()).count();
+        }
+    }
+
+    private long readLastSeq(YearMonth month) throws IOException {
+        Path path = journalPath(month);
+        if (Files.notExists(path)) {
+            return 0;
+        }
+        long last = 0;
+        try (BufferedReader br = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                int sep = line.indexOf('|');
+                if (sep <= 0) {
+                    continue;
+                }
+                try {
+                    last = Math.max(last, Long.parseLong(line.substring(0, sep)));
+                } catch (NumberFormatException ignore) {
+                    // torn record, skip it
+                }
+            }
+        }
+        return last;
+    }
+
+    private static String joinTags(Set<String> tags) {
+        List<String> escaped = new ArrayList<>(tags.size());
+        for (String tag : tags) {
+            escaped.add(escape(tag));
+        }
+        return String.join(",", escaped);
+    }
+
+    private static Set<String> parseTags(String raw) {
+        Set<String> out = new LinkedHashSet<>();
+        for (String part : raw.split(",")) {
+            String t = unescape(part).trim();
+            if (!t.isEmpty()) {
+                out.add(t);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Escapes a name or tag so it holds no field or tag separator and no line break.
+     */
+    static String escape(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '\\' -> sb.append("\\\\");
+            case '|' -> sb.append("\\p");
+            case ',' -> sb.append("\\c");
+            case '\n' -> sb.append("\\n");
+            case '\r' -> sb.append("\\r");
+            default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Reverses {@link #escape(String)}. A backslash before any other character is kept as it is, as in
+     * records written before names were escaped.
+     */
+    static String unescape(String text) {
+        if (text.indexOf('\\') < 0) {
+            return text;
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != '\\' || i + 1 == text.length()) {
+                sb.append(c);
+                continue;
+            }
+            char next = text.charAt(++i);
+            switch (next) {
+            case '\\' -> sb.append('\\');
+            case 'p' -> sb.append('|');
+            case 'c' -> sb.append(',');
+            case 'n' -> sb.append('\n');
+            case 'r' -> sb.append('\r');
+            default -> sb.append(c).append(next);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,170 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.workouts.Workout;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//@@author Kart04
+/**
+ * Month lists in display order (newest start first), kept sorted as the months change.
+ * <p>
+ * A view is built by sorting a month once. {@link FileHandler} then reports every created, ended and deleted
+ * workout so the view is updated in place, with a binary search, instead of being sorted again. A view only
+ * answers for the exact list object it was built from: once the month is saved from another list or is
+ * evicted from the cache and re-read, the next lookup sorts again.
+ */
+class SortedMonthViews {
+    /** Order of a month listing: newest start first, then latest end, unknown times last. */
+    static final Comparator<Workout> DISPLAY_ORDER = Comparator.comparing(
+                    Workout::getWorkoutStartDateTime,
+                    Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(
+                    Workout::getWorkoutEndDateTime,
+                    Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+
+    // Start times never change once a workout exists, so this finds a workout even after its end was set
+    private static final Comparator<Workout> BY_START = Comparator.comparing(
+            Workout::getWorkoutStartDateTime, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+
+    private record View(ArrayList<Workout> source, ArrayList<Workout> sorted) {
+    }
+
+    private final Map<YearMonth, View> views = new HashMap<>();
+    private long version;
+
+    /**
+     * Returns the month in display order, sorting it only if no view of this list exists yet.
+     *
+     * @param month  the month
+     * @param source the month's current list
+     * @return a read-only list in display order; it reflects later mutations reported to this class
+     */
+    List<Workout> get(YearMonth month, ArrayList<Workout> source) {
+        View view = views.get(month);
+        if (view == null || view.source() != source || view.sorted().size() != source.size()) {
+            ArrayList<Workout> sorted = new ArrayList<>(source);
+            sorted.sort(DISPLAY_ORDER);
+            view = new View(source, sorted);
+            views.put(month, view);
+        }
+        return Collections.unmodifiableList(view.sorted());
+    }
+
+    /**
+     * Adds a workout that has just been appended to the month list.
+     *
+     * @param month   the month
+     * @param source  the month list, already containing the workout
+     * @param workout the new workout
+     */
+    void inserted(YearMonth month, ArrayList<Workout> source, Workout workout) {
+        version++;
+        View view = viewOf(month, source, source.size() - 1);
+        if (view != null) {
+            insert(view.sorted(), workout);
+        }
+    }
+
+    /**
+     * Moves a workout whose end time has just changed to its new place.
+     *
+     * @param month   the month
+     * @param source  the month list containing the workout
+     * @param workout the workout that was ended
+     */
+    void reordered(YearMonth month, ArrayList<Workout> source, Workout workout) {
+        version++;
+        View view = viewOf(month, source, source.size());
+        if (view == null) {
+            return;
+        }
+        if (!removeFrom(view.sorted(), workout)) {
+            views.remove(month);
+            return;
+        }
+        insert(view.sorted(), workout);
+    }
+
+    /**
+     * Drops a workout that has just been removed from the month list.
+     *
+     * @param month   the month
+     * @param source  the month list, no longer containing the workout
+     * @param workout the deleted workout
+     */
+    void removed(YearMonth month, ArrayList<Workout> source, Workout workout) {
+        version++;
+        View view = viewOf(month, source, source.size() + 1);
+        if (view != null && !removeFrom(view.sorted(), workout)) {
+            views.remove(month);
+        }
+    }
+
+    /**
+     * Forgets the view of a month, e.g. after the month was saved from an arbitrary list.
+     *
+     * @param month the month
+     */
+    void invalidate(YearMonth month) {
+        version++;
+        views.remove(month);
+    }
+
+    /**
+     * Returns a counter bumped by every reported change, so callers can tell whether an order they
+     * walked earlier may have shifted.
+     *
+     * @return the number of changes reported so far
+     */
+    long version() {
+        return version;
+    }
+
+    /**
+     * Returns the month's view if it was built from {@code source} when the list had {@code expectedSize}
+     * workouts; any other view is out of date and is dropped.
+     */
+    private View viewOf(YearMonth month, ArrayList<Workout> source, int expectedSize) {
+        View view = views.get(month);
+        if (view == null) {
+            return null;
+        }
+        if (view.source() != source || view.sorted().size() != expectedSize) {
+            views.remove(month);
+            return null;
+        }
+        return view;
+    }
+
+    private static void insert(ArrayList<Workout> sorted, Workout workout) {
+        int at = Collections.binarySearch(sorted, workout, DISPLAY_ORDER);
+        sorted.add(at < 0 ? -at - 1 : at, workout);
+    }
+
+    private static boolean removeFrom(ArrayList<Workout> sorted, Workout workout) {
+        int hit = Collections.binarySearch(sorted, workout, BY_START);
+        if (hit < 0) {
+            return false;
+        }
+        for (int i = hit; i >= 0 && BY_START.compare(sorted.get(i), workout) == 0; i--) {
+            if (sorted.get(i) == workout) {
+                sorted.remove(i);
+                return true;
+            }
+        }
+        for (int i = hit + 1; i < sorted.size() && BY_START.compare(sorted.get(i), workout) == 0; i++) {
+            if (sorted.get(i) == workout) {
+                sorted.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.workouts.Workout;
+
+import java.time.YearMonth;
+import java.util.List;
+
+//@@author Kart04
+/**
+ * Receives every change {@link FileHandler} persists, so derived data such as a search index can be kept up to
+ * date without re-reading months. Callbacks run while the file handler is locked, on whichever thread made the
+ * change, including background loads. They must not call back into the handler, and a listener that calls the
+ * handler from its own synchronized code must take the handler's lock first, or the two can deadlock.
+ */
+public interface WorkoutChangeListener {
+
+    /**
+     * Called when a workout was created, or its name, exercises or tags changed.
+     *
+     * @param month   The month holding the workout.
+     * @param workout The workout, with its ID assigned.
+     */
+    void workoutChanged(YearMonth month, Workout workout);
+
+    /**
+     * Called when a workout was deleted.
+     *
+     * @param month   The month that held the workout.
+     * @param workout The deleted workout.
+     */
+    void workoutRemoved(YearMonth month, Workout workout);
+
+    /**
+     * Called when a whole month was replaced, e.g. saved from a new list or given fresh workout IDs.
+     *
+     * @param month    The month.
+     * @param workouts The month's workouts now.
+     */
+    void monthReplaced(YearMonth month, List<Workout> workouts);
+}
@@ -0,0 +1,114 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.workouts.Workout;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//@@author Kart04
+/**
+ * Index from workout ID to the month holding the workout and its position in that month's list.
+ * <p>
+ * Positions are hints: deleting a workout shifts the ones after it, so a lookup checks the hinted slot first
+ * and only scans the month when the hint is out of date, recording the new position for next time.
+ * <p>
+ * The index covers the months read or written in this session; {@link MonthManifest} keeps each month file's
+ * IDs across sessions, and a month found through it is indexed here once it is read.
+ */
+class WorkoutIdIndex {
+
+    /**
+     * Where a workout was last seen.
+     *
+     * @param month    The month whose list holds the workout.
+     * @param position The workout's index in that list when it was last seen.
+     */
+    record Location(YearMonth month, int position) {
+    }
+
+    private final Map<Long, Location> locations = new HashMap<>();
+    private final Map<YearMonth, long[]> idsByMonth = new HashMap<>();
+
+    /**
+     * Replaces the entries of a month with the IDs in its current list.
+     *
+     * @param month The month.
+     * @param list  The month's workouts; IDs must already be assigned.
+     */
+    void indexMonth(YearMonth month, List<Workout> list) {
+        long[] previous = idsByMonth.get(month);
+        if (previous != null) {
+            for (long id : previous) {
+                Location loc = locations.get(id);
+                if (loc != null && loc.month().equals(month)) {
+                    locations.remove(id);
+                }
+            }
+        }
+        long[] current = new long[list.size()];
+        for (int i = 0; i < list.size(); i++) {
+            current[i] = list.get(i).getId();
+            locations.put(current[i], new Location(month, i));
+        }
+        idsByMonth.put(month, current);
+    }
+
+    /**
+     * Records a single workout, e.g. one just appended to its month.
+     *
+     * @param id       The workout ID.
+     * @param month    The month whose list holds it.
+     * @param position Its index in that list.
+     */
+    void put(long id, YearMonth month, int position) {
+        locations.put(id, new Location(month, position));
+    }
+
+    /**
+     * Forgets a workout, e.g. after it was deleted.
+     *
+     * @param id The workout ID.
+     */
+    void remove(long id) {
+        locations.remove(id);
+    }
+
+    /**
+     * Returns the month holding the workout.
+     *
+     * @param id The workout ID.
+     * @return The month, or {@code null} if the ID is unknown.
+     */
+    YearMonth monthOf(long id) {
+        Location loc = locations.get(id);
+        return loc == null ? null : loc.month();
+    }
+
+    /**
+     * Finds the workout's position in its month list.
+     *
+     * @param id   The workout ID.
+     * @param list The current list of the month returned by {@link #monthOf(long)}.
+     * @return The index of the workout in {@code list}, or -1 if it is no longer there.
+     */
+    int positionIn(long id, List<Workout> list) {
+        Location loc = locations.get(id);
+        if (loc == null) {
+            return -1;
+        }
+        int hint = loc.position();
+        if (hint < list.size() && list.get(hint).getId() == id) {
+            return hint;
+        }
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i).getId() == id) {
+                locations.put(id, new Location(loc.month(), i));
+                return i;
+            }
+        }
+        locations.remove(id);
+        return -1;
+    }
+}
@@ -0,0 +1,174 @@
+package seedu.fitchasers.tagger;
+
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+//@@author Kart04
+/**
+ * Tagger that remembers the suggestions of another tagger per workout name and per exercise name.
+ * <p>
+ * Most workouts reuse a handful of names, so the wrapped tagger's {@link Tagger#suggestForName} and
+ * {@link Tagger#suggestForExercise} results are kept in a size-bounded map from the trimmed, lower-case name to
+ * an immutable tag set, evicting the least recently used name when full. A workout's suggestion is assembled
+ * from the cached contributions of its name and exercises, listed in the keyword tagger's tag order so it matches
+ * an uncached suggestion. The whole map is dropped as soon as the wrapped tagger reports a new
+ * {@link Tagger#keywordVersion()}.
+ */
+public class CachingTagger implements Tagger {
+    public static final int DEFAULT_CAPACITY = 256;
+    // Workout and exercise names share the map; the prefixes keep the same text from colliding
+    private static final String WORKOUT_KEY = "w:";
+    private static final String EXERCISE_KEY = "x:";
+
+    private final Tagger delegate;
+    private final int capacity;
+    private final LinkedHashMap<String, Set<String>> suggestions;
+    private long cachedVersion;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs a cache of at most {@link #DEFAULT_CAPACITY} names in front of the given tagger.
+     *
+     * @param delegate the tagger whose suggestions are cached
+     */
+    public CachingTagger(Tagger delegate) {
+        this(delegate, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a cache of at most the given number of names in front of the given tagger.
+     *
+     * @param delegate the tagger whose suggestions are cached
+     * @param capacity the maximum number of names remembered
+     */
+    public CachingTagger(Tagger delegate, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Cache capacity must be at least 1");
+        }
+        this.delegate = delegate;
+        this.capacity = capacity;
+        this.cachedVersion = delegate.keywordVersion();
+        this.suggestions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Set<String>> eldest) {
+                if (size() > CachingTagger.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the wrapped tagger's suggestion for the workout, merged from the cached contributions of its name
+     * and of each of its exercises and listed in the keyword tagger's tag order.
+     *
+     * @param w the workout to tag
+     * @return the suggested tags
+     */
+    @Override
+    public Set<String> suggest(Workout w) {
+        Set<String> nameTags = suggestForName(w.getWorkoutName());
+        if (w.getExercises().isEmpty()) {
+            return nameTags;
+        }
+        Set<String> tags = new LinkedHashSet<>(nameTags);
+        for (Exercise exercise : w.getExercises()) {
+            tags.addAll(suggestForExercise(exercise));
+        }
+        return KeywordDictionary.inTagOrder(tags);
+    }
+
+    /**
+     * Returns the wrapped tagger's suggestion for a workout name, computing it only on a cache miss.
+     *
+     * @param workoutName the workout name
+     * @return an unmodifiable set of tags
+     */
+    @Override
+    public Set<String> suggestForName(String workoutName) {
+        return cached(WORKOUT_KEY + normalise(workoutName), workoutName, delegate::suggestForName);
+    }
+
+    /**
+     * Returns the wrapped tagger's contribution for an exercise, computing it only on a cache miss.
+     *
+     * @param exercise the exercise
+     * @return an unmodifiable set of tags
+     */
+    @Override
+    public Set<String> suggestForExercise(Exercise exercise) {
+        return cached(EXERCISE_KEY + normalise(exercise.getName()), exercise, delegate::suggestForExercise);
+    }
+
+    @Override
+    public long keywordVersion() {
+        return delegate.keywordVersion();
+    }
+
+    /**
+     * Returns the share of suggestions answered from the cache.
+     *
+     * @return hits divided by lookups, or 0 before the first lookup
+     */
+    public synchronized double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    public synchronized int size() {
+        return suggestions.size();
+    }
+
+    private <T> Set<String> cached(String key, T input, Function<T, Set<String>> compute) {
+        long version = delegate.keywordVersion();
+        synchronized (this) {
+            if (version != cachedVersion) {
+                suggestions.clear();
+                cachedVersion = version;
+            }
+            Set<String> cached = suggestions.get(key);
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+
+        // Computed outside the lock so concurrent misses (e.g. from /retag_all) do not queue up
+        Set<String> computed = Collections.unmodifiableSet(new LinkedHashSet<>(compute.apply(input)));
+        synchronized (this) {
+            if (delegate.keywordVersion() == version && cachedVersion == version) {
+                suggestions.put(key, computed);
+            }
+        }
+        return computed;
+    }
+
+    private static String normalise(String name) {
+        // Keywords never start or end with whitespace, so trimming cannot change which ones match
+        return name == null ? "" : name.trim().toLowerCase();
+    }
+}
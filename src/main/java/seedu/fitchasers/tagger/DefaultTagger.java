@@ -1,9 +1,18 @@
 package seedu.fitchasers.tagger;
 
+import seedu.fitchasers.storage.AtomicFileWriter;
+import seedu.fitchasers.workouts.Exercise;
 import seedu.fitchasers.workouts.Workout;
 
-import java.util.EnumMap;
-import java.util.LinkedHashSet;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.Set;
 
 //@@author Kart04
@@ -11,12 +20,23 @@ import java.util.Set;
  * Default implementation of the Tagger interface for automatic workout classification.
  * <p>
  * This class automatically suggests modality tags (e.g., cardio, strength) and muscle group
- * tags (e.g., chest, legs) based on keyword matching in workout names. It uses predefined
+ * tags (e.g., chest, legs) based on keyword matching in workout and exercise names. It uses predefined
  * keyword mappings organized by modality and muscle group enums.
  * </p>
  * <p>
- * Keywords are matched case-insensitively against the workout name. Multiple tags can be
- * suggested for a single workout if multiple keywords match.
+ * Keywords are matched case-insensitively against the workout name and the name of each exercise, so a
+ * workout called "Tuesday" made of deadlifts is still tagged. Multiple tags can be suggested for a single
+ * workout if multiple keywords match.
+ * </p>
+ * <p>
+ * All keywords are compiled into one {@link KeywordMatcher}, so a name is scanned once however many
+ * keywords users add. The keywords and their matcher live in an immutable {@link KeywordDictionary}
+ * that is replaced as a whole when keywords change, so suggestions never wait for a rebuild.
+ * </p>
+ * <p>
+ * A tagger given a file keeps its keywords there: the file is read on the first suggestion (and created
+ * with the built-in keywords if missing), every added keyword is written back, and
+ * {@link #watchForChanges()} picks up edits made to the file while the app runs.
  * </p>
  *
  * @see Tagger
@@ -24,38 +44,36 @@ import java.util.Set;
  * @see MuscleGroup
  */
 public class DefaultTagger implements Tagger {
-    private final EnumMap<Modality, Set<String>> modalityKeywords = new EnumMap<>(Modality.class);
-    private final EnumMap<MuscleGroup, Set<String>> muscleKeywords = new EnumMap<>(MuscleGroup.class);
+    public static final String KEYWORD_FILE_NAME = "tag_keywords.txt";
+
+    private final Path keywordFile;
+    private final AtomicFileWriter files = new AtomicFileWriter(false);
+    private volatile KeywordDictionary dictionary;
+    private volatile long version;
+    private Thread watcher;
 
+    /**
+     * Constructs a tagger with the built-in keywords, kept in memory only.
+     */
     public DefaultTagger() {
-        // Modality keywords
-        modalityKeywords.put(Modality.CARDIO, new LinkedHashSet<>(Set.of(
-                "run", "jog", "swim", "cycle", "treadmill", "rower"
-        )));
-        modalityKeywords.put(Modality.STRENGTH, new LinkedHashSet<>(Set.of(
-                "lift", "deadlift", "squat", "bench", "press", "hypertrophy"
-        )));
-
-        // Muscle group keywords
-        muscleKeywords.put(MuscleGroup.LEGS, new LinkedHashSet<>(Set.of(
-                "leg", "squat", "hamstring", "quad", "calf", "leg day"
-        )));
-        muscleKeywords.put(MuscleGroup.POSTERIOR_CHAIN, new LinkedHashSet<>(Set.of("deadlift")));
-        muscleKeywords.put(MuscleGroup.CHEST, new LinkedHashSet<>(Set.of("bench", "push-up", "chest")));
-        muscleKeywords.put(MuscleGroup.BACK, new LinkedHashSet<>(Set.of(
-                "row", "pull-up", "lat", "back", "lift", "swim"
-        )));
-        muscleKeywords.put(MuscleGroup.SHOULDERS, new LinkedHashSet<>(Set.of(
-                "ohp", "overhead press", "shoulder"
-        )));
-        muscleKeywords.put(MuscleGroup.ARMS, new LinkedHashSet<>(Set.of("bicep", "tricep", "curl")));
-        muscleKeywords.put(MuscleGroup.CORE, new LinkedHashSet<>(Set.of("abs", "core", "plank")));
+        this.keywordFile = null;
+        this.dictionary = KeywordDictionary.defaults();
     }
 
     /**
-     * Suggests workout tags based on keywords found in the workout name.
+     * Constructs a tagger whose keywords are kept in the given file, normally {@code data/tag_keywords.txt}.
+     * Nothing is read until the first suggestion.
+     *
+     * @param keywordFile the keyword file
+     */
+    public DefaultTagger(Path keywordFile) {
+        this.keywordFile = keywordFile;
+    }
+
+    /**
+     * Suggests workout tags based on keywords found in the workout name and its exercise names.
      * <p>
-     * Analyzes the workout name (case-insensitive) against predefined modality and
+     * Analyzes the names (case-insensitive) against predefined modality and
      * muscle group keywords. Returns a set of matching tags in standardized lowercase
      * format. Muscle group tags have underscores replaced with hyphens.
      *
@@ -66,34 +84,23 @@ public class DefaultTagger implements Tagger {
      */
     @Override
     public Set<String> suggest(Workout w) {
-        String workoutName = w.getWorkoutName();
-        String text;
-        if (workoutName != null && !workoutName.trim().isEmpty()) {
-            text = workoutName.toLowerCase();
-        } else {
-            text = "";
-        }
-        Set<String> tags = new LinkedHashSet<>();
-
-        // Modality
-        for (var entry : modalityKeywords.entrySet()) {
-            for (String keyword : entry.getValue()) {
-                if (text.contains(keyword)) {
-                    tags.add(entry.getKey().name().toLowerCase());
-                }
-            }
+        // One snapshot, so every name is matched against the same keywords even during a reload
+        KeywordDictionary keywords = dictionary();
+        long found = keywords.match(textOf(w.getWorkoutName()));
+        for (Exercise exercise : w.getExercises()) {
+            found |= keywords.match(textOf(exercise.getName()));
         }
+        return keywords.tagsOf(found);
+    }
 
-        // Muscle groups (can add multiple)
-        for (var entry : muscleKeywords.entrySet()) {
-            for (String keyword : entry.getValue()) {
-                if (text.contains(keyword)) {
-                    tags.add(entry.getKey().name().toLowerCase().replace('_', '-'));
-                }
-            }
-        }
+    @Override
+    public Set<String> suggestForName(String workoutName) {
+        return dictionary().tagsFor(textOf(workoutName));
+    }
 
-        return tags;
+    @Override
+    public Set<String> suggestForExercise(Exercise exercise) {
+        return dictionary().tagsFor(textOf(exercise.getName()));
     }
 
     /**
@@ -104,9 +111,10 @@ public class DefaultTagger implements Tagger {
      *
      * @param modality The {@code Modality} to which the keyword belongs.
      * @param keyword The keyword describing the modality.
+     * @throws IOException If the keyword file cannot be written; the keyword is not added then.
      */
-    public void addModalityKeyword(Modality modality, String keyword) {
-        modalityKeywords.computeIfAbsent(modality, k -> new LinkedHashSet<>()).add(keyword.toLowerCase());
+    public synchronized void addModalityKeyword(Modality modality, String keyword) throws IOException {
+        replace(dictionary().withModalityKeyword(modality, keyword.toLowerCase()));
     }
 
     /**
@@ -117,8 +125,141 @@ public class DefaultTagger implements Tagger {
      *
      * @param muscle The {@code MuscleGroup} to which the keyword belongs.
      * @param keyword The keyword describing the muscle group.
+     * @throws IOException If the keyword file cannot be written; the keyword is not added then.
+     */
+    public synchronized void addMuscleKeyword(MuscleGroup muscle, String keyword) throws IOException {
+        replace(dictionary().withMuscleKeyword(muscle, keyword.toLowerCase()));
+    }
+
+    /**
+     * Returns a short fingerprint of the current keywords, equal for equal keyword sets regardless of the order
+     * they were added in. Used to tell whether work done with earlier keywords is still valid.
+     *
+     * @return The CRC32 of the sorted keywords, in hexadecimal.
      */
-    public void addMuscleKeyword(MuscleGroup muscle, String keyword) {
-        muscleKeywords.computeIfAbsent(muscle, k -> new LinkedHashSet<>()).add(keyword.toLowerCase());
+    public String keywordFingerprint() {
+        return dictionary().fingerprint();
+    }
+
+    /**
+     * Returns a counter bumped each time keywords are added or reloaded from the file.
+     *
+     * @return the current keyword version
+     */
+    @Override
+    public long keywordVersion() {
+        return version;
+    }
+
+    /**
+     * Starts a background thread that reloads the keyword file whenever it changes on disk.
+     * Does nothing for an in-memory tagger or if already watching.
+     *
+     * @throws IOException if the file's directory cannot be watched
+     */
+    public synchronized void watchForChanges() throws IOException {
+        if (keywordFile == null || watcher != null) {
+            return;
+        }
+        Path dir = keywordFile.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        WatchService service = dir.getFileSystem().newWatchService();
+        dir.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        watcher = new Thread(() -> watch(service), "tag-keyword-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Re-reads the keyword file and switches to it if it differs from the keywords in use.
+     * A file that cannot be read or understood, e.g. one caught half-saved by an editor, is ignored.
+     *
+     * @return {@code true} if different keywords were loaded
+     */
+    synchronized boolean reloadFromDisk() {
+        if (keywordFile == null) {
+            return false;
+        }
+        KeywordDictionary current = dictionary();
+        try {
+            KeywordDictionary loaded =
+                    KeywordDictionary.parse(Files.readAllLines(keywordFile, StandardCharsets.UTF_8));
+            if (loaded.render().equals(current.render())) {
+                return false;
+            }
+            dictionary = loaded;
+            version++;
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private KeywordDictionary dictionary() {
+        KeywordDictionary current = dictionary;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (dictionary == null) {
+                dictionary = load();
+            }
+            return dictionary;
+        }
+    }
+
+    /**
+     * Reads the keyword file, creating it with the built-in keywords if it does not exist yet.
+     * A damaged file is left for the user to fix; the built-in keywords are used meanwhile.
+     */
+    private KeywordDictionary load() {
+        try {
+            if (Files.exists(keywordFile)) {
+                return KeywordDictionary.parse(Files.readAllLines(keywordFile, StandardCharsets.UTF_8));
+            }
+            KeywordDictionary defaults = KeywordDictionary.defaults();
+            files.writeString(keywordFile, defaults.render());
+            return defaults;
+        } catch (IOException | IllegalArgumentException e) {
+            return KeywordDictionary.defaults();
+        }
+    }
+
+    private void replace(KeywordDictionary next) throws IOException {
+        if (next == dictionary) {
+            return;
+        }
+        if (keywordFile != null) {
+            files.writeString(keywordFile, next.render());
+        }
+        dictionary = next;
+        version++;
+    }
+
+    private static String textOf(String name) {
+        if (name != null && !name.trim().isEmpty()) {
+            return name.toLowerCase();
+        }
+        return "";
+    }
+
+    private void watch(WatchService service) {
+        try (service) {
+            while (true) {
+                WatchKey key = service.take();
+                boolean touched = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    touched |= keywordFile.getFileName().equals(event.context());
+                }
+                if (touched) {
+                    reloadFromDisk();
+                }
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException | IOException | ClosedWatchServiceException e) {
+            // stop watching; the keywords in use stay as they are
+        }
     }
 }
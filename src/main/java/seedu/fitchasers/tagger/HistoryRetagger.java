@@ -0,0 +1,220 @@
+package seedu.fitchasers.tagger;
+
+import seedu.fitchasers.exceptions.FileNonexistent;
+import seedu.fitchasers.storage.AtomicFileWriter;
+import seedu.fitchasers.storage.FileHandler;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+//@@author Kart04
+/**
+ * Re-runs a {@link Tagger} over every stored workout so auto tags follow keywords added after the fact.
+ * <p>
+ * Months are walked newest first and read one at a time; while a month is being read, the suggestions for the
+ * months read before it are computed on a fork-join pool, a few months ahead at most. A month is written back
+ * only if at least one workout's auto tags changed. Workouts with manual tags were overridden by the user
+ * ({@code /override_workout_tag} clears their auto tags on purpose) and are left alone.
+ * <p>
+ * After each month is on disk it is recorded in a progress file together with a fingerprint of the keywords.
+ * If a run is interrupted, the next run with the same keywords skips the months already done; a run with
+ * different keywords starts over. The progress file is removed once a run completes.
+ * <pre>
+ *   # FitChasers retag progress v1
+ *   keywords|fingerprint
+ *   done|YYYY-MM
+ * </pre>
+ */
+public class HistoryRetagger {
+    public static final String PROGRESS_FILE_NAME = "retag_progress.txt";
+    static final String HEADER = "# FitChasers retag progress v1";
+    private static final int MONTHS_AHEAD_PER_THREAD = 2;
+
+    /**
+     * Receives progress as months are finished.
+     */
+    public interface Progress {
+        /**
+         * Called after a month was checked and, if needed, written back.
+         *
+         * @param month     the month
+         * @param retagged  how many of its workouts got new auto tags
+         * @param monthsRun how many months this run has finished so far
+         */
+        void monthDone(YearMonth month, int retagged, int monthsRun);
+    }
+
+    /**
+     * Outcome of a run.
+     *
+     * @param monthsChecked   months checked by this run
+     * @param monthsRewritten months written back because tags changed
+     * @param workoutsRetagged workouts whose auto tags changed
+     * @param monthsResumed   months skipped because an interrupted run had already done them
+     */
+    public record Summary(int monthsChecked, int monthsRewritten, int workoutsRetagged, int monthsResumed) {
+    }
+
+    private record Pending(YearMonth month, ArrayList<Workout> list, Future<List<Set<String>>> suggestions) {
+    }
+
+    private final FileHandler fileHandler;
+    private final Tagger tagger;
+    private final Path progressFile;
+    private final int parallelism;
+    private final AtomicFileWriter files = new AtomicFileWriter(false);
+
+    /**
+     * Constructs a retagger using one worker per available processor.
+     *
+     * @param fileHandler  the storage holding the history
+     * @param tagger       the tagger to re-run; its {@code suggest} must be safe to call from several threads
+     * @param progressFile where progress is kept, normally {@code data/retag_progress.txt}
+     */
+    public HistoryRetagger(FileHandler fileHandler, Tagger tagger, Path progressFile) {
+        this(fileHandler, tagger, progressFile, Runtime.getRuntime().availableProcessors());
+    }
+
+    HistoryRetagger(FileHandler fileHandler, Tagger tagger, Path progressFile, int parallelism) {
+        this.fileHandler = fileHandler;
+        this.tagger = tagger;
+        this.progressFile = progressFile;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Retags the whole history, resuming an interrupted run made with the same keywords.
+     *
+     * @param fingerprint identifies the tagger's keywords, e.g. {@link DefaultTagger#keywordFingerprint()}
+     * @param progress    told about each finished month
+     * @return what the run did
+     * @throws IOException          if a month or the progress file cannot be read or written
+     * @throws InterruptedException if the calling thread is interrupted; finished months stay recorded
+     */
+    public Summary run(String fingerprint, Progress progress) throws IOException, InterruptedException {
+        Set<YearMonth> done = readProgress(fingerprint);
+        int resumed = done.size();
+        writeProgress(fingerprint, done);
+
+        int checked = 0;
+        int rewritten = 0;
+        int retagged = 0;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        ArrayDeque<Pending> ahead = new ArrayDeque<>();
+        try {
+            YearMonth month = fileHandler.latestMonthBefore(null);
+            while (month != null || !ahead.isEmpty()) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException("Retagging interrupted");
+                }
+                if (month != null && ahead.size() < parallelism * MONTHS_AHEAD_PER_THREAD) {
+                    if (!done.contains(month)) {
+                        ArrayList<Workout> list = loadMonth(month);
+                        ahead.add(new Pending(month, list, pool.submit(() -> suggestAll(list))));
+                    }
+                    month = fileHandler.latestMonthBefore(month);
+                    continue;
+                }
+
+                Pending next = ahead.poll();
+                int changed = applySuggestions(next.list(), await(next.suggestions()));
+                if (changed > 0) {
+                    fileHandler.saveMonthList(next.month(), next.list());
+                    fileHandler.flush(); // the month must be on disk before the progress file says it is done
+                    rewritten++;
+                    retagged += changed;
+                }
+                done.add(next.month());
+                writeProgress(fingerprint, done);
+                checked++;
+                progress.monthDone(next.month(), changed, checked);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        files.delete(progressFile);
+        return new Summary(checked, rewritten, retagged, resumed);
+    }
+
+    private List<Set<String>> suggestAll(List<Workout> list) {
+        // Runs inside the pool, so the parallel stream forks onto the same workers
+        return list.parallelStream().map(tagger::suggest).toList();
+    }
+
+    private static int applySuggestions(List<Workout> list, List<Set<String>> suggestions) {
+        int changed = 0;
+        for (int i = 0; i < list.size(); i++) {
+            Workout w = list.get(i);
+            Set<String> suggested = suggestions.get(i);
+            if (w.getManualTags().isEmpty() && !suggested.equals(w.getAutoTags())) {
+                w.setAutoTags(new LinkedHashSet<>(suggested));
+                changed++;
+            }
+        }
+        return changed;
+    }
+
+    private ArrayList<Workout> loadMonth(YearMonth month) throws IOException {
+        try {
+            return fileHandler.loadMonthList(month);
+        } catch (FileNonexistent e) {
+            return new ArrayList<>(); // the index was ahead of the files; nothing to retag
+        }
+    }
+
+    private static <T> T await(Future<T> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw new IOException("Tagging failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Returns the months an interrupted run with the same keywords finished, or none if there was no such run.
+     */
+    private Set<YearMonth> readProgress(String fingerprint) throws IOException {
+        Set<YearMonth> done = new TreeSet<>();
+        if (!Files.exists(progressFile)) {
+            return done;
+        }
+        List<String> lines = Files.readAllLines(progressFile, StandardCharsets.UTF_8);
+        if (lines.size() < 2 || !HEADER.equals(lines.get(0)) || !("keywords|" + fingerprint).equals(lines.get(1))) {
+            return done;
+        }
+        for (String line : lines.subList(2, lines.size())) {
+            if (line.startsWith("done|")) {
+                try {
+                    done.add(YearMonth.parse(line.substring(5)));
+                } catch (DateTimeParseException e) {
+                    // a damaged line only means that month is checked again
+                }
+            }
+        }
+        return done;
+    }
+
+    private void writeProgress(String fingerprint, Set<YearMonth> done) throws IOException {
+        StringBuilder sb = new StringBuilder(HEADER).append(System.lineSeparator());
+        sb.append("keywords|").append(fingerprint).append(System.lineSeparator());
+        for (YearMonth month : done) {
+            sb.append("done|").append(month).append(System.lineSeparator());
+        }
+        files.writeString(progressFile, sb.toString());
+    }
+}
@@ -0,0 +1,278 @@
+package seedu.fitchasers.tagger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+//@@author Kart04
+/**
+ * Immutable set of tagging keywords per modality and muscle group, with its compiled {@link KeywordMatcher}.
+ * <p>
+ * Adding a keyword returns a new dictionary, so a tagger can swap dictionaries with a single write and
+ * readers always see a complete, compiled one. The file format lists one keyword per line:
+ * <pre>
+ *   # FitChasers tag keywords v1
+ *   modality|CARDIO|run
+ *   muscle|LEGS|leg day
+ * </pre>
+ */
+final class KeywordDictionary {
+    static final String HEADER = "# FitChasers tag keywords v1";
+    private static final String MODALITY = "modality";
+    private static final String MUSCLE = "muscle";
+    private static final String SEP = "|";
+
+    // Tag bit i is Modality i, then MuscleGroup i at MUSCLE_BIT_OFFSET + i; this is also the order tags are listed
+    private static final Modality[] MODALITIES = Modality.values();
+    private static final MuscleGroup[] MUSCLES = MuscleGroup.values();
+    private static final int MUSCLE_BIT_OFFSET = MODALITIES.length;
+    private static final String[] TAG_NAMES = tagNames();
+
+    private final EnumMap<Modality, Set<String>> modalityKeywords;
+    private final EnumMap<MuscleGroup, Set<String>> muscleKeywords;
+    private final KeywordMatcher matcher;
+
+    private KeywordDictionary(EnumMap<Modality, Set<String>> modalityKeywords,
+                              EnumMap<MuscleGroup, Set<String>> muscleKeywords) {
+        this.modalityKeywords = modalityKeywords;
+        this.muscleKeywords = muscleKeywords;
+        this.matcher = compile(modalityKeywords, muscleKeywords);
+    }
+
+    /**
+     * Returns the built-in keywords used before any are added.
+     */
+    static KeywordDictionary defaults() {
+        EnumMap<Modality, Set<String>> modality = new EnumMap<>(Modality.class);
+        EnumMap<MuscleGroup, Set<String>> muscle = new EnumMap<>(MuscleGroup.class);
+
+        // Modality keywords
+        modality.put(Modality.CARDIO, new LinkedHashSet<>(Set.of(
+                "run", "jog", "swim", "cycle", "treadmill", "rower"
+        )));
+        modality.put(Modality.STRENGTH, new LinkedHashSet<>(Set.of(
+                "lift", "deadlift", "squat", "bench", "press", "hypertrophy"
+        )));
+
+        // Muscle group keywords
+        muscle.put(MuscleGroup.LEGS, new LinkedHashSet<>(Set.of(
+                "leg", "squat", "hamstring", "quad", "calf", "leg day"
+        )));
+        muscle.put(MuscleGroup.POSTERIOR_CHAIN, new LinkedHashSet<>(Set.of("deadlift")));
+        muscle.put(MuscleGroup.CHEST, new LinkedHashSet<>(Set.of("bench", "push-up", "chest")));
+        muscle.put(MuscleGroup.BACK, new LinkedHashSet<>(Set.of(
+                "row", "pull-up", "lat", "back", "lift", "swim"
+        )));
+        muscle.put(MuscleGroup.SHOULDERS, new LinkedHashSet<>(Set.of(
+                "ohp", "overhead press", "shoulder"
+        )));
+        muscle.put(MuscleGroup.ARMS, new LinkedHashSet<>(Set.of("bicep", "tricep", "curl")));
+        muscle.put(MuscleGroup.CORE, new LinkedHashSet<>(Set.of("abs", "core", "plank")));
+        return new KeywordDictionary(modality, muscle);
+    }
+
+    /**
+     * Returns a copy of this dictionary with one more modality keyword.
+     *
+     * @param modality The modality the keyword implies.
+     * @param keyword  The keyword, already in lower case.
+     * @return The new dictionary, or this one if it already has the keyword.
+     */
+    KeywordDictionary withModalityKeyword(Modality modality, String keyword) {
+        if (modalityKeywords.getOrDefault(modality, Set.of()).contains(keyword)) {
+            return this;
+        }
+        EnumMap<Modality, Set<String>> modalities = copy(modalityKeywords);
+        modalities.computeIfAbsent(modality, k -> new LinkedHashSet<>()).add(keyword);
+        return new KeywordDictionary(modalities, copy(muscleKeywords));
+    }
+
+    /**
+     * Returns a copy of this dictionary with one more muscle group keyword.
+     *
+     * @param muscle  The muscle group the keyword implies.
+     * @param keyword The keyword, already in lower case.
+     * @return The new dictionary, or this one if it already has the keyword.
+     */
+    KeywordDictionary withMuscleKeyword(MuscleGroup muscle, String keyword) {
+        if (muscleKeywords.getOrDefault(muscle, Set.of()).contains(keyword)) {
+            return this;
+        }
+        EnumMap<MuscleGroup, Set<String>> muscles = copy(muscleKeywords);
+        muscles.computeIfAbsent(muscle, k -> new LinkedHashSet<>()).add(keyword);
+        return new KeywordDictionary(copy(modalityKeywords), muscles);
+    }
+
+    /**
+     * Returns the tags implied by the keywords occurring in a text, modalities first, in declaration order.
+     *
+     * @param text The lower-case text to scan.
+     * @return The tags in lower case, muscle groups with hyphens instead of underscores.
+     */
+    Set<String> tagsFor(String text) {
+        return tagsOf(match(text));
+    }
+
+    /**
+     * Returns the tag bits of the keywords occurring in a text. Bits of several texts can be combined with
+     * {@code |} and turned into tags once with {@link #tagsOf(long)}.
+     *
+     * @param text The lower-case text to scan.
+     * @return The tag bits; 0 if no keyword occurs.
+     */
+    long match(String text) {
+        return matcher.match(text);
+    }
+
+    /**
+     * Returns the tags for the given tag bits, modalities first, in declaration order.
+     *
+     * @param found Tag bits from {@link #match(String)}.
+     * @return The tags in lower case, muscle groups with hyphens instead of underscores.
+     */
+    Set<String> tagsOf(long found) {
+        Set<String> tags = new LinkedHashSet<>();
+        for (int bit = 0; bit < TAG_NAMES.length; bit++) {
+            if ((found & (1L << bit)) != 0) {
+                tags.add(TAG_NAMES[bit]);
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the given tags in the order {@link #tagsOf(long)} lists them, followed by any tags that are not
+     * modalities or muscle groups in their original order. Taggers that merge the tags of several names use it
+     * so the result does not depend on which name contributed a tag first.
+     *
+     * @param tags The merged tags.
+     * @return A new set with the same tags.
+     */
+    static Set<String> inTagOrder(Set<String> tags) {
+        Set<String> ordered = new LinkedHashSet<>();
+        for (String tag : TAG_NAMES) {
+            if (tags.contains(tag)) {
+                ordered.add(tag);
+            }
+        }
+        ordered.addAll(tags);
+        return ordered;
+    }
+
+    private static String[] tagNames() {
+        // Modality, then muscle groups, in bit order
+        String[] names = new String[MUSCLE_BIT_OFFSET + MUSCLES.length];
+        for (Modality modality : MODALITIES) {
+            names[modality.ordinal()] = modality.name().toLowerCase();
+        }
+        for (MuscleGroup muscle : MUSCLES) {
+            names[MUSCLE_BIT_OFFSET + muscle.ordinal()] = muscle.name().toLowerCase().replace('_', '-');
+        }
+        return names;
+    }
+
+    /**
+     * Returns a short fingerprint, equal for equal keyword sets regardless of the order keywords were added in.
+     *
+     * @return The CRC32 of the sorted keywords, in hexadecimal.
+     */
+    String fingerprint() {
+        CRC32 crc = new CRC32();
+        for (String line : new TreeSet<>(lines())) {
+            crc.update((line + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        return Long.toHexString(crc.getValue());
+    }
+
+    /**
+     * Serialises the dictionary in the file format described above.
+     *
+     * @return The file contents.
+     */
+    String render() {
+        StringBuilder sb = new StringBuilder(HEADER).append(System.lineSeparator());
+        for (String line : lines()) {
+            sb.append(line).append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Reads a dictionary written by {@link #render()} or edited by hand. Blank lines are ignored.
+     *
+     * @param lines The file's lines.
+     * @return The dictionary.
+     * @throws IllegalArgumentException If the header is missing or a line cannot be understood.
+     */
+    static KeywordDictionary parse(List<String> lines) {
+        if (lines.isEmpty() || !HEADER.equals(lines.get(0).trim())) {
+            throw new IllegalArgumentException("Not a tag keyword file");
+        }
+        EnumMap<Modality, Set<String>> modality = new EnumMap<>(Modality.class);
+        EnumMap<MuscleGroup, Set<String>> muscle = new EnumMap<>(MuscleGroup.class);
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] f = line.split("\\" + SEP, 3);
+            if (f.length != 3 || f[2].isBlank()) {
+                throw new IllegalArgumentException("Bad keyword line: " + line);
+            }
+            String keyword = f[2].trim().toLowerCase();
+            if (MODALITY.equals(f[0])) {
+                modality.computeIfAbsent(Modality.valueOf(f[1]), k -> new LinkedHashSet<>()).add(keyword);
+            } else if (MUSCLE.equals(f[0])) {
+                muscle.computeIfAbsent(MuscleGroup.valueOf(f[1]), k -> new LinkedHashSet<>()).add(keyword);
+            } else {
+                throw new IllegalArgumentException("Bad keyword line: " + line);
+            }
+        }
+        return new KeywordDictionary(modality, muscle);
+    }
+
+    private List<String> lines() {
+        List<String> lines = new ArrayList<>();
+        for (var entry : modalityKeywords.entrySet()) {
+            for (String keyword : entry.getValue()) {
+                lines.add(MODALITY + SEP + entry.getKey() + SEP + keyword);
+            }
+        }
+        for (var entry : muscleKeywords.entrySet()) {
+            for (String keyword : entry.getValue()) {
+                lines.add(MUSCLE + SEP + entry.getKey() + SEP + keyword);
+            }
+        }
+        return Collections.unmodifiableList(lines);
+    }
+
+    private static <K extends Enum<K>> EnumMap<K, Set<String>> copy(EnumMap<K, Set<String>> map) {
+        EnumMap<K, Set<String>> copy = new EnumMap<>(map);
+        copy.replaceAll((k, v) -> new LinkedHashSet<>(v));
+        return copy;
+    }
+
+    private static KeywordMatcher compile(Map<Modality, Set<String>> modality, Map<MuscleGroup, Set<String>> muscle) {
+        Map<String, Long> masks = new HashMap<>();
+        for (var entry : modality.entrySet()) {
+            long bit = 1L << entry.getKey().ordinal();
+            for (String keyword : entry.getValue()) {
+                masks.merge(keyword, bit, (a, b) -> a | b);
+            }
+        }
+        for (var entry : muscle.entrySet()) {
+            long bit = 1L << (MUSCLE_BIT_OFFSET + entry.getKey().ordinal());
+            for (String keyword : entry.getValue()) {
+                masks.merge(keyword, bit, (a, b) -> a | b);
+            }
+        }
+        return KeywordMatcher.compile(masks);
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.fitchasers.tagger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+//@@author Kart04
+/**
+ * Aho-Corasick automaton that finds every keyword occurring in a text in a single pass.
+ * <p>
+ * Each keyword carries a bit mask of the tags it implies; matching returns the union of the masks of all
+ * keywords found anywhere in the text, exactly as if {@link String#contains} had been called for each keyword,
+ * but in time proportional to the text length rather than to the number of keywords. Instances are immutable,
+ * so one can be shared between threads and replaced wholesale when keywords change.
+ */
+final class KeywordMatcher {
+    private static final char[] NO_KEYS = new char[0];
+    private static final int[] NO_CHILDREN = new int[0];
+
+    // Per state: outgoing trie edges sorted by character, the failure link, and the tags matched on arrival
+    private final char[][] keys;
+    private final int[][] children;
+    private final int[] fail;
+    private final long[] output;
+
+    private KeywordMatcher(char[][] keys, int[][] children, int[] fail, long[] output) {
+        this.keys = keys;
+        this.children = children;
+        this.fail = fail;
+        this.output = output;
+    }
+
+    /**
+     * Compiles an automaton for the given keywords.
+     *
+     * @param keywords Each keyword mapped to the mask of tags it implies; keywords are matched as given.
+     * @return The compiled matcher.
+     */
+    static KeywordMatcher compile(Map<String, Long> keywords) {
+        List<TreeMap<Character, Integer>> edges = new ArrayList<>();
+        List<Long> masks = new ArrayList<>();
+        edges.add(new TreeMap<>());
+        masks.add(0L);
+        for (Map.Entry<String, Long> e : keywords.entrySet()) {
+            int state = 0;
+            for (char c : e.getKey().toCharArray()) {
+                Integer next = edges.get(state).get(c);
+                if (next == null) {
+                    next = edges.size();
+                    edges.add(new TreeMap<>());
+                    masks.add(0L);
+                    edges.get(state).put(c, next);
+                }
+                state = next;
+            }
+            masks.set(state, masks.get(state) | e.getValue());
+        }
+
+        int n = edges.size();
+        char[][] keys = new char[n][];
+        int[][] children = new int[n][];
+        long[] output = new long[n];
+        for (int s = 0; s < n; s++) {
+            TreeMap<Character, Integer> out = edges.get(s);
+            keys[s] = out.isEmpty() ? NO_KEYS : new char[out.size()];
+            children[s] = out.isEmpty() ? NO_CHILDREN : new int[out.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : out.entrySet()) {
+                keys[s][i] = edge.getKey();
+                children[s][i++] = edge.getValue();
+            }
+            output[s] = masks.get(s);
+        }
+
+        // Breadth-first so a state's failure target is complete before the state inherits its output
+        int[] fail = new int[n];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : children[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int s = queue.poll();
+            for (int i = 0; i < keys[s].length; i++) {
+                int child = children[s][i];
+                int f = fail[s];
+                int target;
+                while ((target = step(keys, children, f, keys[s][i])) < 0 && f != 0) {
+                    f = fail[f];
+                }
+                fail[child] = target < 0 ? 0 : target;
+                output[child] |= output[fail[child]];
+                queue.add(child);
+            }
+        }
+        return new KeywordMatcher(keys, children, fail, output);
+    }
+
+    /**
+     * Returns the union of the tag masks of every keyword occurring in the text.
+     *
+     * @param text The text to scan, already in the case the keywords were compiled in.
+     * @return The combined mask; 0 if no keyword occurs.
+     */
+    long match(CharSequence text) {
+        long found = output[0];
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = step(keys, children, state, c)) < 0 && state != 0) {
+                state = fail[state];
+            }
+            state = next < 0 ? 0 : next;
+            found |= output[state];
+        }
+        return found;
+    }
+
+    /**
+     * Returns the number of automaton states, i.e. distinct keyword prefixes plus the root.
+     */
+    int size() {
+        return fail.length;
+    }
+
+    private static int step(char[][] keys, int[][] children, int state, char c) {
+        char[] k = keys[state];
+        int lo = 0;
+        int hi = k.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (k[mid] < c) {
+                lo = mid + 1;
+            } else if (k[mid] > c) {
+                hi = mid - 1;
+            } else {
+                return children[state][mid];
+            }
+        }
+        return -1;
+    }
+}
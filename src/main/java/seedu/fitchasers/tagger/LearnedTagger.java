@@ -0,0 +1,203 @@
+package seedu.fitchasers.tagger;
+
+import seedu.fitchasers.search.SearchQuery;
+import seedu.fitchasers.storage.AtomicFileWriter;
+import seedu.fitchasers.storage.FileHandler;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+//@@author Kart04
+/**
+ * Tagger that adds the tags users tend to give by hand to the suggestions of a keyword tagger.
+ * <p>
+ * Every {@code /override_workout_tag} is a labelled example. A {@link TagModel} learned from them predicts
+ * such a tag from the words of a workout or exercise name, and a confident prediction is merged into the
+ * keyword tagger's suggestion for that name. Like the keyword tagger, names and exercises are scored one at a
+ * time, so suggestions can still be merged in exercise by exercise.
+ * <p>
+ * The model lives in a file, normally {@code data/tag_model.txt}, read on the first suggestion. Each override is
+ * folded into it by {@link #learn(Workout, Set)}, which moves that workout's names from their old tags to the new
+ * ones and saves the model, so the history is never read again for it. Only when there is no usable model file,
+ * e.g. on the first run, is it learned from the whole history by {@link #trainInBackgroundIfMissing(FileHandler)}
+ * while the app is in use; the new model replaces the empty one in a single write once it is done.
+ */
+public class LearnedTagger implements Tagger {
+    public static final String MODEL_FILE_NAME = "tag_model.txt";
+
+    private final Tagger keywords;
+    private final Path modelFile;
+    private final AtomicFileWriter files = new AtomicFileWriter(false);
+    private volatile TagModel model;
+    private volatile long modelVersion;
+    private boolean saved; // whether the model in use was read from or written to the model file
+    private Thread trainer;
+
+    /**
+     * Constructs a tagger blending the given keyword tagger with the model kept in the given file.
+     * Nothing is read until the first suggestion.
+     *
+     * @param keywords  the keyword tagger whose suggestions are extended
+     * @param modelFile the model file
+     */
+    public LearnedTagger(Tagger keywords, Path modelFile) {
+        this.keywords = keywords;
+        this.modelFile = modelFile;
+    }
+
+    /**
+     * Suggests the keyword tagger's tags for the workout's name and exercises, plus the tags predicted for each.
+     *
+     * @param w the workout to tag
+     * @return the suggested tags
+     */
+    @Override
+    public Set<String> suggest(Workout w) {
+        Set<String> tags = new LinkedHashSet<>(suggestForName(w.getWorkoutName()));
+        for (Exercise exercise : w.getExercises()) {
+            tags.addAll(suggestForExercise(exercise));
+        }
+        return KeywordDictionary.inTagOrder(tags);
+    }
+
+    @Override
+    public Set<String> suggestForName(String workoutName) {
+        return blend(keywords.suggestForName(workoutName), workoutName);
+    }
+
+    @Override
+    public Set<String> suggestForExercise(Exercise exercise) {
+        return blend(keywords.suggestForExercise(exercise), exercise.getName());
+    }
+
+    /**
+     * Returns a counter that changes whenever the keywords or the model change.
+     *
+     * @return the current version
+     */
+    @Override
+    public long keywordVersion() {
+        // Both parts only ever grow, so their sum changes whenever either does
+        return keywords.keywordVersion() + modelVersion;
+    }
+
+    /**
+     * Returns a short fingerprint of the model in use, to tell whether work done with an earlier model is valid.
+     *
+     * @return the CRC32 of the model, in hexadecimal
+     */
+    public String modelFingerprint() {
+        return model().fingerprint();
+    }
+
+    /**
+     * Starts a background thread that learns the model from the whole history and saves it, if no model file
+     * could be read. Does nothing if a model was read or training has already been started. If training fails,
+     * the model in use is kept.
+     *
+     * @param fileHandler the storage holding the history
+     */
+    public synchronized void trainInBackgroundIfMissing(FileHandler fileHandler) {
+        model();
+        if (saved || trainer != null) {
+            return;
+        }
+        trainer = new Thread(() -> {
+            try {
+                retrain(fileHandler);
+            } catch (IOException | RuntimeException e) {
+                // keep the model in use; the next session tries again
+            }
+        }, "tag-model-trainer");
+        trainer.setDaemon(true);
+        trainer.setPriority(Thread.MIN_PRIORITY);
+        trainer.start();
+    }
+
+    /**
+     * Learns the model from the whole history, saves it and switches to it if it differs from the one in use.
+     *
+     * @param fileHandler the storage holding the history
+     * @return {@code true} if a different model was switched to
+     * @throws IOException if the history cannot be read or the model cannot be written
+     */
+    boolean retrain(FileHandler fileHandler) throws IOException {
+        // An override made while the history is read is kept only if its month had not been read yet
+        TagModel trained = new TagModelTrainer(fileHandler).train();
+        String rendered = trained.render();
+        synchronized (this) {
+            if (rendered.equals(model().render())) {
+                return false;
+            }
+            files.writeString(modelFile, rendered);
+            model = trained;
+            saved = true;
+            modelVersion++;
+            return true;
+        }
+    }
+
+    /**
+     * Folds an override into the model: the workout's names stop counting towards the tags it had and count
+     * towards the ones it has now. The updated model is saved before it is used.
+     *
+     * @param workout the retagged workout, already carrying its new manual tags
+     * @param oldTags the manual tags it had before; empty if it had none
+     * @throws IOException if the model cannot be written; the model in use is kept then
+     */
+    public synchronized void learn(Workout workout, Set<String> oldTags) throws IOException {
+        TagModelTrainer update = TagModelTrainer.startingFrom(model());
+        update.removeWorkout(workout, oldTags);
+        update.addWorkout(workout, workout.getManualTags());
+        TagModel updated = update.build();
+        files.writeString(modelFile, updated.render());
+        model = updated;
+        saved = true;
+        modelVersion++;
+    }
+
+    private Set<String> blend(Set<String> keywordTags, String name) {
+        Set<String> learned = model().predict(SearchQuery.tokenize(name));
+        if (learned.isEmpty() || keywordTags.containsAll(learned)) {
+            return keywordTags;
+        }
+        Set<String> tags = new LinkedHashSet<>(keywordTags);
+        tags.addAll(learned);
+        return tags;
+    }
+
+    private TagModel model() {
+        TagModel current = model;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (model == null) {
+                model = load();
+            }
+            return model;
+        }
+    }
+
+    /**
+     * Reads the model file. A missing or damaged file means no model yet; training from the history replaces it.
+     */
+    private TagModel load() {
+        try {
+            if (Files.exists(modelFile)) {
+                TagModel read = TagModel.parse(Files.readAllLines(modelFile, StandardCharsets.UTF_8));
+                saved = true;
+                return read;
+            }
+        } catch (IOException | RuntimeException e) {
+            // fall through to an empty model
+        }
+        return TagModel.empty();
+    }
+}
@@ -0,0 +1,240 @@
+package seedu.fitchasers.tagger;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+//@@author Kart04
+/**
+ * Immutable multinomial naive Bayes model predicting manual tags from the words of workout and exercise names.
+ * <p>
+ * Every manual tag seen in training is a class, next to a "no tag" class for workouts the user never retagged.
+ * An example is one workout or exercise name. Only word counts are stored; the log probabilities are derived
+ * once when the model is built, so scoring a name is a few array additions per word. Tags seen on fewer than
+ * {@link #MIN_EXAMPLES} examples are kept in the counts but left out of scoring until they have more. A tag is
+ * predicted only if it beats every other class, including "no tag", with at least {@link #MIN_CONFIDENCE}
+ * posterior probability. File format:
+ * <pre>
+ *   # FitChasers tag model v2
+ *   class|examples|words|tag        (the first class line is "no tag" and has an empty tag)
+ *   word|word|class:count class:count ...
+ * </pre>
+ */
+final class TagModel {
+    // v2 counts each workout and exercise name as its own example; v1 files are relearned
+    static final String HEADER = "# FitChasers tag model v2";
+    static final double MIN_CONFIDENCE = 0.8;
+    static final int MIN_EXAMPLES = 3;
+    private static final String SEP = "|";
+    private static final double SMOOTHING = 1.0;
+
+    private final String[] classes; // classes[0] is "no tag"
+    private final int[] classDocs;
+    private final int[] classWords;
+    private final Map<String, Map<Integer, Integer>> wordCounts;
+
+    // Derived: log P(class) and, per known word, log P(word | class)
+    private final double[] logPrior;
+    private final Map<String, float[]> logLikelihood;
+
+    TagModel(String[] classes, int[] classDocs, int[] classWords, Map<String, Map<Integer, Integer>> wordCounts) {
+        this.classes = classes;
+        this.classDocs = classDocs;
+        this.classWords = classWords;
+        this.wordCounts = wordCounts;
+
+        int totalDocs = 0;
+        for (int docs : classDocs) {
+            totalDocs += docs;
+        }
+        int vocabulary = wordCounts.size();
+        logPrior = new double[classes.length];
+        for (int c = 0; c < classes.length; c++) {
+            logPrior[c] = Math.log((classDocs[c] + SMOOTHING) / (totalDocs + SMOOTHING * classes.length));
+        }
+        logLikelihood = new HashMap<>();
+        for (Map.Entry<String, Map<Integer, Integer>> e : wordCounts.entrySet()) {
+            float[] logs = new float[classes.length];
+            for (int c = 0; c < classes.length; c++) {
+                int count = e.getValue().getOrDefault(c, 0);
+                logs[c] = (float) Math.log((count + SMOOTHING) / (classWords[c] + SMOOTHING * vocabulary));
+            }
+            logLikelihood.put(e.getKey(), logs);
+        }
+    }
+
+    /**
+     * Returns a model that predicts nothing, used until one has been trained.
+     */
+    static TagModel empty() {
+        return new TagModel(new String[] {""}, new int[1], new int[1], Map.of());
+    }
+
+    /**
+     * Returns the tags predicted for the given words.
+     *
+     * @param words Lower-case words, as produced by {@code SearchQuery.tokenize}.
+     * @return The predicted tag, or an empty set if no tag is predicted confidently.
+     */
+    Set<String> predict(Collection<String> words) {
+        if (classes.length < 2) {
+            return Set.of();
+        }
+        double[] score = logPrior.clone();
+        boolean known = false;
+        for (String word : words) {
+            float[] logs = logLikelihood.get(word);
+            if (logs == null) {
+                continue; // words never seen in training say nothing about any class
+            }
+            known = true;
+            for (int c = 0; c < score.length; c++) {
+                score[c] += logs[c];
+            }
+        }
+        if (!known) {
+            return Set.of();
+        }
+
+        int best = 0;
+        for (int c = 1; c < score.length; c++) {
+            if (isScored(c) && score[c] > score[best]) {
+                best = c;
+            }
+        }
+        if (best == 0) {
+            return Set.of();
+        }
+        double total = 0;
+        for (int c = 0; c < score.length; c++) {
+            if (isScored(c)) {
+                total += Math.exp(score[c] - score[best]);
+            }
+        }
+        return 1 / total >= MIN_CONFIDENCE ? Set.of(classes[best]) : Set.of();
+    }
+
+    private boolean isScored(int c) {
+        return c == 0 || classDocs[c] >= MIN_EXAMPLES;
+    }
+
+    /**
+     * Returns the number of examples the model was trained on; a name whose workout has several manual tags
+     * counts once per tag.
+     */
+    int trainedOn() {
+        int total = 0;
+        for (int docs : classDocs) {
+            total += docs;
+        }
+        return total;
+    }
+
+    String[] classes() {
+        return classes.clone();
+    }
+
+    int examplesOf(int c) {
+        return classDocs[c];
+    }
+
+    int wordsOf(int c) {
+        return classWords[c];
+    }
+
+    Map<String, Map<Integer, Integer>> wordCounts() {
+        return Collections.unmodifiableMap(wordCounts);
+    }
+
+    /**
+     * Returns a short fingerprint of the model's counts.
+     *
+     * @return The CRC32 of the rendered model, in hexadecimal.
+     */
+    String fingerprint() {
+        CRC32 crc = new CRC32();
+        crc.update(render().getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    /**
+     * Serialises the model in the file format described above, words in alphabetical order.
+     *
+     * @return The file contents.
+     */
+    String render() {
+        String nl = System.lineSeparator();
+        StringBuilder sb = new StringBuilder(HEADER).append(nl);
+        for (int c = 0; c < classes.length; c++) {
+            sb.append("class").append(SEP).append(classDocs[c]).append(SEP).append(classWords[c]).append(SEP)
+                    .append(classes[c]).append(nl);
+        }
+        for (Map.Entry<String, Map<Integer, Integer>> e : new TreeMap<>(wordCounts).entrySet()) {
+            sb.append("word").append(SEP).append(e.getKey()).append(SEP);
+            String gap = "";
+            for (Map.Entry<Integer, Integer> count : new TreeMap<>(e.getValue()).entrySet()) {
+                sb.append(gap).append(count.getKey()).append(':').append(count.getValue());
+                gap = " ";
+            }
+            sb.append(nl);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Reads a model written by {@link #render()}. Blank lines are ignored.
+     *
+     * @param lines The file's lines.
+     * @return The model.
+     * @throws IllegalArgumentException If the header is missing or a line cannot be understood.
+     */
+    static TagModel parse(List<String> lines) {
+        if (lines.isEmpty() || !HEADER.equals(lines.get(0).trim())) {
+            throw new IllegalArgumentException("Not a tag model file");
+        }
+        List<String> classes = new ArrayList<>();
+        List<int[]> sizes = new ArrayList<>();
+        Map<String, Map<Integer, Integer>> words = new HashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (line.startsWith("class" + SEP)) {
+                String[] f = line.split("\\" + SEP, 4);
+                sizes.add(new int[] {Integer.parseInt(f[1]), Integer.parseInt(f[2])});
+                classes.add(f[3]);
+            } else if (line.startsWith("word" + SEP)) {
+                String[] f = line.split("\\" + SEP, 3);
+                Map<Integer, Integer> counts = new HashMap<>();
+                for (String pair : f[2].split(" ")) {
+                    int colon = pair.indexOf(':');
+                    int c = Integer.parseInt(pair.substring(0, colon));
+                    if (c < 0 || c >= classes.size()) {
+                        throw new IllegalArgumentException("Unknown class in: " + line);
+                    }
+                    counts.put(c, Integer.parseInt(pair.substring(colon + 1)));
+                }
+                words.put(f[1], counts);
+            } else {
+                throw new IllegalArgumentException("Bad model line: " + line);
+            }
+        }
+        if (classes.isEmpty()) {
+            throw new IllegalArgumentException("Tag model has no classes");
+        }
+        int[] docs = new int[classes.size()];
+        int[] wordTotals = new int[classes.size()];
+        for (int c = 0; c < classes.size(); c++) {
+            docs[c] = sizes.get(c)[0];
+            wordTotals[c] = sizes.get(c)[1];
+        }
+        return new TagModel(classes.toArray(new String[0]), docs, wordTotals, words);
+    }
+}
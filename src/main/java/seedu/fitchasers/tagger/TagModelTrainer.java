@@ -0,0 +1,228 @@
+package seedu.fitchasers.tagger;
+
+import seedu.fitchasers.exceptions.FileNonexistent;
+import seedu.fitchasers.search.SearchQuery;
+import seedu.fitchasers.storage.FileHandler;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//@@author Kart04
+/**
+ * Counts words per manual tag and builds a {@link TagModel} from the counts.
+ * <p>
+ * Each workout contributes one example per name it is scored on: its own name and each exercise name, matching
+ * how {@link LearnedTagger} predicts. Workouts without manual tags count towards the "no tag" class: the user
+ * saw their auto tags and left them.
+ * <p>
+ * A trainer either reads the whole history, one month at a time and newest first, keeping only the words and
+ * manual tags of each workout so memory grows with the vocabulary rather than with the history, or starts from
+ * an existing model's counts so a single retagged workout can be moved to its new tags.
+ */
+final class TagModelTrainer {
+    private static final int READ_ATTEMPTS = 3;
+
+    private final FileHandler fileHandler;
+    private final Map<String, Integer> classIndex = new LinkedHashMap<>();
+    private final List<int[]> classSizes = new ArrayList<>(); // per class: examples, words
+    private final Map<String, Map<Integer, Integer>> wordCounts = new HashMap<>();
+
+    /**
+     * Constructs a trainer reading the history held by the given storage.
+     *
+     * @param fileHandler the storage holding the history
+     */
+    TagModelTrainer(FileHandler fileHandler) {
+        this.fileHandler = fileHandler;
+        classIndex.put("", 0);
+        classSizes.add(new int[2]);
+    }
+
+    /**
+     * Returns a trainer holding the counts of the given model, to update it without reading the history.
+     *
+     * @param model the model to start from
+     * @return the trainer
+     */
+    static TagModelTrainer startingFrom(TagModel model) {
+        TagModelTrainer trainer = new TagModelTrainer((FileHandler) null);
+        trainer.classIndex.clear();
+        trainer.classSizes.clear();
+        String[] classes = model.classes();
+        for (int c = 0; c < classes.length; c++) {
+            trainer.classIndex.put(classes[c], c);
+            trainer.classSizes.add(new int[] {model.examplesOf(c), model.wordsOf(c)});
+        }
+        model.wordCounts().forEach((word, counts) -> trainer.wordCounts.put(word, new HashMap<>(counts)));
+        return trainer;
+    }
+
+    /**
+     * Reads every month and returns the model trained on all workouts in them.
+     *
+     * @return the trained model
+     * @throws IOException if a month cannot be read
+     */
+    TagModel train() throws IOException {
+        YearMonth month = fileHandler.latestMonthBefore(null);
+        while (month != null) {
+            addMonth(month);
+            month = fileHandler.latestMonthBefore(month);
+        }
+        return build();
+    }
+
+    /**
+     * Counts one example's words towards each of its manual tags, or towards "no tag" if it has none.
+     *
+     * @param words      the words of one workout or exercise name
+     * @param manualTags the tags the user gave the workout
+     */
+    void add(List<String> words, Set<String> manualTags) {
+        for (int c : classesOf(manualTags)) {
+            count(c, words, 1);
+        }
+    }
+
+    /**
+     * Counts a workout's names towards its manual tags.
+     *
+     * @param workout    the workout
+     * @param manualTags the tags the user gave it
+     */
+    void addWorkout(Workout workout, Set<String> manualTags) {
+        for (List<String> words : examplesOf(workout)) {
+            add(words, manualTags);
+        }
+    }
+
+    /**
+     * Takes a workout's names back out of the counts of the tags it had. A workout saved after the counts were
+     * taken was never counted; its words are then taken from the other examples of the same tags, never below
+     * zero, which the smoothing of the model absorbs.
+     *
+     * @param workout    the workout
+     * @param manualTags the tags it was counted under
+     */
+    void removeWorkout(Workout workout, Set<String> manualTags) {
+        for (List<String> words : examplesOf(workout)) {
+            for (int c : classesOf(manualTags)) {
+                count(c, words, -1);
+            }
+        }
+    }
+
+    /**
+     * Builds a model from everything counted so far.
+     *
+     * @return the model
+     */
+    TagModel build() {
+        int n = classIndex.size();
+        int[] docs = new int[n];
+        int[] words = new int[n];
+        for (int c = 0; c < n; c++) {
+            docs[c] = classSizes.get(c)[0];
+            words[c] = classSizes.get(c)[1];
+        }
+        Map<String, Map<Integer, Integer>> copy = new HashMap<>();
+        wordCounts.forEach((word, counts) -> copy.put(word, Map.copyOf(counts)));
+        return new TagModel(classIndex.keySet().toArray(new String[0]), docs, words, copy);
+    }
+
+    /**
+     * Returns the examples a workout is trained on: the words of its name, then those of each exercise name,
+     * the same units {@link LearnedTagger} scores. Names without words are left out.
+     *
+     * @param workout the workout
+     * @return one list of words per name, repeated words kept
+     */
+    static List<List<String>> examplesOf(Workout workout) {
+        List<List<String>> examples = new ArrayList<>();
+        addIfAny(examples, SearchQuery.tokenize(workout.getWorkoutName()));
+        for (Exercise e : workout.getExercises()) {
+            addIfAny(examples, SearchQuery.tokenize(e.getName()));
+        }
+        return examples;
+    }
+
+    private static void addIfAny(List<List<String>> examples, List<String> words) {
+        if (!words.isEmpty()) {
+            examples.add(words);
+        }
+    }
+
+    private void addMonth(YearMonth month) throws IOException {
+        // The month list is shared with the session, which may be editing it; copy out what is needed
+        // under the storage lock and read again if an edit got in the way
+        for (int attempt = 1; ; attempt++) {
+            List<List<List<String>>> examples = new ArrayList<>();
+            List<Set<String>> tags = new ArrayList<>();
+            try {
+                synchronized (fileHandler) {
+                    for (Workout w : fileHandler.loadMonthList(month)) {
+                        examples.add(examplesOf(w));
+                        tags.add(Set.copyOf(w.getManualTags()));
+                    }
+                }
+            } catch (FileNonexistent e) {
+                return; // the index was ahead of the files; nothing to learn from
+            } catch (ConcurrentModificationException e) {
+                if (attempt < READ_ATTEMPTS) {
+                    continue;
+                }
+                return;
+            }
+            for (int i = 0; i < examples.size(); i++) {
+                for (List<String> words : examples.get(i)) {
+                    add(words, tags.get(i));
+                }
+            }
+            return;
+        }
+    }
+
+    private List<Integer> classesOf(Set<String> manualTags) {
+        List<Integer> classes = new ArrayList<>();
+        for (String tag : manualTags) {
+            if (tag.isBlank()) {
+                continue;
+            }
+            classes.add(classIndex.computeIfAbsent(tag, t -> {
+                classSizes.add(new int[2]);
+                return classSizes.size() - 1;
+            }));
+        }
+        if (classes.isEmpty()) {
+            classes.add(0);
+        }
+        return classes;
+    }
+
+    private void count(int c, List<String> words, int delta) {
+        int[] size = classSizes.get(c);
+        size[0] = Math.max(0, size[0] + delta);
+        size[1] = Math.max(0, size[1] + delta * words.size());
+        for (String word : words) {
+            Map<Integer, Integer> counts = wordCounts.computeIfAbsent(word, w -> new HashMap<>());
+            int count = counts.getOrDefault(c, 0) + delta;
+            if (count > 0) {
+                counts.put(c, count);
+            } else {
+                counts.remove(c);
+            }
+            if (counts.isEmpty()) {
+                wordCounts.remove(word);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.fitchasers.tagger;
 
+import seedu.fitchasers.workouts.Exercise;
 import seedu.fitchasers.workouts.Workout;
 
 import java.util.Set;
@@ -10,8 +11,42 @@ import java.util.Set;
  * <p>
  * Implementations of this interface analyze a {@code Workout} object and return
  * a set of suggested tags that describe its characteristics (e.g., modality or muscle group).
+ * <p>
+ * A workout's suggestion is the tags of its name merged with the contribution of each of its exercises, so
+ * callers can keep a workout's tags current by merging in one exercise's contribution as it is added.
  */
 public interface Tagger {
     Set<String> suggest(Workout w);
+
+    /**
+     * Returns the tags implied by a workout name on its own, i.e. the suggestion for a workout with no exercises.
+     *
+     * @param workoutName the workout name
+     * @return the suggested tags
+     */
+    default Set<String> suggestForName(String workoutName) {
+        return suggest(new Workout(workoutName, 0));
+    }
+
+    /**
+     * Returns the tags one exercise contributes to the workout holding it. Taggers that look at the
+     * workout name only keep the default.
+     *
+     * @param exercise the exercise
+     * @return the tags the exercise adds; empty if none
+     */
+    default Set<String> suggestForExercise(Exercise exercise) {
+        return Set.of();
+    }
+
+    /**
+     * Returns a counter that changes whenever the tagger's keywords change, so callers holding earlier
+     * suggestions can tell they may be stale. Taggers with fixed keywords keep the default.
+     *
+     * @return the current keyword version
+     */
+    default long keywordVersion() {
+        return 0;
+    }
 }
 
@@ -274,6 +274,18 @@ public class UI {
                \s
                 ym/                                        - Select specific month in specific year
                                                            e.g. vl ym/10/26 [Oct 2026]                                \s
+               \s
+                tag/[tag]                                  - Only workouts with this tag (repeat for more tags)
+                                                           e.g. vl tag/strength tag/legs
+               \s
+                from/[DD/MM/YY] to/[DD/MM/YY]              - Only workouts in this date range (both days included)
+                                                           e.g. vl tag/legs from/01/09/26 to/31/10/26
+               \s
+                /timeline (tl) [pg/<N>] [detailed/]        - Browse all months together, newest first
+                                                           e.g. /timeline pg/2
+               \s
+                /search (sr) WORDS [OR WORDS]              - Find workouts by name, exercise or tag
+                                                           e.g. /search deadlift OR squat
                \s
                 /open (o) INDEX                           - Open detailed view of the current list of workout
                                                            e.g. /open 1
@@ -282,6 +294,9 @@ public class UI {
                 /delete_workout (dw) id/<INDEX> ym/<MM>/<YY>
                                                            e.g. /del_workout id/1 m/10
                                                            e.g. /del_workout id/2 ym/10/26
+               \s
+                /export_log (el) [m/<MM> | ym/<MM>/<YY>]  - Export a month as a readable text file
+                                                           e.g. /export_log m/10
                \s
                 ~~~ TAGGING SYSTEM ~~~
                 /add_modality_tag (amot) m/MODALITY k/KEYWORD
@@ -293,6 +308,7 @@ public class UI {
                 /override_workout_tag (owt) id/INDEX newTag/TAG_NAME
                                                            - Manually override a workout’s tag
                                                            e.g. /override_workout_tag id/1 newTag/strength
+                /retag_all (ra)                            - Re-run auto tagging over your whole history
                \s
                 ~~~ GYM FINDER ~~~
                 /gym_where (gw) n/EXERCISE                - Suggest NUS gyms with equipment for the exercise
@@ -300,6 +316,7 @@ public class UI {
                 /gym_page (gp) p/PAGE_OR_NAME             - View available NUS gym pages or by gym name
                                                            e.g. /gym_page p/1
                                                            e.g. /gym_page p/SRC Gym
+                /reload_gyms (rlg)                        - Re-read the gym list after editing data/gyms.txt
                \s
                 ~~~ SYSTEM ~~~
                 /exit (e)                                 - Save all progress and exit the app
@@ -414,10 +431,9 @@ public class UI {
                 sb.append(String.format("  %d. %s%n ", i++, e.toString()));
 
                 // Detailed per-set reps:
-                ArrayList<Integer> sets = e.getSets();
-                if (sets != null && !sets.isEmpty()) {
-                    for (int s = 0; s < sets.size(); s++) {
-                        sb.append(String.format("       - Set %d: %d reps%n", s + 1, sets.get(s)));
+                if (e.getNumSets() > 0) {
+                    for (int s = 0; s < e.getNumSets(); s++) {
+                        sb.append(String.format("       - Set %d: %d reps%n", s + 1, e.getReps(s)));
                     }
                 } else {
                     sb.append("       - No sets recorded\n");
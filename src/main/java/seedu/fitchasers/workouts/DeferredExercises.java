@@ -0,0 +1,17 @@
+package seedu.fitchasers.workouts;
+
+import java.util.ArrayList;
+
+//@@author Kart04
+/**
+ * Source of a workout's exercises that are read on first access rather than when the workout is loaded.
+ */
+public interface DeferredExercises {
+
+    /**
+     * Builds the exercises. Called at most once per workout.
+     *
+     * @return The exercises in their recorded order.
+     */
+    ArrayList<Exercise> load();
+}
@@ -9,8 +9,6 @@ import seedu.fitchasers.ui.UI;
 
 import java.io.IOException;
 import java.time.YearMonth;
-import java.util.ArrayList;
-import java.util.Comparator;
 
 //@@author Exceptional-Khoi
 /**
@@ -42,9 +40,9 @@ public class DeleteWorkout {
     /**
      * Executes the {@code /delete_workout} command.
      * <p>
-     * Parses the user's input, loads workouts for the specified month,
-     * displays details of the selected workout, requests confirmation,
-     * performs deletion, saves the updated list, and refreshes in-memory data.
+     * Parses the user's input, resolves the display index to a workout ID through the month's listing
+     * (numbering the month like {@code /view_log} if it was not listed yet), displays details of the
+     * selected workout, requests confirmation, deletes it by ID, and refreshes in-memory data.
      *
      * @param args The raw command arguments provided by the user.
      * @throws InvalidArgumentInput If the arguments are invalid or incorrectly formatted.
@@ -56,36 +54,33 @@ public class DeleteWorkout {
         DeleteWorkoutArguments parsedArgumentsForDelete =
                 new DeleteParser().parse(args, workoutManager.getCurrentLoadedMonth());
 
-        ArrayList<Workout> monthWorkouts =
-                new ArrayList<>(fileHandler.loadMonthList(parsedArgumentsForDelete.yearMonth()));
+        YearMonth month = parsedArgumentsForDelete.yearMonth();
+        if (!workoutManager.hasListing(month)) {
+            // Number the month the same way /view_log does before resolving the display index
+            workoutManager.rememberListing(month, fileHandler.loadSortedMonth(month));
+        }
 
-        if (monthWorkouts.isEmpty()) {
-            ui.showMessage("No workouts found for " + parsedArgumentsForDelete.yearMonth() + ".");
+        int listed = workoutManager.getListingSize();
+        if (listed == 0) {
+            ui.showMessage("No workouts found for " + month + ".");
             ui.showMessage("Use /view_log to check available months.");
             return;
         }
 
-        // If /view_log sorts, mirror the same sorting BEFORE using display index:
-        monthWorkouts.sort(
-                Comparator.comparing(
-                        Workout::getWorkoutStartDateTime,
-                        Comparator.nullsLast(Comparator.reverseOrder())   // start: desc, nulls last
-                ).thenComparing(
-                        Workout::getWorkoutEndDateTime,
-                        Comparator.nullsLast(Comparator.reverseOrder())   // end: desc, nulls last
-                )
-        );  // ← NO .reversed()
-
         int displayIndex = parsedArgumentsForDelete.indexToDelete();
-        if (displayIndex < 1 || displayIndex > monthWorkouts.size()) {
+        if (displayIndex < 1 || displayIndex > listed) {
             ui.showMessage("Invalid workout ID: " + displayIndex);
-            ui.showMessage("Please use a valid ID between 1 and " + monthWorkouts.size());
-            ui.showMessage("Tip: /view_log m/" + parsedArgumentsForDelete.yearMonth().getMonthValue()
-                    + " to see the list.");
+            ui.showMessage("Please use a valid ID between 1 and " + listed);
+            ui.showMessage("Tip: /view_log m/" + month.getMonthValue() + " to see the list.");
             return;
         }
 
-        Workout toDelete = monthWorkouts.get(displayIndex - 1);
+        Workout toDelete = fileHandler.findWorkout(workoutManager.getListedWorkoutId(month, displayIndex));
+        if (toDelete == null) {
+            ui.showMessage("Workout " + displayIndex + " no longer exists.");
+            ui.showMessage("Use /view_log m/" + month.getMonthValue() + " to see the updated list.");
+            return;
+        }
 
         ui.showMessage("You are about to delete:");
         ui.displayDetailsOfWorkout(toDelete);
@@ -97,14 +92,12 @@ public class DeleteWorkout {
         }
 
         String deletedName = toDelete.getWorkoutName();
-        monthWorkouts.remove(displayIndex - 1);
-
-        // Save back (persist the same ordering you used)
-        fileHandler.saveMonthList(parsedArgumentsForDelete.yearMonth(), monthWorkouts);
+        fileHandler.deleteWorkout(toDelete.getId());
+        workoutManager.invalidateOverlapIndex();
 
         // Update in-memory if this month is the active one
-        if (parsedArgumentsForDelete.yearMonth().equals(currentLoadedMonth)) {
-            workoutManager.setWorkouts(monthWorkouts, parsedArgumentsForDelete.yearMonth());
+        if (month.equals(currentLoadedMonth)) {
+            workoutManager.setWorkouts(fileHandler.loadMonthList(month), month);
         }
 
         ui.showMessage("✓ Deleted workout: " + deletedName);
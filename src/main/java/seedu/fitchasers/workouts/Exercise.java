@@ -1,14 +1,22 @@
 package seedu.fitchasers.workouts;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
 
 //@@author nitin19011
 /**
  * Represents an exercise with a name and multiple sets, each having a number of reps.
+ * <p>
+ * Reps are held in a growable {@code int[]}, so a set costs four bytes instead of a boxed {@code Integer}.
  */
 public class Exercise {
+    private static final int INITIAL_CAPACITY = 4;
+
     private final String name;
-    private final ArrayList<Integer> sets; // each element = reps for one set
+    private int[] sets; // each element = reps for one set
+    private int numSets;
 
     /**
      * Constructs an Exercise with one initial set.
@@ -18,8 +26,9 @@ public class Exercise {
      */
     public Exercise(String name, int reps) {
         this.name = name;
-        this.sets = new ArrayList<>();
-        this.sets.add(reps);
+        this.sets = new int[INITIAL_CAPACITY];
+        this.sets[0] = reps;
+        this.numSets = 1;
     }
 
     /**
@@ -28,7 +37,10 @@ public class Exercise {
      * @param reps The number of reps for the new set.
      */
     public void addSet(int reps) {
-        sets.add(reps);
+        if (numSets == sets.length) {
+            sets = Arrays.copyOf(sets, sets.length * 2);
+        }
+        sets[numSets++] = reps;
     }
 
     /**
@@ -42,25 +54,60 @@ public class Exercise {
      * Returns the total number of sets.
      */
     public int getNumSets() {
-        return sets.size();
+        return numSets;
+    }
+
+    //@@author Kart04
+    /**
+     * Returns the reps of one set without boxing.
+     *
+     * @param setIndex The zero-based index of the set.
+     * @return The number of reps in that set.
+     * @throws IndexOutOfBoundsException If there is no such set.
+     */
+    public int getReps(int setIndex) {
+        if (setIndex < 0 || setIndex >= numSets) {
+            throw new IndexOutOfBoundsException("Set " + setIndex + " of " + numSets);
+        }
+        return sets[setIndex];
     }
 
     /**
-     * Returns the list of reps for each set.
+     * Returns the reps of every set, in order, as a primitive stream.
      */
-    public ArrayList<Integer> getSets() {
-        return sets;
+    public IntStream streamReps() {
+        return Arrays.stream(sets, 0, numSets);
+    }
+
+    /**
+     * Returns a read-only view of the reps for each set.
+     * Kept for callers that want a {@code List}; prefer {@link #getReps(int)} or {@link #streamReps()},
+     * which do not box.
+     */
+    public List<Integer> getSets() {
+        return new AbstractList<>() {
+            @Override
+            public Integer get(int index) {
+                return getReps(index);
+            }
+
+            @Override
+            public int size() {
+                return numSets;
+            }
+        };
     }
 
+    //@@author nitin19011
     /**
      * Returns a detailed multi-line description of this exercise.
      */
     public String toDetailedString() {
         StringBuilder sb = new StringBuilder();
         sb.append(name).append(":\n");
-        for (int i = 0; i < sets.size(); i++) {
-            sb.append("Set ").append(i + 1).append(" -> Reps: ").append(sets.get(i));
-            if (i < sets.size() - 1) {
+        for (int i = 0; i < numSets; i++) {
+            sb.append("Set ").append(i + 1).append(" -> Reps: ").append(sets[i]);
+            if (i < numSets - 1) {
                 sb.append("\n");
             }
         }
@@ -72,6 +119,6 @@ public class Exercise {
      */
     @Override
     public String toString() {
-        return name + " [" + sets.size() + " sets]";
+        return name + " [" + numSets + " sets]";
     }
 }
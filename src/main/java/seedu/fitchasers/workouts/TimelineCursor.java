@@ -0,0 +1,131 @@
+package seedu.fitchasers.workouts;
+
+import seedu.fitchasers.exceptions.FileNonexistent;
+import seedu.fitchasers.storage.FileHandler;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+//@@author ZhongBaode
+/**
+ * Walks the whole workout history newest-first, one month at a time.
+ * <p>
+ * Only the month under the cursor is held, and a month is read only when the cursor enters it; months the
+ * storage index says are empty are never opened, and months that are skipped whole are counted from the index
+ * instead of being read. After each page the month the cursor will enter next is read in the background.
+ */
+class TimelineCursor {
+    private final FileHandler fileHandler;
+    private final long version;
+    private YearMonth month;
+    private List<Workout> view;
+    private int offset;
+    private int position;
+
+    /**
+     * Places a cursor before the newest workout.
+     *
+     * @param fileHandler the storage to walk
+     * @throws IOException if the storage index cannot be read
+     */
+    TimelineCursor(FileHandler fileHandler) throws IOException {
+        this.fileHandler = fileHandler;
+        this.version = fileHandler.getListingVersion();
+        this.month = fileHandler.latestMonthBefore(null);
+    }
+
+    /**
+     * Returns whether the history is unchanged since the cursor was created, so its position is still valid.
+     */
+    boolean isCurrent() {
+        return version == fileHandler.getListingVersion();
+    }
+
+    /**
+     * Returns how many workouts lie before the cursor.
+     */
+    int position() {
+        return position;
+    }
+
+    /**
+     * Moves the cursor past the given number of workouts, or to the end of the history.
+     *
+     * @param count the number of workouts to skip
+     * @throws IOException if a month has to be read and reading fails
+     */
+    void skip(int count) throws IOException {
+        int remaining = count;
+        while (remaining > 0 && month != null) {
+            if (view == null) {
+                int known = fileHandler.knownWorkoutCount(month);
+                if (known >= 0 && known <= remaining) {
+                    remaining -= known;
+                    position += known;
+                    nextMonth();
+                    continue;
+                }
+                enterMonth();
+            }
+            int step = Math.min(remaining, view.size() - offset);
+            offset += step;
+            position += step;
+            remaining -= step;
+            if (offset >= view.size()) {
+                nextMonth();
+            }
+        }
+    }
+
+    /**
+     * Returns up to the given number of workouts after the cursor and moves past them.
+     *
+     * @param count the page size
+     * @return the workouts, newest first; fewer than {@code count} only at the end of the history
+     * @throws IOException if a month has to be read and reading fails
+     */
+    List<Workout> next(int count) throws IOException {
+        List<Workout> page = new ArrayList<>(count);
+        while (page.size() < count && month != null) {
+            if (view == null) {
+                enterMonth();
+            }
+            while (offset < view.size() && page.size() < count) {
+                page.add(view.get(offset++));
+                position++;
+            }
+            if (offset >= view.size()) {
+                nextMonth();
+            }
+        }
+        YearMonth upcoming = view == null ? month : (month == null ? null : fileHandler.latestMonthBefore(month));
+        if (upcoming != null) {
+            fileHandler.prefetchMonth(upcoming);
+        }
+        return page;
+    }
+
+    /**
+     * Returns whether any workouts may remain after the cursor.
+     */
+    boolean hasMore() {
+        return month != null;
+    }
+
+    private void enterMonth() throws IOException {
+        try {
+            view = fileHandler.loadSortedMonth(month);
+        } catch (FileNonexistent e) {
+            view = List.of(); // the index was ahead of the files; treat the month as empty
+        }
+        offset = 0;
+    }
+
+    private void nextMonth() throws IOException {
+        month = fileHandler.latestMonthBefore(month);
+        view = null;
+        offset = 0;
+    }
+}
@@ -1,16 +1,19 @@
 package seedu.fitchasers.workouts;
 
+import seedu.fitchasers.search.WorkoutSearch;
 import seedu.fitchasers.storage.FileHandler;
 import seedu.fitchasers.exceptions.FileNonexistent;
 import seedu.fitchasers.exceptions.InvalidArgumentInput;
 import seedu.fitchasers.ui.UI;
 
 import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.time.format.TextStyle;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
 import java.util.regex.Pattern;
@@ -20,20 +23,21 @@ import java.util.regex.Pattern;
  * Handles the display and navigation of the user's workout logs.
  * <p>
  * This class is responsible for loading, filtering, sorting, and paginating
- * workout data for display. It also maintains the most recently rendered list
- * to support features like reopening or viewing specific workouts by index.
+ * workout data for display. The most recently rendered list is remembered as stable
+ * workout IDs, so features like reopening a workout by its number look it up directly.
+ * Tag and date filters are answered from the search index, so only months holding a match are read.
  */
 public class ViewLog {
     public static final int MINIMUM_PAGE_SIZE = 1;
     public static final int ARRAY_INDEX_OFFSET = 1;
     private static final Pattern INT = Pattern.compile("^-?\\d+$");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yy");
     private static UI ui = new UI();                         // your existing UI class
     private final WorkoutManager workoutManager;
     private final int pageSize = 10;
     private final FileHandler fileHandler;
-
-    // Keeps the last full, filtered & sorted list so `/open <n>` can work after rendering.
-    private List<Workout> lastFilteredListofWorkout = List.of();
+    private final WorkoutSearch workoutSearch;
+    private TimelineCursor timeline;
 
     private static class DisplayWorkout {
         Workout workout;
@@ -46,16 +50,18 @@ public class ViewLog {
     }
 
     /**
-     * Constructs a ViewLog instance with required dependencies.
+     * Constructs a ViewLog instance that answers tag and date filters from an existing search index.
      *
      * @param ui             the UI instance for displaying output
      * @param workoutManager the WorkoutManager for accessing workout data
      * @param fileHandler    the FileHandler for loading workouts from disk
+     * @param workoutSearch  the search index shared with {@code /search}
      */
-    public ViewLog(UI ui, WorkoutManager workoutManager, FileHandler fileHandler) {
+    public ViewLog(UI ui, WorkoutManager workoutManager, FileHandler fileHandler, WorkoutSearch workoutSearch) {
         ViewLog.ui = ui;
         this.workoutManager = workoutManager;
         this.fileHandler = fileHandler;
+        this.workoutSearch = workoutSearch;
     }
 
     /* ----------------------------- Core renderers ----------------------------- */
@@ -68,6 +74,7 @@ public class ViewLog {
      *   <li>/view_log m/ &lt;month 1..12&gt; [extractedArg]</li>
      *   <li>/view_log -ym &lt;year&gt; &lt;month 1..12&gt; [extractedArg]</li>
      *   <li>Optional: -d (detailed view)</li>
+     *   <li>Optional: tag/&lt;tag&gt; (repeatable), from/&lt;DD/MM/YY&gt;, to/&lt;DD/MM/YY&gt;</li>
      * </ul>
      * <p>
      * Examples:
@@ -77,6 +84,7 @@ public class ViewLog {
      *   /view_log -ym 2024 10    // Oct 2024, extractedArg 1
      *   /view_log -ym 2024 10 2  // Oct 2024, extractedArg 2
      *   /view_log -m 10 -d       // Oct, detailed extractedArg 1
+     *   /view_log tag/legs from/01/09/25 to/31/10/25
      * </pre>
      *
      * @param args raw argument string after the command name
@@ -85,25 +93,25 @@ public class ViewLog {
     public void render(String args) throws InvalidArgumentInput, FileNonexistent, IOException {
         Parsed p = parseArgs(args);
 
-        ArrayList<Workout> sorted = loadAndSortList(p.ym);
+        List<Workout> sorted = p.isFiltered() ? loadFiltered(p) : loadAndSortList(p.ym);
+
+        int totalPages = computeTotalPages(sorted.size(), pageSize);
+        int current = sorted.isEmpty() ? MINIMUM_PAGE_SIZE : ensureValidPage(p.extractedArg, totalPages);
 
+        // Only the requested page is wrapped for display; the month itself is already in order
+        int start = (current - 1) * pageSize;
+        int end = Math.min(start + pageSize, sorted.size());
         ArrayList<DisplayWorkout> displayList = new ArrayList<>();
-        for (int i = 0; i < sorted.size(); i++) {
+        for (int i = start; i < end; i++) {
             displayList.add(new DisplayWorkout(sorted.get(i), i + 1));  // IDs 1, 2, 3, 4, 5 in order
         }
 
-        int totalPages = computeTotalPages(displayList.size(), pageSize);
-        int current = ensureValidPage(p.extractedArg);
-
-        int start = (current - 1) * pageSize;
-        int end = Math.min(start + pageSize, displayList.size());
-
         StringBuilder buf = new StringBuilder();
         buf.append(String.format("Workouts for %s (%d total) — Page %d/%d%n",
-                p.ym, displayList.size(), current, Math.max(1, totalPages)));
+                p.isFiltered() ? describeFilter(p) : p.ym, sorted.size(), current, Math.max(1, totalPages)));
 
-        if (displayList.isEmpty()) {
-            buf.append("No workouts this month.");
+        if (sorted.isEmpty()) {
+            buf.append(p.isFiltered() ? "No workouts match those filters." : "No workouts this month.");
             ui.showMessage(buf.toString());
             return;
         }
@@ -113,8 +121,7 @@ public class ViewLog {
                     "ID","Start Date", "End Date", "Name", "Duration"));
         }
 
-        for (int i = start; i < end; i++) {
-            DisplayWorkout dw = displayList.get(i);
+        for (DisplayWorkout dw : displayList) {
             if (p.detailed) {
                 buf.append(renderDetailedRow(dw.originalIndex, dw.workout));
             } else {
@@ -126,47 +133,156 @@ public class ViewLog {
         ui.showMessage(buf.toString());
     }
 
+    /**
+     * Renders one page of the whole workout history, newest first, across month boundaries.
+     * <p>
+     * Supported forms: {@code /timeline}, {@code /timeline pg/<N>} and {@code detailed/}.
+     * Asking for the page after the one just shown continues from where that page ended, so scrolling
+     * reads only the months that the new page covers. Any other page starts again from the newest
+     * workout, skipping whole months by their stored counts.
+     *
+     * @param args raw argument string after the command name
+     * @throws InvalidArgumentInput if flags or numbers are invalid
+     * @throws IOException          if a month cannot be read
+     */
+    public void renderTimeline(String args) throws InvalidArgumentInput, IOException {
+        int page = 1;
+        boolean detailed = false;
+        if (args != null && !args.isBlank()) {
+            for (String t : args.trim().split("\\s+")) {
+                if ("detailed/".equals(t)) {
+                    detailed = true;
+                } else if (t.startsWith("pg/")) {
+                    page = readPositiveInt(t.substring(3), "Page after pg/ must be above 1!"
+                            + " Also remember no space after pg/ :) e.g pg/2 ");
+                } else {
+                    throw new InvalidArgumentInput("Unknown flag: " + t + ". Use /timeline or /timeline pg/<N> :)");
+                }
+            }
+        }
+
+        int first = (page - 1) * pageSize;
+        if (timeline == null || !timeline.isCurrent() || timeline.position() > first) {
+            timeline = new TimelineCursor(fileHandler);
+        }
+        timeline.skip(first - timeline.position());
+        first = timeline.position();
+        List<Workout> rows = timeline.next(pageSize);
+
+        if (rows.isEmpty()) {
+            ui.showMessage(page == 1 ? "No workouts logged yet." :
+                    "Your history ends before page " + page + "! Try /timeline to start from the newest workout.");
+            return;
+        }
+
+        StringBuilder buf = new StringBuilder();
+        buf.append(String.format("Timeline — Page %d%n", page));
+        if (!detailed) {
+            buf.append(String.format("%-4s %-20s %-20s %-22s %-10s%n",
+                    "ID", "Start Date", "End Date", "Name", "Duration"));
+        }
+        YearMonth shownMonth = null;
+        for (int i = 0; i < rows.size(); i++) {
+            Workout w = rows.get(i);
+            LocalDateTime start = w.getWorkoutStartDateTime();
+            YearMonth rowMonth = start == null ? shownMonth : YearMonth.from(start);
+            if (rowMonth != null && !rowMonth.equals(shownMonth)) {
+                buf.append(String.format("— %s %d —%n",
+                        rowMonth.getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH), rowMonth.getYear()));
+                shownMonth = rowMonth;
+            }
+            buf.append(detailed ? renderDetailedRow(first + i + 1, w) : renderCompactRow(first + i + 1, w));
+        }
+
+        if (timeline.hasMore()) {
+            buf.append("Tip: /timeline pg/").append(page + 1).append(" for older workouts, ");
+        } else {
+            buf.append("That's everything! ");
+        }
+        buf.append("/view_log ym/<MM>/<YY> to open one.");
+        ui.showMessage(buf.toString());
+    }
+
     /**
      * Loads workouts for a specific month and sorts them by date (newest first).
      * <p>
-     * Fetches workouts from the file handler and sorts them by end time, then start time,
-     * with null values placed last. The sorted list is cached internally for quick access
-     * via subsequent operations.
+     * The file handler keeps each month in this order as workouts are added, ended and deleted,
+     * so paging through a month does not sort it again. The order is remembered as workout IDs
+     * so later commands can resolve a listing number directly.
      *
      * @param p the YearMonth to load workouts for
-     * @return a new ArrayList of workouts for the month, sorted newest first
+     * @return a read-only list of workouts for the month, sorted newest first
      * @throws IOException     if an error occurs reading from disk
      * @throws FileNonexistent if no workout file exists for the specified month
-     * @see FileHandler#loadMonthList(YearMonth)
+     * @see FileHandler#loadSortedMonth(YearMonth)
      */
-    public ArrayList<Workout> loadAndSortList(YearMonth p) throws IOException, FileNonexistent {
-        // Fetch month list (lazy-load), then sort newest first by end time (nulls last)
-        ArrayList<Workout> monthList = fileHandler.loadMonthList(p);
-        ArrayList<Workout> sorted = new ArrayList<>(monthList);
-        sorted.sort(
-                Comparator.comparing(
-                        Workout::getWorkoutStartDateTime,
-                        Comparator.nullsLast(Comparator.reverseOrder())   // start: desc, nulls last
-                ).thenComparing(
-                        Workout::getWorkoutEndDateTime,
-                        Comparator.nullsLast(Comparator.reverseOrder())   // end: desc, nulls last
-                )
-        ); // ← NO .reversed()
-
-        this.lastFilteredListofWorkout = sorted;  // Store the sorted list
+    public List<Workout> loadAndSortList(YearMonth p) throws IOException, FileNonexistent {
+        List<Workout> sorted = fileHandler.loadSortedMonth(p);
+        workoutManager.rememberListing(p, sorted);
         return sorted;
     }
 
-    public Workout getWorkoutByDisplayId(int displayId, YearMonth month) throws FileNonexistent, IOException {
-        // Fetch and sort on demand if needed
-        if (lastFilteredListofWorkout.isEmpty()) {
-            loadAndSortList(month);
+    /**
+     * Loads the workouts matching the tag and date filters, newest first, and remembers them as the listing.
+     * <p>
+     * Without {@code from/} or {@code to/} the range is the parsed month, and the listing is remembered under
+     * that month so deleting by number matches what was shown; a date range may span months, so its listing
+     * is remembered without one.
+     *
+     * @param p the parsed arguments
+     * @return the matching workouts in display order
+     * @throws IOException if the search index or a month cannot be read
+     */
+    private List<Workout> loadFiltered(Parsed p) throws IOException {
+        boolean byMonth = p.from() == null && p.to() == null;
+        LocalDateTime from;
+        LocalDateTime to;
+        if (byMonth) {
+            from = p.ym().atDay(1).atStartOfDay();
+            to = p.ym().plusMonths(1).atDay(1).atStartOfDay();
+        } else {
+            from = p.from() == null ? LocalDate.MIN.atStartOfDay() : p.from().atStartOfDay();
+            to = p.to() == null ? LocalDate.MAX.atStartOfDay() : p.to().plusDays(1).atStartOfDay();
+        }
+        List<Workout> matches = workoutSearch.filter(p.tags(), from, to);
+        workoutManager.rememberListing(byMonth ? p.ym() : null, matches);
+        return matches;
+    }
+
+    private static String describeFilter(Parsed p) {
+        StringBuilder sb = new StringBuilder();
+        if (p.from() == null && p.to() == null) {
+            sb.append(p.ym());
+        } else if (p.to() == null) {
+            sb.append(p.from().format(DATE_FORMAT)).append(" onwards");
+        } else if (p.from() == null) {
+            sb.append("up to ").append(p.to().format(DATE_FORMAT));
+        } else {
+            sb.append(p.from().format(DATE_FORMAT)).append(" to ").append(p.to().format(DATE_FORMAT));
         }
+        if (!p.tags().isEmpty()) {
+            sb.append(" tagged ").append(String.join(", ", p.tags()));
+        }
+        return sb.toString();
+    }
 
-        if (displayId <= 0 || displayId > lastFilteredListofWorkout.size()) {
-            return null;
+    /**
+     * Returns the workout shown under the given number in the month's listing.
+     * The month is only loaded and sorted if it has not been listed yet; otherwise the number is resolved
+     * through the remembered workout ID.
+     *
+     * @param displayId the 1-based number from the listing
+     * @param month     the month the number refers to
+     * @return the workout, or {@code null} if the number is out of range or the workout was deleted
+     * @throws IOException     if reading the month fails
+     * @throws FileNonexistent if the month has to be listed and has no save file
+     */
+    public Workout getWorkoutByDisplayId(int displayId, YearMonth month) throws FileNonexistent, IOException {
+        if (!workoutManager.hasListing(month)) {
+            loadAndSortList(month);
         }
-        return lastFilteredListofWorkout.get(displayId - 1);
+        long id = workoutManager.getListedWorkoutId(month, displayId);
+        return id == 0 ? null : fileHandler.findWorkout(id);
     }
 
     private String renderCompactRow(int id, Workout w) {
@@ -197,20 +313,27 @@ public class ViewLog {
     /**
      * Opens and displays detailed information for a workout by its display index.
      * <p>
-     * Retrieves the workout from the cached rendered list and delegates to the UI
-     * for display. The index must correspond to a previously rendered workout list.
+     * The index refers to the most recently rendered listing, or to the current month
+     * if nothing has been listed yet, and is resolved through the listed workout's ID.
+     * A filtered listing spanning several months has no month and is resolved directly.
      *
      * @param oneBasedIndex the 1-based display index of the workout to open
      * @throws InvalidArgumentInput if the index is out of bounds or invalid
-     * @see #lastFilteredListofWorkout
      */
     public void openByIndex(int oneBasedIndex) throws InvalidArgumentInput, FileNonexistent, IOException {
-        loadAndSortList(YearMonth.now());
-        int i = oneBasedIndex - ARRAY_INDEX_OFFSET;  // Convert to 0-based
-        if (i < 0 || i >= workoutManager.getWorkoutSize()) {
+        Workout workout;
+        if (workoutManager.getListedMonth() == null && workoutManager.hasAnyListing()) {
+            long id = workoutManager.getListedWorkoutId(oneBasedIndex);
+            workout = id == 0 ? null : fileHandler.findWorkout(id);
+        } else {
+            YearMonth month = workoutManager.getListedMonth() != null
+                    ? workoutManager.getListedMonth() : YearMonth.now();
+            workout = getWorkoutByDisplayId(oneBasedIndex, month);
+        }
+        if (workout == null) {
             throw new InvalidArgumentInput("The number you requested is out of bounds! Please try again.");
         }
-        ui.displayDetailsOfWorkout(lastFilteredListofWorkout.get(i));
+        ui.displayDetailsOfWorkout(workout);
     }
 
     /* ------------------------------ Helpers/Util ----------------------------- */
@@ -228,8 +351,7 @@ public class ViewLog {
         return (int) Math.ceil(Math.max(0, size) / (double) Math.max(1, pageSize));
     }
 
-    private int ensureValidPage(int page) {
-        int totalPages = computeTotalPages(this.workoutManager.getWorkoutSize(), pageSize);
+    private int ensureValidPage(int page, int totalPages) {
         if (page < MINIMUM_PAGE_SIZE) {
             ui.showMessage("Hey that page is too small! I will default to the first page okay!");
             return MINIMUM_PAGE_SIZE;
@@ -291,13 +413,27 @@ public class ViewLog {
      * Represents the parsed result of a command or user input.
      * <p>
      * This record encapsulates a {@code YearMonth}, an extracted integer argument,
-     * and a boolean flag indicating whether detailed output was requested.
+     * a boolean flag indicating whether detailed output was requested, and any tag or date filters.
      *
      * @param ym The {@code YearMonth} extracted from the input.
      * @param extractedArg The numeric argument parsed from the input.
      * @param detailed {@code true} if detailed output is requested; {@code false} otherwise.
+     * @param tags The tags every listed workout must carry; empty if not filtering by tag.
+     * @param from The first day of the date range, or {@code null} if open.
+     * @param to The last day of the date range, inclusive, or {@code null} if open.
      */
-    public record Parsed(YearMonth ym, int extractedArg, boolean detailed) {
+    public record Parsed(YearMonth ym, int extractedArg, boolean detailed, List<String> tags,
+                         LocalDate from, LocalDate to) {
+        public Parsed(YearMonth ym, int extractedArg, boolean detailed) {
+            this(ym, extractedArg, detailed, List.of(), null, null);
+        }
+
+        /**
+         * Returns whether the listing is narrowed by tag or date.
+         */
+        public boolean isFiltered() {
+            return !tags.isEmpty() || from != null || to != null;
+        }
     }
 
     //@@author nitin19011
@@ -310,9 +446,11 @@ public class ViewLog {
      *   <li>{@code ym/<MM>/<YY>} — Specifies a particular year and month.</li>
      *   <li>{@code pg/<N>} — Specifies the page number for paginated display.</li>
      *   <li>{@code detailed/} — Requests detailed output mode.</li>
+     *   <li>{@code tag/<tag>} — Lists only workouts with the tag; may be repeated.</li>
+     *   <li>{@code from/<DD>/<MM>/<YY>}, {@code to/<DD>/<MM>/<YY>} — Lists an inclusive date range.</li>
      * </ul>
-     * The method validates argument consistency (e.g., {@code m/} cannot be combined with {@code ym/})
-     * and ensures numeric values are positive.
+     * The method validates argument consistency (e.g., {@code m/} cannot be combined with {@code ym/},
+     * and neither with a date range) and ensures numeric values are positive.
      *
      * @param raw The raw user input string containing command arguments.
      * @return A {@code Parsed} record containing the parsed {@code YearMonth}, page number, and detail flag.
@@ -332,6 +470,9 @@ public class ViewLog {
         boolean seenM = false;
         boolean seenYM = false;
         boolean seenPg = false;
+        List<String> tags = new ArrayList<>();
+        LocalDate from = null;
+        LocalDate to = null;
 
         for (int i = 0; i < arguments.length; i++) {
             String t = arguments[i];
@@ -341,6 +482,31 @@ public class ViewLog {
                 continue;
             }
 
+            if (t.startsWith("tag/")) {
+                String tag = t.substring(4).trim();
+                if (tag.isEmpty()) {
+                    throw new InvalidArgumentInput("Tag after tag/ cannot be empty, e.g. tag/legs.");
+                }
+                tags.add(tag);
+                continue;
+            }
+
+            if (t.startsWith("from/")) {
+                if (from != null) {
+                    throw new InvalidArgumentInput("Start date specified more than once. Use a single from/.");
+                }
+                from = parseDateToken(t.substring(5), "from");
+                continue;
+            }
+
+            if (t.startsWith("to/")) {
+                if (to != null) {
+                    throw new InvalidArgumentInput("End date specified more than once. Use a single to/.");
+                }
+                to = parseDateToken(t.substring(3), "to");
+                continue;
+            }
+
             if (t.startsWith("m/")) {
                 if (seenYM) {
                     throw new InvalidArgumentInput("Cannot combine m/<MM> with ym/<A>/<B>.");
@@ -389,7 +555,21 @@ public class ViewLog {
             }
         }
 
-        return new Parsed(target, page, detailed);
+        if ((from != null || to != null) && (seenM || seenYM)) {
+            throw new InvalidArgumentInput("Cannot combine from/ or to/ with m/<MM> or ym/<MM>/<YY>.");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidArgumentInput("The from/ date must not be after the to/ date.");
+        }
+        return new Parsed(target, page, detailed, List.copyOf(tags), from, to);
+    }
+
+    private static LocalDate parseDateToken(String token, String flag) throws InvalidArgumentInput {
+        try {
+            return LocalDate.parse(token, DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new InvalidArgumentInput("Use " + flag + "/<DD>/<MM>/<YY>, e.g., " + flag + "/01/10/25.");
+        }
     }
 
     private static boolean isInt(String s) {
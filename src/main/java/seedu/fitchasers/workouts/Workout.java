@@ -21,7 +21,9 @@ import java.util.Set;
  */
 public class Workout {
     private static final UI ui = new UI();
-    private final ArrayList<Exercise> exercises = new ArrayList<>();
+    private ArrayList<Exercise> exercises = new ArrayList<>();
+    private DeferredExercises deferredExercises = null;
+    private long id = 0; // 0 until storage assigns one
     private String workoutName;
     private int duration = 0;
     private LocalDateTime workoutStartDateTime = null;
@@ -107,6 +109,24 @@ public class Workout {
         this.autoTags = new LinkedHashSet<>(tags);
     }
 
+    //@@author Kart04
+    /**
+     * Merges tags into the auto tags, keeping the ones already present.
+     *
+     * @param tags the tags to merge in
+     * @return the tags that were not auto tags before, in the order given
+     */
+    public Set<String> mergeAutoTags(Set<String> tags) {
+        Set<String> added = new LinkedHashSet<>();
+        for (String tag : tags) {
+            if (autoTags.add(tag)) {
+                added.add(tag);
+            }
+        }
+        return added;
+    }
+    //@@author Exceptional-Khoi
+
     /**
      * Returns a set containing the union of manual tags
      * and automatically generated (auto) tags for the workout.
@@ -185,16 +205,19 @@ public class Workout {
      * @param exercise The exercise to add.
      */
     public void addExercise(Exercise exercise) {
+        loadDeferredExercises();
         exercises.add(exercise);
         currentExercise = exercise;
     }
 
     /**
      * Returns the list of exercises in this workout.
+     * Exercises deferred by {@link #deferExercises(DeferredExercises)} are read on the first call.
      *
      * @return List of exercises.
      */
     public ArrayList<Exercise> getExercises() {
+        loadDeferredExercises();
         return exercises;
     }
 
@@ -204,9 +227,70 @@ public class Workout {
      * @return The current exercise, or null if none exists.
      */
     public Exercise getCurrentExercise() {
+        loadDeferredExercises();
         return currentExercise;
     }
 
+    //@@author Kart04
+    /**
+     * Returns the stable ID of this workout. IDs are assigned by storage, never reused, and unlike the
+     * number shown in a listing they do not change when other workouts are added, deleted or re-sorted.
+     *
+     * @return The workout ID, or 0 if none has been assigned yet.
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the stable ID of this workout.
+     *
+     * @param id The ID assigned by storage.
+     */
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    /**
+     * Replaces this workout's exercises with a source that is only read when they are first needed.
+     * Lets listings that show just the header fields skip building every exercise of a month.
+     *
+     * @param source The source of the exercises.
+     */
+    public void deferExercises(DeferredExercises source) {
+        exercises = new ArrayList<>();
+        currentExercise = null;
+        deferredExercises = source;
+    }
+
+    /**
+     * Returns the source of exercises that have not been read yet.
+     *
+     * @return The deferred source, or {@code null} once the exercises are loaded.
+     */
+    public DeferredExercises getDeferredExercises() {
+        return deferredExercises;
+    }
+
+    /**
+     * Returns whether the exercises are in memory, i.e. none are still deferred.
+     *
+     * @return {@code true} if {@link #getExercises()} will not need to read anything.
+     */
+    public boolean hasLoadedExercises() {
+        return deferredExercises == null;
+    }
+
+    private void loadDeferredExercises() {
+        if (deferredExercises == null) {
+            return;
+        }
+        exercises = deferredExercises.load();
+        deferredExercises = null;
+        currentExercise = exercises.isEmpty() ? null : exercises.get(exercises.size() - 1);
+    }
+    //@@author bennyy117
+
     /**
      * Returns the start date and time of this workout.
      *
@@ -0,0 +1,144 @@
+package seedu.fitchasers.workouts;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+//@@author ZhongBaode
+/**
+ * Index of workout time spans used to reject overlapping workouts, including across days and months.
+ * <p>
+ * Ended workouts are kept in a sorted map from start, keyed by epoch minute, to the workouts starting then.
+ * Spans saved before overlaps were checked across days may overlap one another, so a span starting long
+ * before {@code [from, to)} can still reach into it past shorter spans starting later. The index therefore
+ * tracks the longest ended span it has held and scans back from {@code to} only as far as such a span could
+ * reach; with workouts of ordinary length that is a handful of entries.
+ * <p>
+ * Unended workouts are few (normally just the active one) and are checked one by one. Each is treated as
+ * running until the end of the day it started on.
+ */
+class WorkoutIntervalIndex {
+    private final TreeMap<Long, List<Workout>> ended = new TreeMap<>();
+    private final List<Workout> ongoing = new ArrayList<>();
+    private int endedCount = 0;
+    // Longest span ever indexed, in minutes; kept after removals, which only makes scans a little longer
+    private long maxDuration = 0;
+
+    /**
+     * Replaces the indexed workouts.
+     *
+     * @param workouts The workouts to index; those without a start time are ignored.
+     */
+    void rebuild(List<Workout> workouts) {
+        ended.clear();
+        ongoing.clear();
+        endedCount = 0;
+        maxDuration = 0;
+        for (Workout w : workouts) {
+            add(w);
+        }
+    }
+
+    /**
+     * Adds a workout, or re-files it after its end time was set.
+     *
+     * @param workout The workout to index.
+     */
+    void add(Workout workout) {
+        remove(workout);
+        LocalDateTime start = workout.getWorkoutStartDateTime();
+        if (start == null) {
+            return;
+        }
+        if (workout.getWorkoutEndDateTime() == null) {
+            ongoing.add(workout);
+            return;
+        }
+        long startMinute = toMinute(start);
+        ended.computeIfAbsent(startMinute, k -> new ArrayList<>(1)).add(workout);
+        endedCount++;
+        maxDuration = Math.max(maxDuration, endMinute(workout) - startMinute);
+    }
+
+    /**
+     * Removes a workout from the index if it is present.
+     *
+     * @param workout The workout to remove.
+     */
+    void remove(Workout workout) {
+        ongoing.remove(workout);
+        LocalDateTime start = workout.getWorkoutStartDateTime();
+        if (start == null) {
+            return;
+        }
+        long startMinute = toMinute(start);
+        List<Workout> atStart = ended.get(startMinute);
+        if (atStart != null && atStart.remove(workout)) {
+            endedCount--;
+            if (atStart.isEmpty()) {
+                ended.remove(startMinute);
+            }
+        }
+    }
+
+    /**
+     * Finds a workout whose span overlaps {@code [from, to)}.
+     *
+     * @param from   The start of the span to check.
+     * @param to     The end of the span to check, exclusive.
+     * @param ignore A workout to leave out, e.g. the one whose end time is being set; may be {@code null}.
+     * @return An overlapping workout, or {@code null} if there is none.
+     */
+    Workout findOverlap(LocalDateTime from, LocalDateTime to, Workout ignore) {
+        long a = toMinute(from);
+        long b = toMinute(to);
+
+        // Only spans starting before b can reach into [a, b), and none reaches further than maxDuration
+        for (Map.Entry<Long, List<Workout>> e : ended.headMap(b, false).descendingMap().entrySet()) {
+            if (e.getKey() + maxDuration <= a) {
+                break;
+            }
+            for (Workout w : e.getValue()) {
+                if (w != ignore && endMinute(w) > a) {
+                    return w;
+                }
+            }
+        }
+
+        for (Workout w : ongoing) {
+            if (w != ignore && toMinute(w.getWorkoutStartDateTime()) < b && a < endMinute(w)) {
+                return w;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds a workout that is running at the given minute.
+     *
+     * @param time The time to check.
+     * @return The workout in progress at {@code time}, or {@code null} if there is none.
+     */
+    Workout findContaining(LocalDateTime time) {
+        return findOverlap(time, time.plusMinutes(1), null);
+    }
+
+    int size() {
+        return endedCount + ongoing.size();
+    }
+
+    private static long endMinute(Workout w) {
+        LocalDateTime end = w.getWorkoutEndDateTime();
+        if (end == null) {
+            end = w.getWorkoutStartDateTime().toLocalDate().plusDays(1).atStartOfDay();
+        }
+        return toMinute(end);
+    }
+
+    private static long toMinute(LocalDateTime dt) {
+        return dt.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+}
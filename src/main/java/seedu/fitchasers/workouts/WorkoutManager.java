@@ -11,6 +11,7 @@ import java.io.IOException;
 import java.time.YearMonth;
 import java.time.format.ResolverStyle;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
@@ -52,6 +53,12 @@ public class WorkoutManager {
     private YearMonth currentLoadedMonth;
     private final Map<YearMonth, ArrayList<Workout>> workoutsByMonth;
     private final FileHandler fileHandler;
+    private final WorkoutIntervalIndex overlapIndex = new WorkoutIntervalIndex();
+    private YearMonth indexedMonth = null;
+    private ArrayList<Workout> indexedWorkouts = null;
+    private YearMonth listedMonth = null;
+    private long[] listedIds = new long[0];
+    private boolean listingSpansMonths = false;
     private int afterNameIndex = 2;
     private LocalDate date = null;
     private LocalTime time = null;
@@ -76,6 +83,7 @@ public class WorkoutManager {
         this.fileHandler = fileHandler;
         this.workoutsByMonth = fileHandler.getArrayByMonth();
         this.currentLoadedMonth = YearMonth.now();
+        fileHandler.pinMonth(currentLoadedMonth);
         this.creationDate = fileHandler.getCreationMonth();
     }
 
@@ -114,6 +122,29 @@ public class WorkoutManager {
     public void setWorkouts(ArrayList<Workout> workouts, YearMonth monthOfArrayList) {
         this.workouts = workouts;
         currentLoadedMonth = monthOfArrayList;
+        fileHandler.pinMonth(monthOfArrayList); // reads of other months must not evict the list held here
+        repointCurrentWorkout();
+    }
+
+    /**
+     * Makes the active workout refer to its copy in the current list, if the list was re-read from disk.
+     * Changes are recorded against the list, so a workout that is not in it would never be saved.
+     */
+    private void repointCurrentWorkout() {
+        if (currentWorkout == null || currentWorkout.getId() <= 0) {
+            return;
+        }
+        for (Workout w : workouts) {
+            if (w == currentWorkout) {
+                return;
+            }
+        }
+        for (Workout w : workouts) {
+            if (w.getId() == currentWorkout.getId()) {
+                currentWorkout = w;
+                return;
+            }
+        }
     }
 
     /**
@@ -161,8 +192,8 @@ public class WorkoutManager {
             setWorkouts(fileHandler.loadMonthList(monthOfWorkout), monthOfWorkout);
         }
 
-        // Reject if the new start time falls inside any existing workout on the same day
-        Workout conflict = findOverlappingWorkout(workoutDateTime);
+        // Reject if the new start time falls inside any existing workout, including ones from adjacent months
+        Workout conflict = overlapIndex().findContaining(workoutDateTime);
         if (conflict != null) {
             LocalDateTime s = conflict.getWorkoutStartDateTime();
             LocalDateTime e = conflict.getWorkoutEndDateTime();
@@ -180,13 +211,15 @@ public class WorkoutManager {
             Set<String> suggestedTags = tagger.suggest(newWorkout);
             newWorkout.setAutoTags(suggestedTags);
             workouts.add(newWorkout);
+            overlapIndex().add(newWorkout);
+            forgetListing(currentLoadedMonth); // its numbering no longer matches a fresh /view_log
             currentWorkout = newWorkout;
             ui.showMessage("New workout sesh incoming!");
             ui.showMessage("Tags generated for workout: " + (suggestedTags == null || suggestedTags.isEmpty()
                     ? "none"
                     : String.join(", ", suggestedTags)) + "\n"
                     + "Added workout: " + workoutName);
-            fileHandler.saveMonthList(currentLoadedMonth, workouts);
+            fileHandler.recordWorkoutCreated(currentLoadedMonth, workouts, newWorkout);
 
         } catch (Exception e) {
             ui.showMessage("Something went wrong creating the workout. Please try again.");
@@ -667,10 +700,34 @@ public class WorkoutManager {
 
         Exercise exercise = new Exercise(name, reps);
         currentWorkout.addExercise(exercise);
-        fileHandler.saveMonthList(currentLoadedMonth, workouts);
+        fileHandler.recordExerciseAdded(currentLoadedMonth, workouts, currentWorkout, exercise);
         ui.showMessage("Adding that spicy new exercise!");
         ui.showMessage("Added exercise:\n" + exercise.toDetailedString());
+
+        Set<String> newTags = mergeExerciseTags(currentWorkout, exercise);
+        if (!newTags.isEmpty()) {
+            fileHandler.recordWorkoutRetagged(currentLoadedMonth, workouts, currentWorkout);
+            ui.showMessage("Tags added from exercise: " + String.join(", ", newTags));
+        }
+    }
+
+    //@@author Kart04
+    /**
+     * Merges the tags an exercise contributes into its workout's auto tags. Only the new exercise is looked at,
+     * so the cost does not grow with the number of exercises already in the workout. Workouts whose tags were
+     * overridden with {@code /override_workout_tag} keep them.
+     *
+     * @param workout  the workout the exercise was added to
+     * @param exercise the new exercise
+     * @return the auto tags the exercise added; empty if none
+     */
+    private Set<String> mergeExerciseTags(Workout workout, Exercise exercise) {
+        if (!workout.getManualTags().isEmpty()) {
+            return Set.of();
+        }
+        return workout.mergeAutoTags(tagger.suggestForExercise(exercise));
     }
+    //@@author ZhongBaode
 
     /**
      * Adds a new set to the current exercise.
@@ -742,6 +799,11 @@ public class WorkoutManager {
         }
 
         currentExercise.addSet(reps);
+        try {
+            fileHandler.recordSetAdded(currentLoadedMonth, workouts, currentWorkout, reps);
+        } catch (IOException ioe) {
+            ui.showMessage("[Oops] Failed to save new set: " + ioe.getMessage());
+        }
 
         ui.showMessage("Adding a new set to your exercise!");
         ui.showMessage("Added set to exercise:\n" + currentExercise.toDetailedString());
@@ -827,8 +889,8 @@ public class WorkoutManager {
      * - Allows at most one d/ and one t/ (order: d/ then t/ if both present)
      * - Prompts for missing date/time (defaults to now with confirmation)
      * - Validates end > start
-     * - Rejects if the end time would overlap another workout that starts on the same day:
-     * otherStart in [current.start, proposedEnd]
+     * - Rejects if [current.start, proposedEnd) would overlap any other workout, including
+     * workouts on the next day or in an adjacent month
      */
     public void endWorkout(String initialArgs) {
         if (currentWorkout == null) {
@@ -957,42 +1019,31 @@ public class WorkoutManager {
             return;
         }
 
-        // --- Overlap guard against later workouts on the SAME DAY ---
-        for (Workout w : workouts) {
-            if (w == currentWorkout) {
-                continue;
-            }
+        // --- Overlap guard against any other workout, including ones past midnight or in the next month ---
+        Workout w = overlapIndex().findOverlap(startTime, proposedEnd, currentWorkout);
+        if (w != null) {
             LocalDateTime otherStart = w.getWorkoutStartDateTime();
-            if (otherStart == null) {
-                continue;
-            }
-            if (!otherStart.toLocalDate().equals(startTime.toLocalDate())) {
-                continue;
-            }
-
-            // conflict if another workout starts at/after our start and before our proposed end
-            if (!otherStart.isBefore(startTime) && otherStart.isBefore(proposedEnd)) {
-                String startStr = otherStart.toLocalTime().format(TIME_FMT);
-                LocalDateTime otherEndDT = w.getWorkoutEndDateTime();
-                String endStr = (otherEndDT == null)
-                        ? "ongoing"
-                        : otherEndDT.toLocalTime().format(TIME_FMT);
-
-                ui.showMessage("[Error] End time overlaps another workout: \""
-                        + w.getWorkoutName() + "\" (" + startStr + "–" + endStr + ").");
-                ui.showMessage("Please enter a valid date and time");
-                return;
-            }
+            String startStr = otherStart.toLocalTime().format(TIME_FMT);
+            LocalDateTime otherEndDT = w.getWorkoutEndDateTime();
+            String endStr = (otherEndDT == null)
+                    ? "ongoing"
+                    : otherEndDT.toLocalTime().format(TIME_FMT);
+
+            ui.showMessage("[Error] End time overlaps another workout: \""
+                    + w.getWorkoutName() + "\" (" + startStr + "–" + endStr + ").");
+            ui.showMessage("Please enter a valid date and time");
+            return;
         }
 
         // persist
         currentWorkout.setWorkoutEndDateTime(proposedEnd);
         int duration = currentWorkout.calculateDuration();
         currentWorkout.setDuration(duration);
+        overlapIndex().add(currentWorkout);
 
         try {
             YearMonth monthToSave = YearMonth.from(startTime);
-            fileHandler.saveMonthList(monthToSave, workouts);
+            fileHandler.recordWorkoutEnded(monthToSave, workouts, currentWorkout);
             currentLoadedMonth = monthToSave;
         } catch (IOException ioe) {
             ui.showMessage("[Oops] Failed to save updated workout: " + ioe.getMessage());
@@ -1116,38 +1167,132 @@ public class WorkoutManager {
         return true;
     }
 
+    //@@author ZhongBaode
     /**
-     * Finds an existing workout that the given start time would overlap with.
-     * Overlap rule: same calendar day AND existingStart <= newStart < existingEnd.
-     * If an existing workout has no end time, treat it as ongoing (i.e., overlap if newStart >= existingStart).
+     * Returns the overlap index for the loaded month and its two neighbours, rebuilding it when the loaded
+     * month or its list has changed. Neighbouring months let workouts that cross midnight at a month boundary
+     * be checked too.
      *
-     * @param newStart proposed start time for the new workout
-     * @return the conflicting workout, or null if none
+     * @return the index covering {@code currentLoadedMonth} and the months either side of it
      */
-    private Workout findOverlappingWorkout(LocalDateTime newStart) {
-        for (Workout w : workouts) {
-            LocalDateTime s = w.getWorkoutStartDateTime();
-            if (s == null) {
-                continue;
-            }
-            if (!s.toLocalDate().equals(newStart.toLocalDate())) {
-                continue; // only compare within the same day
-            }
-
-            LocalDateTime e = w.getWorkoutEndDateTime();
-            if (e == null) {
-                // treat as ongoing session from s onwards
-                if (!newStart.isBefore(s)) {
-                    return w;
-                }
-            } else {
-                // overlap if s <= newStart < e
-                boolean startsDuring = !newStart.isBefore(s) && newStart.isBefore(e);
-                if (startsDuring) {
-                    return w;
+    private WorkoutIntervalIndex overlapIndex() {
+        if (currentLoadedMonth.equals(indexedMonth) && workouts == indexedWorkouts) {
+            return overlapIndex;
+        }
+        ArrayList<Workout> window = new ArrayList<>();
+        try {
+            for (Workout w : fileHandler.loadRange(currentLoadedMonth.minusMonths(1),
+                    currentLoadedMonth.plusMonths(1))) {
+                LocalDateTime start = w.getWorkoutStartDateTime();
+                if (start != null && !YearMonth.from(start).equals(currentLoadedMonth)) {
+                    window.add(w);
                 }
             }
+        } catch (IOException e) {
+            ui.showMessage("[Warning] Could not read neighbouring months; "
+                    + "overlaps are only checked within " + currentLoadedMonth + ".");
+        }
+        window.addAll(workouts);
+        overlapIndex.rebuild(window);
+        indexedMonth = currentLoadedMonth;
+        indexedWorkouts = workouts;
+        return overlapIndex;
+    }
+
+    /**
+     * Remembers which workout each number of a month listing refers to, as stable workout IDs.
+     * Later commands that take a listing number resolve it through these IDs, so they keep pointing at the
+     * workout the user saw even after other workouts are deleted.
+     *
+     * @param month  the month that was listed, or {@code null} for a filtered listing spanning months
+     * @param listed the workouts in display order; number 1 is the first element
+     */
+    public void rememberListing(YearMonth month, List<Workout> listed) {
+        long[] ids = new long[listed.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = listed.get(i).getId();
+        }
+        listedMonth = month;
+        listedIds = ids;
+        listingSpansMonths = month == null;
+    }
+
+    /**
+     * Returns whether any listing is remembered, including one spanning months.
+     *
+     * @return {@code true} if a listing was remembered and not forgotten since
+     */
+    public boolean hasAnyListing() {
+        return listedMonth != null || listingSpansMonths;
+    }
+
+    /**
+     * Returns whether a listing of the given month is remembered.
+     *
+     * @param month the month
+     * @return {@code true} if {@link #getListedWorkoutId(YearMonth, int)} can answer for this month
+     */
+    public boolean hasListing(YearMonth month) {
+        return month.equals(listedMonth);
+    }
+
+    /**
+     * Returns the month of the most recent listing.
+     *
+     * @return the listed month, or {@code null} if nothing was listed yet
+     */
+    public YearMonth getListedMonth() {
+        return listedMonth;
+    }
+
+    /**
+     * Returns how many workouts the most recent listing showed.
+     *
+     * @return the size of the listing
+     */
+    public int getListingSize() {
+        return listedIds.length;
+    }
+
+    /**
+     * Returns the stable ID of the workout shown under a listing number.
+     *
+     * @param month     the month the number refers to
+     * @param displayId the 1-based listing number
+     * @return the workout ID, or 0 if that month is not listed or the number is out of range
+     */
+    public long getListedWorkoutId(YearMonth month, int displayId) {
+        if (!hasListing(month) || displayId < 1 || displayId > listedIds.length) {
+            return 0;
         }
-        return null;
+        return listedIds[displayId - 1];
+    }
+
+    /**
+     * Returns the stable ID of the workout shown under a number of the most recent listing, whatever it covered.
+     *
+     * @param displayId the 1-based listing number
+     * @return the workout ID, or 0 if the number is out of range
+     */
+    public long getListedWorkoutId(int displayId) {
+        if (displayId < 1 || displayId > listedIds.length) {
+            return 0;
+        }
+        return listedIds[displayId - 1];
+    }
+
+    private void forgetListing(YearMonth month) {
+        if (hasListing(month)) {
+            listedMonth = null;
+            listedIds = new long[0];
+        }
+    }
+
+    /**
+     * Forces the overlap index to be rebuilt before its next use, e.g. after a workout was deleted.
+     */
+    void invalidateOverlapIndex() {
+        indexedMonth = null;
+        indexedWorkouts = null;
     }
 }
@@ -86,6 +86,29 @@ class DeleteWorkoutTest {
             store.put(ym, copy);
             lastSave = new SaveCall(ym, copy);
         }
+
+        @Override
+        public Workout findWorkout(long id) {
+            for (ArrayList<Workout> list : store.values()) {
+                for (Workout w : list) {
+                    if (w.getId() == id) {
+                        return w;
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean deleteWorkout(long id) {
+            for (Map.Entry<YearMonth, ArrayList<Workout>> e : store.entrySet()) {
+                if (e.getValue().removeIf(w -> w.getId() == id)) {
+                    lastSave = new SaveCall(e.getKey(), new ArrayList<>(e.getValue()));
+                    return true;
+                }
+            }
+            return false;
+        }
     }
 
     /** Fake WorkoutManager that exposes/records only what DeleteWorkout uses. */
@@ -137,6 +160,8 @@ class DeleteWorkoutTest {
         fakeWorkoutManager.setCreationDate(YearMonth.now());
     }
 
+    private static long nextId = 1;
+
     private static Workout makeWorkout(String name,
                                        int y, int m, int d,
                                        int sh, int sm,
@@ -145,6 +170,7 @@ class DeleteWorkoutTest {
         w.setWorkoutName(name);
         w.setWorkoutStartDateTime(LocalDateTime.of(y, m, d, sh, sm));
         w.setWorkoutEndDateTime(LocalDateTime.of(y, m, d, eh, em));
+        w.setId(nextId++);
         return w;
     }
 
@@ -154,7 +180,7 @@ class DeleteWorkoutTest {
     void execute_confirmedDeletion_whenCurrentMonth() throws Exception {
         YearMonth ym = YearMonth.now();
         fakeWorkoutManager.setCurrentLoadedMonth(ym);
-        // Order in file doesn’t matter; DeleteWorkout sorts by end then start (ascending in your code)
+        // DeleteWorkout numbers the month like /view_log: newest start first
         fh.store.put(ym, new ArrayList<>(List.of(
                 makeWorkout("A", 2025,11,1,10,0,11,0),
                 makeWorkout("B", 2025,11,2,10,0,12,0),
@@ -162,19 +188,19 @@ class DeleteWorkoutTest {
         )));
         fakeUI.nextConfirm = true;
 
-        // Delete display index 2 (after ascending sort by end/start, that points to "B")
+        // Delete display index 2 (C, B, A when listed, so that points to "B")
         sut.execute("id/2");
 
-        // Saved once with list missing "B"
+        // Deleted by ID, so the stored order is kept
         assertEquals(2, fh.lastSave.getSize());
         FakeFileHandler.SaveCall sc = fh.lastSave;
         assertEquals(ym, sc.ym);
         List<String> names = sc.listCopy.stream().map(Workout::getWorkoutName).toList();
-        assertEquals(List.of("C", "A"), names);
+        assertEquals(List.of("A", "C"), names);
         // In-memory update because deleting current month
         assertEquals(ym, fakeWorkoutManager.lastSetMonth);
         assertNotNull(fakeWorkoutManager.lastSetList);
-        assertEquals(List.of("C", "A"), fakeWorkoutManager.lastSetList.stream().map(Workout::getWorkoutName).toList());
+        assertEquals(List.of("A", "C"), fakeWorkoutManager.lastSetList.stream().map(Workout::getWorkoutName).toList());
 
         // UI showed details and success
         assertTrue(fakeUI.messages.stream().anyMatch(s -> s.startsWith("[DETAILS] ")));
@@ -245,6 +271,25 @@ class DeleteWorkoutTest {
         assertNull(fakeWorkoutManager.lastSetMonth);
     }
 
+    @Test
+    void execute_listedWorkoutAlreadyDeleted_noSecondDelete() throws Exception {
+        YearMonth ym = YearMonth.of(2025, 11);
+        fh.store.put(ym, new ArrayList<>(List.of(
+                makeWorkout("A", 2025,11,1,10,0,11,0),
+                makeWorkout("B", 2025,11,2,10,0,12,0)
+        )));
+        fakeUI.nextConfirm = true;
+
+        sut.execute("id/1 ym/11/25");
+        fh.lastSave = null;
+        sut.execute("id/1 ym/11/25");
+
+        // Number 1 still refers to the deleted "B" rather than shifting onto "A"
+        assertNull(fh.lastSave);
+        assertEquals(List.of("A"), fh.store.get(ym).stream().map(Workout::getWorkoutName).toList());
+        assertTrue(fakeUI.messages.stream().anyMatch(s -> s.contains("no longer exists")));
+    }
+
     @Test
     void execute_badArgs_throwInvalidArgumentInput() {
         // Missing id
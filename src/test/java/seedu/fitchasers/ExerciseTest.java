@@ -3,7 +3,10 @@ package seedu.fitchasers;
 import org.junit.jupiter.api.Test;
 import seedu.fitchasers.workouts.Exercise;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 //@@author nitin19011
@@ -42,4 +45,21 @@ class ExerciseTest {
         assertTrue(output.contains("Set 2 -> Reps: 10"));
     }
 
+    @Test
+    void addSet_beyondInitialCapacity_keepsAllRepsInOrder() {
+        Exercise ex = new Exercise("Plank", 1);
+        for (int reps = 2; reps <= 20; reps++) {
+            ex.addSet(reps);
+        }
+        assertEquals(20, ex.getNumSets());
+        assertEquals(20, ex.getReps(19));
+        assertEquals(210, ex.streamReps().sum());
+        assertEquals(List.of(1, 2, 3), ex.getSets().subList(0, 3));
+    }
+
+    @Test
+    void getReps_indexPastLastSet_throwsException() {
+        Exercise ex = new Exercise("Lunge", 12);
+        assertThrows(IndexOutOfBoundsException.class, () -> ex.getReps(1));
+    }
 }
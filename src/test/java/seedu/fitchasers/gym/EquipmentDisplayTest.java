@@ -67,6 +67,18 @@ public class EquipmentDisplayTest {
         assertTrue(gyms.contains("Gym1"));
     }
 
+    @Test
+    void testSuggestGymsForExercise_multiWordExercise_rankedByMatchingMachines() {
+        Gym one = new Gym("Gym1");
+        one.addMachine(new Machine("Bench Press Machine", List.of("chest", "bench")));
+        Gym two = new Gym("Gym2");
+        two.addMachine(new Machine("Bench Press Machine", List.of("chest", "bench")));
+        two.addMachine(new Machine("Shoulder Press", List.of("shoulders", "press")));
+
+        Set<String> gyms = EquipmentDisplay.suggestGymsForExercise(List.of(one, two), "n/bench press");
+        assertEquals(List.of("Gym2", "Gym1"), List.copyOf(gyms));
+    }
+
     @Test
     void testSuggestGymsForExercise_noExerciseParam_returnsEmpty() {
         Gym gym = new Gym("Gym1");
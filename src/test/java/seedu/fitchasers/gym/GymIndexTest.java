@@ -0,0 +1,83 @@
+package seedu.fitchasers.gym;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author nitin19011
+public class GymIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static Gym gym(String name, Machine... machines) {
+        Gym gym = new Gym(name);
+        for (Machine m : machines) {
+            gym.addMachine(m);
+        }
+        return gym;
+    }
+
+    @Test
+    void match_moreMatchingMachines_rankedFirst() {
+        Gym small = gym("Small", new Machine("Bench Press", List.of("chest", "bench")));
+        Gym big = gym("Big",
+                new Machine("Bench Press", List.of("chest", "bench", "press")),
+                new Machine("Treadmill", List.of("cardio")),
+                new Machine("Shoulder Press", List.of("shoulders", "overhead press", "press")));
+        GymIndex index = new GymIndex(List.of(small, big));
+
+        List<GymIndex.Match> matches = index.match("Bench Press");
+        assertEquals(2, matches.size());
+        assertEquals("Big", matches.get(0).gym().getName());
+        assertEquals(List.of("Bench Press", "Shoulder Press"),
+                matches.get(0).machines().stream().map(Machine::getName).toList());
+        assertEquals("Small", matches.get(1).gym().getName());
+    }
+
+    @Test
+    void match_wholeWordsOnly_noSubstringMatches() {
+        Gym gym = gym("Gym1",
+                new Machine("Pull-up Bar", List.of("pull", "pull-up", "back")),
+                new Machine("Squat Rack", List.of("squat", "legs")),
+                new Machine("Shoulder Press", List.of("overhead press")));
+        GymIndex index = new GymIndex(List.of(gym));
+
+        assertTrue(index.match("pullover").isEmpty());
+        assertTrue(index.match("backpack carry").isEmpty());
+        assertEquals(1, index.match("Pull-ups").size());
+        assertEquals(1, index.match("front squats").size());
+        assertEquals(1, index.match("leg").size());
+        assertTrue(index.match("overhead squat").get(0).machines().stream()
+                .noneMatch(m -> m.getName().equals("Shoulder Press")));
+        assertEquals(2, index.match("seated overhead press and squat").get(0).machines().size());
+    }
+
+    @Test
+    void match_bundledCatalogue_exerciseFormsFindTheirMachines() throws Exception {
+        List<Gym> gyms = new GymRepository(tempDir.resolve(GymRepository.FILE_NAME)).getGyms();
+
+        assertEquals(Set.of("USC Gym"), EquipmentDisplay.suggestGymsForExercise(gyms, "n/swimming"));
+        assertEquals(Set.of("UTown Gym"), EquipmentDisplay.suggestGymsForExercise(gyms, "n/running"));
+        assertEquals(Set.of("USC Gym"), EquipmentDisplay.suggestGymsForExercise(gyms, "n/cycling"));
+        assertEquals(Set.of("SRC Gym"), EquipmentDisplay.suggestGymsForExercise(gyms, "n/rowing"));
+        assertEquals(Set.of("UTown Gym"), EquipmentDisplay.suggestGymsForExercise(gyms, "n/jogging"));
+    }
+
+    @Test
+    void stem_commonEndings_reducedToSameStem() {
+        assertEquals("swim", GymIndex.stem("swimming"));
+        assertEquals("run", GymIndex.stem("running"));
+        assertEquals(GymIndex.stem("cycle"), GymIndex.stem("cycling"));
+        assertEquals("pull", GymIndex.stem("pulling"));
+        assertEquals("press", GymIndex.stem("presses"));
+        assertEquals("fly", GymIndex.stem("flies"));
+        assertEquals("pullover", GymIndex.stem("pullover"));
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.fitchasers.gym;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author nitin19011
+public class GymRepositoryTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void getGyms_noUserFile_bundledListReadOnFirstUse() throws IOException {
+        GymRepository repository = new GymRepository(tempDir.resolve(GymRepository.FILE_NAME));
+        assertFalse(repository.isLoaded());
+
+        List<Gym> gyms = repository.getGyms();
+        assertTrue(repository.isLoaded());
+        assertEquals(List.of("UTown Gym", "SRC Gym", "USC Gym"), gyms.stream().map(Gym::getName).toList());
+        assertEquals(7, gyms.get(1).getMachines().size());
+        Machine press = gyms.get(1).getMachines().get(3);
+        assertEquals("Shoulder Press", press.getName());
+        assertTrue(press.getBodyPartsTargeted().contains("overhead press"));
+        assertEquals("Deadlifts", gyms.get(2).getMachines().get(0).getExercises());
+        assertEquals("USC Gym", repository.getIndex().match("deadlift").get(0).gym().getName());
+    }
+
+    @Test
+    void reload_userFileEdited_newVenuesUsed() throws IOException {
+        Path file = tempDir.resolve(GymRepository.FILE_NAME);
+        GymRepository repository = new GymRepository(file);
+        assertEquals(3, repository.getGyms().size());
+
+        Files.writeString(file, GymRepository.HEADER + "\n# my gyms\n\ngym|Home\n"
+                + "machine|Kettlebell|Swings, Goblet Squats|legs, posterior-chain, squat\n");
+        assertEquals(3, repository.getGyms().size()); // cached until reloaded
+        assertEquals(1, repository.reload());
+        assertTrue(repository.usesUserFile());
+        assertEquals("Home", repository.getIndex().match("goblet squats").get(0).gym().getName());
+    }
+
+    @Test
+    void reload_malformedFile_errorNamesLineAndPreviousListKept() throws IOException {
+        Path file = tempDir.resolve(GymRepository.FILE_NAME);
+        GymRepository repository = new GymRepository(file);
+        repository.getGyms();
+
+        Files.writeString(file, GymRepository.HEADER + "\nmachine|Rower|Rowing|back\n");
+        IOException e = assertThrows(IOException.class, repository::reload);
+        assertTrue(e.getMessage().contains("line 2"));
+        assertEquals(3, repository.getGyms().size());
+
+        Files.writeString(file, "gym|No header\n");
+        assertThrows(IOException.class, repository::reload);
+    }
+}
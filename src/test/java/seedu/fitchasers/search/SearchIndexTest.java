@@ -0,0 +1,95 @@
+package seedu.fitchasers.search;
+
+import org.junit.jupiter.api.Test;
+import seedu.fitchasers.exceptions.InvalidArgumentInput;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author nitin19011
+class SearchIndexTest {
+    private static final YearMonth OCT = YearMonth.of(2025, 10);
+    private static final YearMonth NOV = YearMonth.of(2025, 11);
+
+    private static SearchIndex sampleIndex() {
+        SearchIndex index = new SearchIndex();
+        index.put(1, OCT, List.of("leg", "day", "squat", "legs"));
+        index.put(2, OCT, List.of("pull", "deadlift", "back"));
+        index.put(3, NOV, List.of("leg", "day", "deadlift", "legs"));
+        index.put(4, NOV, List.of("swim", "cardio"));
+        return index;
+    }
+
+    private static long[] query(SearchIndex index, String text) throws InvalidArgumentInput {
+        return index.query(SearchQuery.parse(text));
+    }
+
+    @Test
+    void query_andOrAndPrefix_matchExpectedIds() throws InvalidArgumentInput {
+        SearchIndex index = sampleIndex();
+
+        assertArrayEquals(new long[] {3}, query(index, "Deadlift LEGS"));
+        assertArrayEquals(new long[] {1, 3, 4}, query(index, "leg OR swim"));
+        assertArrayEquals(new long[] {2, 3}, query(index, "dead*"));
+        assertArrayEquals(new long[0], query(index, "squat swim"));
+    }
+
+    @Test
+    void put_sameIdAgain_oldWordsNoLongerMatch() throws InvalidArgumentInput {
+        SearchIndex index = sampleIndex();
+
+        index.put(4, NOV, List.of("row", "cardio"));
+        index.remove(2);
+
+        assertArrayEquals(new long[0], query(index, "swim"));
+        assertArrayEquals(new long[] {4}, query(index, "row"));
+        assertArrayEquals(new long[] {3}, query(index, "deadlift"));
+    }
+
+    @Test
+    void render_readBack_sameAnswersAndOnlySignedMonths() throws InvalidArgumentInput {
+        SearchIndex index = sampleIndex();
+        index.setSignature(OCT, "abc:10");
+        index.setSignature(NOV, null);
+
+        SearchIndex reread = new SearchIndex();
+        assertTrue(reread.read(new BufferedReader(new StringReader(index.render()))));
+
+        assertArrayEquals(new long[] {1}, query(reread, "leg"));
+        assertEquals("abc:10", reread.getSignature(OCT));
+        assertNull(reread.monthOf(3));
+    }
+
+    @Test
+    void parse_emptyAlternative_rejected() {
+        assertThrows(InvalidArgumentInput.class, () -> SearchQuery.parse("squat OR"));
+        assertThrows(InvalidArgumentInput.class, () -> SearchQuery.parse("  "));
+    }
+
+    @Test
+    void startingBetween_andTaggedWith_intersectToRangeAndTag() {
+        SearchIndex index = new SearchIndex();
+        index.put(1, OCT, LocalDateTime.of(2025, 10, 1, 9, 0), List.of("legs", SearchIndex.tagToken("Legs")));
+        index.put(2, OCT, LocalDateTime.of(2025, 10, 20, 9, 0), List.of(SearchIndex.tagToken("legs")));
+        index.put(3, NOV, LocalDateTime.of(2025, 11, 1, 0, 0), List.of(SearchIndex.tagToken("legs")));
+
+        assertArrayEquals(new long[] {1, 2},
+                index.startingBetween(OCT.atDay(1).atStartOfDay(), NOV.atDay(1).atStartOfDay()));
+        assertArrayEquals(new long[] {1, 2, 3}, index.taggedWith("LEGS"));
+        assertEquals(0, index.taggedWith("legs day").length);
+
+        index.put(2, OCT, LocalDateTime.of(2025, 10, 25, 9, 0), List.of());
+        assertArrayEquals(new long[] {1},
+                PostingList.intersect(index.taggedWith("legs"), index.startingBetween(
+                        LocalDateTime.of(2025, 10, 1, 0, 0), LocalDateTime.of(2025, 10, 31, 0, 0))));
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.fitchasers.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.fitchasers.storage.FileHandler;
+import seedu.fitchasers.storage.TestStorage;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+//@@author nitin19011
+class WorkoutSearchTest {
+    private static final YearMonth OCT = YearMonth.of(2025, 10);
+    private static final YearMonth NOV = YearMonth.of(2025, 11);
+
+    @TempDir
+    Path tempDir;
+
+    private static Workout workout(String name, LocalDateTime start, String exercise) {
+        Workout w = TestStorage.workout(name, start);
+        if (exercise != null) {
+            w.addExercise(new Exercise(exercise, 5));
+        }
+        return w;
+    }
+
+    private static List<String> names(WorkoutSearch.Result result) {
+        return result.matches().stream().map(Workout::getWorkoutName).toList();
+    }
+
+    private FileHandler handler() throws Exception {
+        return TestStorage.newHandler(tempDir);
+    }
+
+    @Test
+    void search_followsCreateAndDelete() throws Exception {
+        FileHandler fileHandler = handler();
+        fileHandler.saveMonthList(OCT, new ArrayList<>(List.of(
+                workout("Pull", LocalDateTime.of(2025, 10, 2, 9, 0), "Deadlift"))));
+        WorkoutSearch search = new WorkoutSearch(fileHandler, tempDir.resolve(WorkoutSearch.INDEX_FILE_NAME));
+        assertEquals(1, search.search(SearchQuery.parse("deadlift"), 10).total());
+
+        ArrayList<Workout> october = fileHandler.loadMonthList(OCT);
+        Workout legs = workout("Leg Day", LocalDateTime.of(2025, 10, 5, 9, 0), "Romanian Deadlift");
+        october.add(legs);
+        fileHandler.recordWorkoutCreated(OCT, october, legs);
+        assertEquals(List.of("Leg Day", "Pull"), names(search.search(SearchQuery.parse("deadlift"), 10)));
+
+        fileHandler.deleteWorkout(october.get(0).getId());
+        assertEquals(List.of("Leg Day"), names(search.search(SearchQuery.parse("deadlift"), 10)));
+    }
+
+    @Test
+    void save_nextSession_unchangedMonthsNotRead() throws Exception {
+        FileHandler first = handler();
+        first.saveMonthList(OCT, new ArrayList<>(List.of(
+                workout("Swim", LocalDateTime.of(2025, 10, 2, 9, 0), null))));
+        first.saveMonthList(NOV, new ArrayList<>(List.of(
+                workout("Run", LocalDateTime.of(2025, 11, 2, 9, 0), null))));
+        WorkoutSearch firstSearch = new WorkoutSearch(first, tempDir.resolve(WorkoutSearch.INDEX_FILE_NAME));
+        firstSearch.search(SearchQuery.parse("swim"), 10);
+        first.compactJournals();
+        firstSearch.save();
+
+        FileHandler second = handler();
+        WorkoutSearch secondSearch = new WorkoutSearch(second, tempDir.resolve(WorkoutSearch.INDEX_FILE_NAME));
+        WorkoutSearch.Result result = secondSearch.search(SearchQuery.parse("run OR swim"), 1);
+
+        assertEquals(2, result.total());
+        assertEquals(List.of("Run"), names(result));
+        assertFalse(second.getArrayByMonth().containsKey(OCT));
+    }
+
+    @Test
+    void filter_tagsAndRange_matchesAcrossMonthsNewestFirst() throws Exception {
+        FileHandler fileHandler = handler();
+        Workout octLegs = workout("Squats", LocalDateTime.of(2025, 10, 2, 9, 0), null);
+        octLegs.setManualTags(Set.of("legs", "strength"));
+        Workout octCardio = workout("Run", LocalDateTime.of(2025, 10, 9, 9, 0), null);
+        octCardio.setManualTags(Set.of("cardio"));
+        Workout novLegs = workout("Lunges", LocalDateTime.of(2025, 11, 3, 9, 0), null);
+        novLegs.setManualTags(Set.of("legs", "strength"));
+        Workout novLegsOnly = workout("Calves", LocalDateTime.of(2025, 11, 4, 9, 0), null);
+        novLegsOnly.setManualTags(Set.of("legs"));
+        fileHandler.saveMonthList(OCT, new ArrayList<>(List.of(octLegs, octCardio)));
+        fileHandler.saveMonthList(NOV, new ArrayList<>(List.of(novLegs, novLegsOnly)));
+        WorkoutSearch search = new WorkoutSearch(fileHandler, tempDir.resolve(WorkoutSearch.INDEX_FILE_NAME));
+
+        List<Workout> both = search.filter(List.of("Strength", "legs"),
+                OCT.atDay(1).atStartOfDay(), NOV.plusMonths(1).atDay(1).atStartOfDay());
+        assertEquals(List.of("Lunges", "Squats"), both.stream().map(Workout::getWorkoutName).toList());
+
+        List<Workout> october = search.filter(List.of("legs"),
+                OCT.atDay(1).atStartOfDay(), NOV.atDay(1).atStartOfDay());
+        assertEquals(List.of("Squats"), october.stream().map(Workout::getWorkoutName).toList());
+
+        List<Workout> rangeOnly = search.filter(List.of(),
+                LocalDateTime.of(2025, 10, 9, 0, 0), LocalDateTime.of(2025, 11, 4, 0, 0));
+        assertEquals(List.of("Lunges", "Run"), rangeOnly.stream().map(Workout::getWorkoutName).toList());
+    }
+
+    @Test
+    void search_whileHandlerBusyReindexingMonth_noDeadlock() throws Exception {
+        FileHandler fileHandler = handler();
+        fileHandler.saveMonthList(OCT, new ArrayList<>(List.of(
+                workout("Swim", LocalDateTime.of(2025, 10, 2, 9, 0), null))));
+        WorkoutSearch search = new WorkoutSearch(fileHandler, tempDir.resolve(WorkoutSearch.INDEX_FILE_NAME));
+        search.search(SearchQuery.parse("swim"), 10);
+        List<Workout> october = fileHandler.loadMonthList(OCT);
+
+        Thread searcher = new Thread(() -> {
+            try {
+                search.search(SearchQuery.parse("swim"), 10);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread loader = new Thread(() -> search.monthReplaced(OCT, october)); // as a loader does, under the lock
+        searcher.setDaemon(true);
+        loader.setDaemon(true);
+        synchronized (fileHandler) { // a background load holding the handler's lock
+            searcher.start();
+            while (searcher.getState() != Thread.State.BLOCKED && searcher.isAlive()) {
+                Thread.sleep(1);
+            }
+            loader.start();
+            loader.join(2_000);
+            assertFalse(loader.isAlive());
+        }
+        searcher.join(2_000);
+        assertFalse(searcher.isAlive());
+    }
+}
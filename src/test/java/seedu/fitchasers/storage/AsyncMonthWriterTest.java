@@ -0,0 +1,95 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class AsyncMonthWriterTest {
+    private static final YearMonth MONTH = YearMonth.of(2025, 10);
+
+    private final Object lock = new Object();
+
+    @Test
+    void markDirty_sameMonthWithinWindow_writtenOnce() throws IOException {
+        AsyncMonthWriter writer = new AsyncMonthWriter(lock, Duration.ofMinutes(1));
+        List<String> written = new ArrayList<>();
+        writer.markDirty(MONTH, () -> written.add("first"));
+        writer.markDirty(MONTH, () -> written.add("second"));
+        writer.markDirty(MONTH, () -> written.add("third"));
+        assertTrue(writer.isPending(MONTH));
+
+        writer.flush(MONTH);
+
+        assertEquals(List.of("third"), written);
+        assertFalse(writer.isPending(MONTH));
+        assertEquals(3L, writer.getRequestedWrites());
+        assertEquals(1L, writer.getPerformedWrites());
+    }
+
+    @Test
+    void markDirty_zeroWindow_writesImmediately() throws IOException {
+        AsyncMonthWriter writer = new AsyncMonthWriter(lock, Duration.ZERO);
+        List<String> written = new ArrayList<>();
+        writer.markDirty(MONTH, () -> written.add("now"));
+
+        assertEquals(List.of("now"), written);
+        assertFalse(writer.isPending(MONTH));
+    }
+
+    @Test
+    void markDirty_windowElapsed_writtenInBackground() throws Exception {
+        AsyncMonthWriter writer = new AsyncMonthWriter(lock, Duration.ofMillis(10));
+        List<String> written = new ArrayList<>();
+        writer.markDirty(MONTH, () -> written.add("later"));
+
+        for (int i = 0; i < 200 && writer.isPending(MONTH); i++) {
+            Thread.sleep(10);
+        }
+
+        synchronized (lock) {
+            assertEquals(List.of("later"), written);
+        }
+    }
+
+    @Test
+    void flushAll_failingWrite_throwsIoException() {
+        AsyncMonthWriter writer = new AsyncMonthWriter(lock, Duration.ofMinutes(1));
+        assertThrows(IOException.class, () -> {
+            writer.markDirty(MONTH, () -> {
+                throw new IOException("disk full");
+            });
+            writer.flushAll();
+        });
+    }
+
+    @Test
+    void close_workerRunning_flushesAndStopsWorker() throws Exception {
+        AsyncMonthWriter writer = new AsyncMonthWriter(lock, Duration.ofMinutes(1));
+        List<String> written = new ArrayList<>();
+        List<Thread> before = writerThreads();
+        writer.markDirty(MONTH, () -> written.add("queued"));
+        Thread worker = writerThreads().stream().filter(t -> !before.contains(t)).findFirst().orElseThrow();
+
+        writer.close();
+        worker.join(2000);
+
+        assertEquals(List.of("queued"), written);
+        assertFalse(worker.isAlive());
+    }
+
+    private static List<Thread> writerThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(t -> t.getName().equals("fitchasers-month-writer"))
+                .toList();
+    }
+}
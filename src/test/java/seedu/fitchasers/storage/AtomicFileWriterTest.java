@@ -0,0 +1,51 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+//@@author Kart04
+class AtomicFileWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writeString_existingFile_replacedWithoutTempLeft() throws IOException {
+        Path target = tempDir.resolve("weight.txt");
+        Files.writeString(target, "old contents that are longer than the new ones");
+
+        new AtomicFileWriter(false).writeString(target, "new");
+
+        assertEquals("new", Files.readString(target));
+        assertFalse(Files.exists(tempDir.resolve("weight.txt" + AtomicFileWriter.TEMP_SUFFIX)));
+    }
+
+    @Test
+    void write_groupCommit_syncsDirectoryOncePerBatch() throws IOException {
+        AtomicFileWriter files = new AtomicFileWriter(true);
+        files.writeString(tempDir.resolve("workouts_2025-09.bin"), "a");
+        files.writeString(tempDir.resolve("workouts_2025-10.bin"), "b");
+        files.delete(tempDir.resolve("workouts_2025-10.journal"));
+        assertEquals(1, files.getUnsyncedDirCount());
+
+        files.commit();
+
+        assertEquals(0, files.getUnsyncedDirCount());
+        assertEquals("b", Files.readString(tempDir.resolve("workouts_2025-10.bin")));
+    }
+
+    @Test
+    void write_noGroupCommit_syncsImmediately() throws IOException {
+        AtomicFileWriter files = new AtomicFileWriter(false);
+        files.writeString(tempDir.resolve("goal.txt"), "60.0,2025-10-01");
+
+        assertEquals(0, files.getUnsyncedDirCount());
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class BinaryMonthCodecTest {
+
+    private static byte[] encode(List<Workout> workouts, long seq) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryMonthCodec.encode(out, workouts, seq);
+        return out.toByteArray();
+    }
+
+    @Test
+    void decode_encodedMonth_roundTripsAllFields() throws IOException {
+        Workout leg = new Workout("Leg Day", LocalDateTime.of(2025, 10, 1, 9, 0),
+                LocalDateTime.of(2025, 10, 1, 10, 15));
+        leg.setAutoTags(Set.of("legs"));
+        leg.setManualTags(Set.of("strength"));
+        Exercise squat = new Exercise("Squat", 8);
+        squat.addSet(10);
+        squat.addSet(1000);
+        leg.addExercise(squat);
+        leg.setId(300);
+        Workout unended = new Workout("Run", LocalDateTime.of(2025, 10, 2, 7, 0));
+
+        BinaryMonthCodec.Segment segment = BinaryMonthCodec.decode(
+                new ByteArrayInputStream(encode(List.of(leg, unended), 42)));
+
+        assertEquals(42, segment.journalSeq());
+        ArrayList<Workout> workouts = segment.workouts();
+        assertEquals(2, workouts.size());
+        Workout first = workouts.get(0);
+        assertEquals("Leg Day", first.getWorkoutName());
+        assertEquals(LocalDateTime.of(2025, 10, 1, 10, 15), first.getWorkoutEndDateTime());
+        assertEquals(75, first.getDuration());
+        assertEquals(300, first.getId());
+        assertEquals(0, workouts.get(1).getId());
+        assertEquals(Set.of("legs"), first.getAutoTags());
+        assertEquals(Set.of("strength"), first.getManualTags());
+        assertEquals(List.of(8, 10, 1000), first.getExercises().get(0).getSets());
+        assertNull(workouts.get(1).getWorkoutEndDateTime());
+    }
+
+    @Test
+    void decode_byteBuffer_sameAsStream() throws IOException {
+        Workout run = new Workout("Run", LocalDateTime.of(2025, 10, 3, 6, 30), LocalDateTime.of(2025, 10, 3, 7, 0));
+        run.addExercise(new Exercise("Sprint", 4));
+        byte[] bytes = encode(List.of(run), 7);
+
+        BinaryMonthCodec.Segment segment = BinaryMonthCodec.decode(ByteBuffer.wrap(bytes));
+
+        assertEquals(7, segment.journalSeq());
+        assertEquals("Run", segment.workouts().get(0).getWorkoutName());
+        assertEquals(List.of(4), segment.workouts().get(0).getExercises().get(0).getSets());
+    }
+
+    @Test
+    void decode_month_exercisesDeferredUntilOpened() throws IOException {
+        Workout push = new Workout("Push", LocalDateTime.of(2025, 10, 4, 18, 0), LocalDateTime.of(2025, 10, 4, 19, 0));
+        push.addExercise(new Exercise("Bench Press", 8));
+        push.addExercise(new Exercise("Dips", 12));
+        Workout walk = new Workout("Walk", LocalDateTime.of(2025, 10, 5, 7, 0), LocalDateTime.of(2025, 10, 5, 7, 30));
+
+        List<Workout> decoded = BinaryMonthCodec.decode(new ByteArrayInputStream(encode(List.of(push, walk), 0)))
+                .workouts();
+
+        Workout first = decoded.get(0);
+        assertFalse(first.hasLoadedExercises());
+        assertTrue(decoded.get(1).hasLoadedExercises());
+        assertEquals("Dips", first.getCurrentExercise().getName());
+        assertTrue(first.hasLoadedExercises());
+        assertEquals(2, first.getExercises().size());
+    }
+
+    @Test
+    void encode_unopenedWorkouts_copiedWithoutLoading() throws IOException {
+        Workout leg = new Workout("Leg Day", LocalDateTime.of(2025, 10, 6, 9, 0));
+        Exercise squat = new Exercise("Squat", 5);
+        squat.addSet(3);
+        leg.addExercise(squat);
+        List<Workout> decoded = BinaryMonthCodec.decode(new ByteArrayInputStream(encode(List.of(leg), 0)))
+                .workouts();
+        Workout other = new Workout("Upper", LocalDateTime.of(2025, 10, 7, 9, 0));
+        other.addExercise(new Exercise("Row", 10));
+        List<Workout> month = List.of(other, decoded.get(0));
+
+        byte[] reencoded = encode(month, 1);
+
+        assertFalse(decoded.get(0).hasLoadedExercises());
+        List<Workout> again = BinaryMonthCodec.decode(new ByteArrayInputStream(reencoded)).workouts();
+        assertEquals("Row", again.get(0).getExercises().get(0).getName());
+        assertEquals("Squat", again.get(1).getExercises().get(0).getName());
+        assertEquals(List.of(5, 3), again.get(1).getExercises().get(0).getSets());
+    }
+
+    @Test
+    void encode_repeatedNames_smallerThanTextFormat() throws IOException {
+        List<Workout> month = new ArrayList<>();
+        for (int day = 1; day <= 28; day++) {
+            Workout w = new Workout("Push Day", LocalDateTime.of(2025, 2, day, 18, 0),
+                    LocalDateTime.of(2025, 2, day, 19, 0));
+            w.setAutoTags(Set.of("chest"));
+            w.addExercise(new Exercise("Bench Press", 8));
+            month.add(w);
+        }
+        // one text block per workout is well over 100 bytes
+        assertTrue(encode(month, 0).length < 28 * 40);
+    }
+
+    @Test
+    void decode_wrongMagic_throwsIoException() {
+        byte[] bytes = "WORKOUT\nName: x\n".getBytes();
+        assertThrows(IOException.class, () -> BinaryMonthCodec.decode(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void decode_truncatedSegment_throwsIoException() throws IOException {
+        byte[] full = encode(List.of(new Workout("Swim", LocalDateTime.of(2025, 3, 1, 8, 0))), 0);
+        byte[] truncated = Arrays.copyOf(full, full.length - 2);
+        assertThrows(IOException.class, () -> BinaryMonthCodec.decode(new ByteArrayInputStream(truncated)));
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.fitchasers.exceptions.FileNonexistent;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.fitchasers.storage.TestStorage.workout;
+
+//@@author Kart04
+class FileHandlerIdTest {
+    private static final YearMonth OCT = YearMonth.of(2025, 10);
+    private static final YearMonth NOV = YearMonth.of(2025, 11);
+
+    @TempDir
+    Path tempDir;
+
+    private FileHandler newHandler() throws IOException {
+        return TestStorage.newHandler(tempDir);
+    }
+
+    @Test
+    void saveMonthList_newWorkouts_idsAssignedAndKeptAcrossReload() throws IOException, FileNonexistent {
+        FileHandler writer = newHandler();
+        writer.saveMonthList(OCT, new ArrayList<>(List.of(
+                workout("Swim", LocalDateTime.of(2025, 10, 20, 8, 0)),
+                workout("Run", LocalDateTime.of(2025, 10, 3, 7, 0)))));
+        writer.flush();
+        ArrayList<Workout> saved = writer.loadMonthList(OCT);
+        long swimId = saved.get(0).getId();
+        assertNotEquals(0, swimId);
+        assertNotEquals(swimId, saved.get(1).getId());
+
+        FileHandler reader = newHandler();
+        reader.loadMonthList(OCT);
+
+        assertEquals("Swim", reader.findWorkout(swimId).getWorkoutName());
+        assertEquals(OCT, reader.findMonthOf(swimId));
+    }
+
+    @Test
+    void deleteWorkout_byId_removesOnlyThatWorkout() throws IOException, FileNonexistent {
+        FileHandler fileHandler = newHandler();
+        fileHandler.saveMonthList(OCT, new ArrayList<>(List.of(
+                workout("Swim", LocalDateTime.of(2025, 10, 20, 8, 0)),
+                workout("Run", LocalDateTime.of(2025, 10, 3, 7, 0)),
+                workout("Lift", LocalDateTime.of(2025, 10, 9, 18, 0)))));
+        long runId = fileHandler.loadMonthList(OCT).get(1).getId();
+
+        assertTrue(fileHandler.deleteWorkout(runId));
+        assertFalse(fileHandler.deleteWorkout(runId));
+        fileHandler.flush();
+
+        assertNull(fileHandler.findWorkout(runId));
+        List<String> names = newHandler().loadMonthList(OCT).stream().map(Workout::getWorkoutName).toList();
+        assertEquals(List.of("Swim", "Lift"), names);
+    }
+
+    @Test
+    void deleteWorkout_pinnedMonthAfterManyReads_heldListStaysInSync() throws IOException, FileNonexistent {
+        FileHandler fileHandler = newHandler();
+        fileHandler.saveMonthList(OCT, new ArrayList<>(List.of(
+                workout("Swim", LocalDateTime.of(2025, 10, 20, 8, 0)),
+                workout("Run", LocalDateTime.of(2025, 10, 3, 7, 0)))));
+        ArrayList<Workout> held = fileHandler.loadMonthList(OCT);
+        fileHandler.pinMonth(OCT);
+        long runId = held.get(1).getId();
+        for (int i = 1; i <= MonthCache.DEFAULT_CAPACITY + 1; i++) {
+            YearMonth other = YearMonth.of(2024, 1).plusMonths(i);
+            fileHandler.saveMonthList(other, new ArrayList<>(List.of(
+                    workout("Walk", other.atDay(1).atTime(9, 0)))));
+            fileHandler.loadMonthList(other);
+        }
+
+        assertTrue(fileHandler.deleteWorkout(runId));
+        assertEquals(1, held.size());
+        Workout lift = workout("Lift", LocalDateTime.of(2025, 10, 9, 18, 0));
+        held.add(lift);
+        fileHandler.recordWorkoutCreated(OCT, held, lift);
+        fileHandler.flush();
+
+        List<String> names = newHandler().loadMonthList(OCT).stream().map(Workout::getWorkoutName).toList();
+        assertEquals(List.of("Swim", "Lift"), names);
+    }
+
+    @Test
+    void recordWorkoutCreated_afterDelete_idNotReused() throws IOException, FileNonexistent {
+        FileHandler fileHandler = newHandler();
+        fileHandler.saveMonthList(OCT, new ArrayList<>(List.of(
+                workout("Swim", LocalDateTime.of(2025, 10, 20, 8, 0)))));
+        long swimId = fileHandler.loadMonthList(OCT).get(0).getId();
+        fileHandler.deleteWorkout(swimId);
+        fileHandler.flush();
+
+        FileHandler reopened = newHandler();
+        ArrayList<Workout> november = new ArrayList<>();
+        Workout row = workout("Row", LocalDateTime.of(2025, 11, 2, 6, 0));
+        november.add(row);
+        reopened.recordWorkoutCreated(NOV, november, row);
+
+        assertTrue(row.getId() > swimId);
+        assertEquals(NOV, reopened.findMonthOf(row.getId()));
+    }
+
+    @Test
+    void findWorkout_monthNotReadThisSession_foundThroughManifest() throws IOException, FileNonexistent {
+        FileHandler writer = newHandler();
+        writer.saveMonthList(OCT, new ArrayList<>(List.of(
+                workout("Swim", LocalDateTime.of(2025, 10, 20, 8, 0)),
+                workout("Run", LocalDateTime.of(2025, 10, 3, 7, 0)))));
+        writer.saveMonthList(NOV, new ArrayList<>(List.of(
+                workout("Row", LocalDateTime.of(2025, 11, 2, 6, 0)))));
+        writer.flush();
+        long runId = writer.loadMonthList(OCT).get(1).getId();
+        long rowId = writer.loadMonthList(NOV).get(0).getId();
+
+        FileHandler reopened = newHandler();
+        assertEquals(NOV, reopened.findMonthOf(rowId));
+        assertEquals("Row", reopened.findWorkout(rowId).getWorkoutName());
+        assertNull(reopened.findWorkout(rowId + 1000));
+        assertTrue(reopened.deleteWorkout(runId));
+        assertNull(reopened.findMonthOf(runId)); // the manifest still lists it until October is rewritten
+        reopened.flush();
+
+        List<String> names = newHandler().loadMonthList(OCT).stream().map(Workout::getWorkoutName).toList();
+        assertEquals(List.of("Swim"), names);
+    }
+}
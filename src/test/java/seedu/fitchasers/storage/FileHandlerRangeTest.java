@@ -0,0 +1,148 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.fitchasers.exceptions.FileNonexistent;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.fitchasers.storage.TestStorage.workout;
+
+//@@author Kart04
+class FileHandlerRangeTest {
+    private static final YearMonth OCT = YearMonth.of(2025, 10);
+    private static final YearMonth NOV = YearMonth.of(2025, 11);
+    private static final YearMonth DEC = YearMonth.of(2025, 12);
+
+    @TempDir
+    Path tempDir;
+
+    private void saveHistory() throws IOException {
+        FileHandler writer = TestStorage.newHandler(tempDir);
+        writer.saveMonthList(OCT, new ArrayList<>(List.of(
+                workout("Swim", LocalDateTime.of(2025, 10, 20, 8, 0)),
+                workout("Run", LocalDateTime.of(2025, 10, 3, 7, 0)))));
+        writer.saveMonthList(NOV, new ArrayList<>());
+        writer.saveMonthList(DEC, new ArrayList<>(List.of(
+                workout("Lift", LocalDateTime.of(2025, 12, 1, 18, 0)))));
+        writer.flush();
+    }
+
+    @Test
+    void loadRange_severalMonths_mergedInStartOrder() throws IOException {
+        saveHistory();
+        FileHandler fileHandler = new FileHandler(tempDir);
+
+        List<Workout> range = fileHandler.loadRange(YearMonth.of(2025, 9), DEC);
+
+        assertEquals(3, range.size());
+        assertEquals("Run", range.get(0).getWorkoutName());
+        assertEquals("Swim", range.get(1).getWorkoutName());
+        assertEquals("Lift", range.get(2).getWorkoutName());
+    }
+
+    @Test
+    void monthSignatures_monthFileEditedInPlace_manifestEntryRefreshed() throws IOException {
+        saveHistory();
+        Map<YearMonth, String> before = new FileHandler(tempDir).monthSignatures();
+        Path workoutDir = tempDir.resolve("workouts");
+        FileTime dirTime = Files.getLastModifiedTime(workoutDir);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryMonthCodec.encode(bytes, List.of(
+                workout("Lift", LocalDateTime.of(2025, 12, 1, 18, 0)),
+                workout("Row", LocalDateTime.of(2025, 12, 2, 18, 0))), 0);
+        Files.write(workoutDir.resolve("workouts_2025-12.bin"), bytes.toByteArray());
+        Files.setLastModifiedTime(workoutDir, dirTime); // as when a file system only notes renames
+
+        FileHandler fileHandler = new FileHandler(tempDir);
+        Map<YearMonth, String> after = fileHandler.monthSignatures();
+
+        assertEquals(before.get(OCT), after.get(OCT));
+        assertNotEquals(before.get(DEC), after.get(DEC));
+        assertEquals(2, fileHandler.knownWorkoutCount(DEC));
+    }
+
+    @Test
+    void loadRange_emptyMonthInManifest_skippedAndNotCached() throws IOException {
+        saveHistory();
+        FileHandler fileHandler = new FileHandler(tempDir);
+
+        fileHandler.loadRange(OCT, DEC);
+
+        assertTrue(fileHandler.getArrayByMonth().containsKey(OCT));
+        assertFalse(fileHandler.getArrayByMonth().containsKey(NOV));
+        assertTrue(fileHandler.getArrayByMonth().containsKey(DEC));
+    }
+
+    @Test
+    void loadRange_afterJournalledChange_includesChange() throws IOException, FileNonexistent {
+        saveHistory();
+        FileHandler fileHandler = new FileHandler(tempDir);
+        ArrayList<Workout> december = fileHandler.loadMonthList(DEC);
+        Workout added = workout("Row", LocalDateTime.of(2025, 12, 2, 6, 0));
+        december.add(added);
+        fileHandler.recordWorkoutCreated(DEC, december, added);
+
+        List<Workout> range = new FileHandler(tempDir).loadRange(DEC, DEC);
+
+        assertEquals(2, range.size());
+        assertEquals("Row", range.get(1).getWorkoutName());
+    }
+
+    @Test
+    void loadRange_corruptedTextWorkout_warningPrintedOnCallingThread() throws IOException {
+        Path workoutDir = tempDir.resolve("workouts");
+        Files.createDirectories(workoutDir);
+        Files.writeString(workoutDir.resolve("workouts_2025-10.txt"), """
+                WORKOUT
+                Name: Bad date
+                Start: 2025-02-31T09:00
+                END_WORKOUT
+                WORKOUT
+                Name: Good
+                Start: 2025-10-01T11:00
+                End: 2025-10-01T12:00
+                DurationMin: 60
+                END_WORKOUT
+                """);
+        FileHandler fileHandler = new FileHandler(tempDir);
+        fileHandler.monthSignatures(); // index first, so only the range load prints below
+
+        Set<Thread> printers = new HashSet<>();
+        PrintStream original = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()) {
+            @Override
+            public void println(String x) {
+                synchronized (printers) {
+                    printers.add(Thread.currentThread());
+                }
+            }
+        });
+        List<Workout> range;
+        try {
+            range = fileHandler.loadRange(OCT, OCT);
+        } finally {
+            System.setOut(original);
+        }
+
+        assertEquals(1, range.size());
+        assertEquals(Set.of(Thread.currentThread()), printers);
+    }
+}
@@ -23,4 +23,9 @@ public class FileHandlerTest extends FileHandler {
         // Return an empty list, no file I/O during tests
         return new ArrayList<>();
     }
+
+    @Override
+    public ArrayList<Workout> loadRange(YearMonth from, YearMonth to) {
+        return new ArrayList<>();
+    }
 }
@@ -0,0 +1,68 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.fitchasers.workouts.Workout;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+//@@author Kart04
+class MonthCacheTest {
+
+    @Test
+    void lookup_cachedAndUncachedMonths_countsHitsAndMisses() {
+        MonthCache cache = new MonthCache(2);
+        ArrayList<Workout> october = new ArrayList<>();
+        cache.put(YearMonth.of(2025, 10), october);
+
+        assertSame(october, cache.lookup(YearMonth.of(2025, 10)));
+        assertSame(october, cache.lookup(YearMonth.of(2025, 10)));
+        assertNull(cache.lookup(YearMonth.of(2025, 9)));
+
+        assertEquals(2L, cache.getHits());
+        assertEquals(1L, cache.getMisses());
+    }
+
+    @Test
+    void put_overCapacity_evictsLeastRecentlyUsed() {
+        MonthCache cache = new MonthCache(2);
+        cache.put(YearMonth.of(2025, 8), new ArrayList<>());
+        cache.put(YearMonth.of(2025, 9), new ArrayList<>());
+        cache.lookup(YearMonth.of(2025, 8)); // August is now more recent than September
+
+        cache.put(YearMonth.of(2025, 10), new ArrayList<>());
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(YearMonth.of(2025, 8)));
+        assertNull(cache.get(YearMonth.of(2025, 9)));
+        assertEquals(1L, cache.getEvictions());
+    }
+
+    @Test
+    void put_overCapacity_keepsPinnedMonth() {
+        MonthCache cache = new MonthCache(2);
+        ArrayList<Workout> august = new ArrayList<>();
+        cache.put(YearMonth.of(2025, 8), august);
+        cache.pin(YearMonth.of(2025, 8));
+        cache.put(YearMonth.of(2025, 9), new ArrayList<>());
+
+        cache.put(YearMonth.of(2025, 10), new ArrayList<>());
+        cache.put(YearMonth.of(2025, 11), new ArrayList<>());
+
+        assertEquals(2, cache.size());
+        assertSame(august, cache.get(YearMonth.of(2025, 8)));
+        assertNotNull(cache.get(YearMonth.of(2025, 11)));
+        assertEquals(2L, cache.getEvictions());
+    }
+
+    @Test
+    void constructor_zeroCapacity_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new MonthCache(0));
+    }
+}
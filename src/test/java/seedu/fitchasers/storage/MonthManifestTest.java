@@ -0,0 +1,118 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class MonthManifestTest {
+    private static final YearMonth MONTH = YearMonth.of(2025, 10);
+
+    @TempDir
+    Path tempDir;
+
+    private Path workoutDir;
+    private Path manifestPath;
+    private long[] writtenIds;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        workoutDir = Files.createDirectories(tempDir.resolve("workouts"));
+        manifestPath = tempDir.resolve("manifest.txt");
+    }
+
+    private MonthManifest writtenManifest() throws IOException {
+        Path file = workoutDir.resolve("workouts_2025-10.bin");
+        byte[] bytes = {1, 2, 3};
+        Files.write(file, bytes);
+        Workout ended = new Workout("Run", LocalDateTime.of(2025, 10, 1, 7, 0),
+                LocalDateTime.of(2025, 10, 1, 7, 45));
+        Workout unended = new Workout("Swim", LocalDateTime.of(2025, 10, 2, 8, 0));
+        ended.setId(41);
+        unended.setId(7);
+        writtenIds = new long[] {41, 7};
+
+        MonthManifest manifest = new MonthManifest(manifestPath);
+        manifest.put(MONTH, file, bytes, MonthManifest.Summary.of(List.of(ended, unended)));
+        Files.writeString(manifestPath, manifest.render(workoutDir));
+        return manifest;
+    }
+
+    @Test
+    void load_afterRender_restoresEntries() throws IOException {
+        writtenManifest();
+
+        MonthManifest loaded = new MonthManifest(manifestPath);
+        assertTrue(loaded.load(workoutDir));
+
+        MonthManifest.Entry entry = loaded.get(MONTH);
+        assertEquals("workouts_2025-10.bin", entry.file());
+        assertEquals(3L, entry.size());
+        assertEquals(2, entry.workoutCount());
+        assertEquals(45L, entry.totalMinutes());
+        assertTrue(entry.hasUnended());
+        assertFalse(entry.hasJournal());
+        assertFalse(loaded.isDirty());
+        assertEquals(MONTH, loaded.monthOfId(writtenIds[0]));
+        assertEquals(MONTH, loaded.monthOfId(writtenIds[1]));
+        assertNull(loaded.monthOfId(writtenIds[1] + 1));
+    }
+
+    @Test
+    void load_directoryChangedSinceRender_reportsStale() throws IOException {
+        writtenManifest();
+        Files.writeString(workoutDir.resolve("workouts_2025-11.txt"), "");
+        Files.setLastModifiedTime(workoutDir, FileTime.fromMillis(System.currentTimeMillis() + 5_000));
+
+        MonthManifest loaded = new MonthManifest(manifestPath);
+        assertFalse(loaded.load(workoutDir));
+        assertFalse(loaded.contains(MONTH));
+    }
+
+    @Test
+    void changedEntries_fileEditedInPlace_reportsMonth() throws IOException {
+        writtenManifest();
+        MonthManifest loaded = new MonthManifest(manifestPath);
+        assertTrue(loaded.load(workoutDir));
+        assertEquals(List.of(), loaded.changedEntries(workoutDir));
+
+        Path file = workoutDir.resolve("workouts_2025-10.bin");
+        Files.write(file, new byte[] {4, 5, 6});
+        Files.setLastModifiedTime(file, FileTime.fromMillis(loaded.get(MONTH).mtime() + 5_000));
+
+        assertTrue(loaded.load(workoutDir));
+        assertEquals(List.of(MONTH), loaded.changedEntries(workoutDir));
+    }
+
+    @Test
+    void load_missingOrForeignFile_reportsStale() throws IOException {
+        MonthManifest manifest = new MonthManifest(manifestPath);
+        assertFalse(manifest.load(workoutDir));
+
+        Files.writeString(manifestPath, "not a manifest");
+        assertFalse(manifest.load(workoutDir));
+    }
+
+    @Test
+    void markJournalled_knownMonth_setsFlagAndDirty() throws IOException {
+        MonthManifest manifest = writtenManifest();
+        manifest.markJournalled(MONTH);
+
+        assertTrue(manifest.get(MONTH).hasJournal());
+        assertTrue(manifest.isDirty());
+    }
+}
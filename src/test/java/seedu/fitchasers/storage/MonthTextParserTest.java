@@ -0,0 +1,167 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+//@@author Kart04
+class MonthTextParserTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static List<Workout> parse(String text) throws IOException {
+        List<Workout> out = new ArrayList<>();
+        new MonthTextParser().parse(new StringReader(text), out);
+        return out;
+    }
+
+    private static String describe(Workout w) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(w.getWorkoutName()).append('|').append(w.getWorkoutStartDateTime()).append('|')
+                .append(w.getWorkoutEndDateTime()).append('|').append(w.getDuration()).append('|')
+                .append(w.getAutoTags()).append('|').append(w.getManualTags());
+        for (Exercise e : w.getExercises()) {
+            sb.append('|').append(e.getName()).append(e.getSets());
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void parse_monthWrittenByFileHandler_roundTrips() throws IOException {
+        String[] names = {"Push Day", "Leg Day", "Morning Run", "Swim"};
+        String[] exercises = {"Bench Press", "Squat", "Deadlift", "Row"};
+        ArrayList<Workout> month = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            LocalDateTime start = LocalDateTime.of(2025, 10, 1 + i, 6 + i % 12, 15);
+            Workout w = i % 7 == 6 ? new Workout(names[i % names.length], start)
+                    : new Workout(names[i % names.length], start, start.plusMinutes(45 + i));
+            w.setAutoTags(new LinkedHashSet<>(List.of("legs", "strength")));
+            w.setManualTags(i % 3 == 0 ? Set.of("pr") : Set.of());
+            for (int e = 0; e < 3; e++) {
+                w.addExercise(new Exercise(exercises[(i + e) % exercises.length], 8 + i + e));
+            }
+            month.add(w);
+        }
+        FileHandler fileHandler = new FileHandler(tempDir);
+        fileHandler.setBinarySegments(false);
+        fileHandler.setWriteWindow(Duration.ZERO);
+        fileHandler.saveMonthList(YearMonth.of(2025, 10), month);
+        fileHandler.flush();
+
+        List<Workout> parsed = new ArrayList<>();
+        try (Reader in = Files.newBufferedReader(tempDir.resolve("workouts").resolve("workouts_2025-10.txt"))) {
+            assertEquals(0, new MonthTextParser().parse(in, parsed));
+        }
+        assertEquals(month.size(), parsed.size());
+        for (int i = 0; i < month.size(); i++) {
+            assertEquals(describe(month.get(i)), describe(parsed.get(i)));
+            assertEquals(month.get(i).getId(), parsed.get(i).getId());
+        }
+    }
+
+    @Test
+    void parse_byteBuffer_matchesReaderIncludingMultiByteNames() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 400; i++) {
+            // long enough to cross several 8 KB chunks, so some multi-byte characters straddle a boundary
+            sb.append("WORKOUT\nName: Café Müller 跑步 🏃 ").append(i).append("\nStart: 2025-10-01T09:00\n")
+                    .append("End: 2025-10-01T10:00\nDurationMin: 60\nAutoTags: é,\nEXERCISES:\n")
+                    .append("  - Squat | ").append(i).append("\nEND_WORKOUT\n");
+        }
+        String text = sb.toString();
+        List<Workout> fromBytes = new ArrayList<>();
+        new MonthTextParser().parse(ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8)), fromBytes);
+        List<Workout> fromChars = parse(text);
+
+        assertEquals(400, fromBytes.size());
+        for (int i = 0; i < fromChars.size(); i++) {
+            assertEquals(describe(fromChars.get(i)), describe(fromBytes.get(i)));
+        }
+        assertEquals("Café Müller 跑步 🏃 399", fromBytes.get(399).getWorkoutName());
+    }
+
+    @Test
+    void parse_fullBlock_readsEveryField() throws IOException {
+        List<Workout> out = parse("""
+                # Journal: 3
+                WORKOUT
+                Id: 17
+                  Name:  Leg Day\s
+                Start: 2025-10-01T09:00
+                End: 2025-10-01T10:30:15
+                DurationMin: 90
+                AutoTags: legs, strength,
+                ManualTags:
+                EXERCISES:
+                  - Squat | 10
+                  - Squat |
+                END_WORKOUT
+                """);
+
+        assertEquals(1, out.size());
+        Workout w = out.get(0);
+        assertEquals("Leg Day", w.getWorkoutName());
+        assertEquals(17, w.getId());
+        assertEquals(LocalDateTime.of(2025, 10, 1, 10, 30, 15), w.getWorkoutEndDateTime());
+        assertEquals(90, w.getDuration());
+        assertEquals(Set.of("legs", "strength"), w.getAutoTags());
+        assertEquals(2, w.getExercises().size());
+        assertEquals(List.of(0), w.getExercises().get(1).getSets());
+    }
+
+    @Test
+    void parse_unendedWorkoutWithCrLf_endIsNull() throws IOException {
+        List<Workout> out = parse("WORKOUT\r\nName: Run\r\nStart: 2025-10-02T07:00\r\nEnd: Unended\r\n"
+                + "DurationMin: 0\r\nEND_WORKOUT\r\n");
+
+        assertEquals(1, out.size());
+        assertNull(out.get(0).getWorkoutEndDateTime());
+    }
+
+    @Test
+    void parse_corruptedBlocks_skippedAndCounted() throws IOException {
+        String text = """
+                WORKOUT
+                Name: Bad date
+                Start: 2025-02-31T09:00
+                END_WORKOUT
+                WORKOUT
+                Name: Bad reps
+                Start: 2025-10-01T09:00
+                EXERCISES:
+                  - Squat | ten
+                END_WORKOUT
+                WORKOUT
+                Name: Good
+                Start: 2025-10-01T11:00
+                End: 2025-10-01T12:00
+                DurationMin: 60
+                END_WORKOUT
+                """;
+        List<Workout> out = new ArrayList<>();
+
+        assertEquals(2, new MonthTextParser().parse(new StringReader(text), out));
+        assertEquals(1, out.size());
+        assertEquals("Good", out.get(0).getWorkoutName());
+    }
+}
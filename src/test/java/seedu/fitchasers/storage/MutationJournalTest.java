@@ -0,0 +1,155 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class MutationJournalTest {
+    private static final YearMonth MONTH = YearMonth.of(2025, 10);
+
+    @TempDir
+    Path tempDir;
+
+    private MutationJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        journal = new MutationJournal(tempDir);
+    }
+
+    private static Workout makeWorkout(String name) {
+        Workout w = new Workout(name, LocalDateTime.of(2025, 10, 1, 10, 0));
+        w.setAutoTags(Set.of("legs"));
+        return w;
+    }
+
+    @Test
+    void replay_allRecordTypes_rebuildsMonthList() throws IOException {
+        Workout w = makeWorkout("Leg Day");
+        journal.appendCreate(MONTH, 0, w);
+        journal.appendExercise(MONTH, 0, 0, new Exercise("Squat", 10));
+        journal.appendSet(MONTH, 0, 0, 12);
+        journal.appendEnd(MONTH, 0, 0, LocalDateTime.of(2025, 10, 1, 11, 30));
+
+        ArrayList<Workout> list = new ArrayList<>();
+        assertEquals(new MutationJournal.Replay(4, 0), journal.replay(MONTH, 0, list));
+
+        assertEquals(1, list.size());
+        Workout loaded = list.get(0);
+        assertEquals("Leg Day", loaded.getWorkoutName());
+        assertEquals(Set.of("legs"), loaded.getAutoTags());
+        assertEquals(2, loaded.getExercises().get(0).getNumSets());
+        assertEquals(90, loaded.getDuration());
+    }
+
+    @Test
+    void replay_retagAndDelete_appliedInOrder() throws IOException {
+        Workout first = makeWorkout("Run");
+        Workout second = makeWorkout("Swim");
+        journal.appendCreate(MONTH, 0, first);
+        journal.appendCreate(MONTH, 0, second);
+        second.setManualTags(Set.of("cardio"));
+        journal.appendRetag(MONTH, 0, 1, second);
+        journal.appendDelete(MONTH, 0, 0);
+
+        ArrayList<Workout> list = new ArrayList<>();
+        journal.replay(MONTH, 0, list);
+
+        assertEquals(1, list.size());
+        assertEquals("Swim", list.get(0).getWorkoutName());
+        assertEquals(Set.of("cardio"), list.get(0).getManualTags());
+    }
+
+    @Test
+    void replay_namesWithSeparatorsAndBackslashes_roundTrip() throws IOException {
+        Workout pushPull = makeWorkout("Push|Pull \\ Day");
+        journal.appendCreate(MONTH, 0, pushPull);
+        journal.appendExercise(MONTH, 0, 0, new Exercise("Row|wide, cable\\p", 10));
+        pushPull.setManualTags(Set.of("a|b,c"));
+        journal.appendRetag(MONTH, 0, 0, pushPull);
+        journal.appendCreate(MONTH, 0, makeWorkout("Legs"));
+
+        ArrayList<Workout> list = new ArrayList<>();
+        assertEquals(new MutationJournal.Replay(4, 0), journal.replay(MONTH, 0, list));
+        assertEquals("Push|Pull \\ Day", list.get(0).getWorkoutName());
+        assertEquals("Row|wide, cable\\p", list.get(0).getExercises().get(0).getName());
+        assertEquals(Set.of("a|b,c"), list.get(0).getManualTags());
+        assertEquals("Legs", list.get(1).getWorkoutName());
+    }
+
+    @Test
+    void replay_recordsAlreadyInSnapshot_skipped() throws IOException {
+        journal.appendCreate(MONTH, 0, makeWorkout("Old"));
+        journal.appendCreate(MONTH, 0, makeWorkout("New"));
+
+        ArrayList<Workout> list = new ArrayList<>();
+        assertEquals(1, journal.replay(MONTH, 1, list).applied());
+        assertEquals("New", list.get(0).getWorkoutName());
+    }
+
+    @Test
+    void replay_tornFinalRecord_ignored() throws IOException {
+        journal.appendCreate(MONTH, 0, makeWorkout("Run"));
+        Files.writeString(journal.journalPath(MONTH), "2|SET|0", StandardOpenOption.APPEND);
+
+        ArrayList<Workout> list = new ArrayList<>();
+        assertEquals(new MutationJournal.Replay(1, 1), journal.replay(MONTH, 0, list));
+        assertNull(list.get(0).getCurrentExercise());
+    }
+
+    @Test
+    void replay_corruptedMiddleRecord_stopsAndTruncates() throws IOException {
+        journal.appendCreate(MONTH, 0, makeWorkout("Run"));
+        Files.writeString(journal.journalPath(MONTH), "2|CREATE|not-a-date|Swim|\n", StandardOpenOption.APPEND);
+        journal.appendCreate(MONTH, 0, makeWorkout("Row"));
+        journal.appendSet(MONTH, 0, 1, 10); // meant for the lost "Swim", would land on "Row"
+        journal.appendDelete(MONTH, 0, 0);
+
+        ArrayList<Workout> list = new ArrayList<>();
+        assertEquals(new MutationJournal.Replay(1, 4), journal.replay(MONTH, 0, list));
+        assertEquals(1, list.size());
+        assertEquals("Run", list.get(0).getWorkoutName());
+
+        // The damaged tail is gone, so the next load applies the good prefix without complaint
+        assertEquals(1, journal.size(MONTH));
+        ArrayList<Workout> again = new ArrayList<>();
+        assertEquals(new MutationJournal.Replay(1, 0), journal.replay(MONTH, 0, again));
+        assertEquals(1, again.size());
+
+        journal.appendCreate(MONTH, 0, makeWorkout("Swim"));
+        ArrayList<Workout> extended = new ArrayList<>();
+        assertEquals(new MutationJournal.Replay(2, 0), journal.replay(MONTH, 0, extended));
+        assertEquals("Swim", extended.get(1).getWorkoutName());
+    }
+
+    @Test
+    void clear_afterAppends_removesFileButKeepsSequence() throws IOException {
+        journal.appendCreate(MONTH, 0, makeWorkout("Run"));
+        journal.appendCreate(MONTH, 0, makeWorkout("Swim"));
+        assertTrue(journal.exists(MONTH));
+        assertEquals(2, journal.size(MONTH));
+
+        journal.clear(MONTH);
+
+        assertFalse(journal.exists(MONTH));
+        assertEquals(0, journal.size(MONTH));
+        assertEquals(2, journal.lastSeq(MONTH, 0));
+    }
+}
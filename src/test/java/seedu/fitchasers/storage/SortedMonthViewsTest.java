@@ -0,0 +1,72 @@
+package seedu.fitchasers.storage;
+
+import org.junit.jupiter.api.Test;
+import seedu.fitchasers.workouts.Workout;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+//@@author Kart04
+class SortedMonthViewsTest {
+    private static final YearMonth OCT = YearMonth.of(2025, 10);
+
+    private static Workout workout(String name, int day, int hour) {
+        LocalDateTime start = LocalDateTime.of(2025, 10, day, hour, 0);
+        return new Workout(name, start, start.plusMinutes(30));
+    }
+
+    private static List<String> names(List<Workout> workouts) {
+        return workouts.stream().map(Workout::getWorkoutName).toList();
+    }
+
+    @Test
+    void get_sameList_sortedOnceAndReused() {
+        ArrayList<Workout> month = new ArrayList<>(List.of(workout("Run", 3, 7), workout("Swim", 20, 8)));
+        SortedMonthViews views = new SortedMonthViews();
+
+        List<Workout> first = views.get(OCT, month);
+        month.get(0).setWorkoutName("Jog");
+
+        assertEquals(List.of("Swim", "Jog"), names(first));
+        assertEquals(names(first), names(views.get(OCT, month)));
+    }
+
+    @Test
+    void mutations_reported_viewStaysInDisplayOrder() {
+        ArrayList<Workout> month = new ArrayList<>(List.of(workout("Run", 3, 7), workout("Swim", 20, 8)));
+        SortedMonthViews views = new SortedMonthViews();
+        List<Workout> view = views.get(OCT, month);
+
+        Workout lift = new Workout("Lift", LocalDateTime.of(2025, 10, 9, 18, 0));
+        month.add(lift);
+        views.inserted(OCT, month, lift);
+        Workout swim = month.remove(1);
+        views.removed(OCT, month, swim);
+        Workout row = new Workout("Row", LocalDateTime.of(2025, 10, 9, 18, 0), LocalDateTime.of(2025, 10, 9, 19, 0));
+        month.add(row);
+        views.inserted(OCT, month, row);
+
+        // Same start: the unended "Lift" sorts after the ended "Row" until it ends later than it
+        assertEquals(List.of("Row", "Lift", "Run"), names(view));
+        lift.setWorkoutEndDateTime(LocalDateTime.of(2025, 10, 9, 20, 0));
+        views.reordered(OCT, month, lift);
+        assertEquals(List.of("Lift", "Row", "Run"), names(view));
+    }
+
+    @Test
+    void get_differentListForMonth_resorted() {
+        SortedMonthViews views = new SortedMonthViews();
+        views.get(OCT, new ArrayList<>(List.of(workout("Run", 3, 7))));
+        ArrayList<Workout> reread = new ArrayList<>(List.of(workout("Run", 3, 7), workout("Swim", 20, 8)));
+
+        List<Workout> view = views.get(OCT, reread);
+
+        assertEquals(List.of("Swim", "Run"), names(view));
+        assertSame(reread.get(1), view.get(0));
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.fitchasers.storage;
+
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+//@@author Kart04
+/**
+ * Shared fixtures for tests that save workouts through a real {@link FileHandler} in a temporary directory.
+ */
+public final class TestStorage {
+
+    private TestStorage() {
+    }
+
+    /**
+     * Returns an ended 30-minute workout.
+     *
+     * @param name  The workout name.
+     * @param start When the workout started.
+     * @return A new workout with no exercises or tags.
+     */
+    public static Workout workout(String name, LocalDateTime start) {
+        return new Workout(name, start, start.plusMinutes(30));
+    }
+
+    /**
+     * Returns a handler on the given data directory that writes every month before the saving call returns.
+     *
+     * @param dataDir The data directory, usually a {@code @TempDir}.
+     * @return A new handler with a zero write window.
+     * @throws IOException If switching the write window fails.
+     */
+    public static FileHandler newHandler(Path dataDir) throws IOException {
+        FileHandler fileHandler = new FileHandler(dataDir);
+        fileHandler.setWriteWindow(Duration.ZERO);
+        return fileHandler;
+    }
+}
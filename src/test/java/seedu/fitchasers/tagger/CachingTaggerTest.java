@@ -0,0 +1,94 @@
+package seedu.fitchasers.tagger;
+
+import org.junit.jupiter.api.Test;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+//@@author Kart04
+class CachingTaggerTest {
+    private static Workout named(String name) {
+        return new Workout(name, LocalDateTime.of(2025, 10, 1, 9, 0));
+    }
+
+    @Test
+    void suggest_sameNameDifferentCaseAndPadding_servedFromCache() {
+        CachingTagger tagger = new CachingTagger(new DefaultTagger());
+        assertEquals(Set.of("strength", "legs"), tagger.suggest(named("Leg Day Squats")));
+        assertEquals(Set.of("strength", "legs"), tagger.suggest(named("  leg day squats ")));
+        assertEquals(Set.of("strength", "legs"), tagger.suggest(named("LEG DAY SQUATS")));
+
+        assertEquals(1, tagger.getMisses());
+        assertEquals(2, tagger.getHits());
+        assertEquals(2.0 / 3, tagger.getHitRate(), 1e-9);
+        assertThrows(UnsupportedOperationException.class, () -> tagger.suggest(named("leg day squats")).add("x"));
+    }
+
+    @Test
+    void suggest_repeatedExercises_eachNameComputedOnce() {
+        CachingTagger tagger = new CachingTagger(new DefaultTagger());
+        Workout first = named("Tuesday");
+        first.addExercise(new Exercise("Deadlift", 5));
+        first.addExercise(new Exercise("Bench", 8));
+        Workout second = named("Thursday");
+        second.addExercise(new Exercise("deadlift ", 3));
+
+        assertEquals(Set.of("strength", "posterior-chain", "back", "chest"), tagger.suggest(first));
+        assertEquals(Set.of("strength", "posterior-chain", "back"), tagger.suggest(second));
+        assertEquals(4, tagger.getMisses()); // two workout names, two exercise names
+        assertEquals(1, tagger.getHits());
+    }
+
+    @Test
+    void suggest_keywordAdded_cacheDropped() throws Exception {
+        DefaultTagger keywords = new DefaultTagger();
+        CachingTagger tagger = new CachingTagger(keywords);
+        assertEquals(Set.of(), tagger.suggest(named("Walking Lunges")));
+
+        keywords.addMuscleKeyword(MuscleGroup.LEGS, "lunges");
+        assertEquals(Set.of("legs"), tagger.suggest(named("Walking Lunges")));
+        assertEquals(2, tagger.getMisses());
+        assertEquals(1, tagger.size());
+    }
+
+    @Test
+    void suggest_overCapacity_leastRecentlyUsedEvicted() {
+        CachingTagger tagger = new CachingTagger(new DefaultTagger(), 2);
+        tagger.suggest(named("run"));
+        tagger.suggest(named("swim"));
+        tagger.suggest(named("run"));
+        tagger.suggest(named("plank")); // evicts swim, used least recently
+
+        assertEquals(2, tagger.size());
+        assertEquals(1, tagger.getEvictions());
+        tagger.suggest(named("run"));
+        assertEquals(2, tagger.getHits());
+        tagger.suggest(named("swim"));
+        assertEquals(4, tagger.getMisses());
+    }
+
+    @Test
+    void suggest_exercisesAddingEarlierTags_sameOrderAsDefaultTagger() {
+        DefaultTagger keywords = new DefaultTagger();
+        CachingTagger tagger = new CachingTagger(keywords);
+        Workout bench = named("Bench Press");
+        bench.addExercise(new Exercise("Treadmill Run", 20));
+        Workout tuesday = named("Tuesday");
+        tuesday.addExercise(new Exercise("Bench", 8));
+        tuesday.addExercise(new Exercise("Squat", 5));
+        tuesday.addExercise(new Exercise("Swim", 1));
+
+        for (Workout w : List.of(bench, tuesday, named("Leg Day Squats"))) {
+            List<String> expected = new ArrayList<>(keywords.suggest(w));
+            assertEquals(expected, new ArrayList<>(tagger.suggest(w)));
+            assertEquals(expected, new ArrayList<>(tagger.suggest(w))); // again from the cache
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.fitchasers.tagger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class DefaultTaggerTest {
+    @TempDir
+    Path tempDir;
+
+    private static Workout named(String name) {
+        return new Workout(name, LocalDateTime.of(2025, 10, 1, 9, 0));
+    }
+
+    @Test
+    void addKeyword_newTaggerOnSameFile_keywordKept() throws Exception {
+        Path file = tempDir.resolve(DefaultTagger.KEYWORD_FILE_NAME);
+        DefaultTagger first = new DefaultTagger(file);
+        assertFalse(Files.exists(file)); // nothing is read or written before the first use
+
+        assertEquals(Set.of("strength", "legs"), first.suggest(named("Leg Day Squats")));
+        assertTrue(Files.exists(file));
+        first.addMuscleKeyword(MuscleGroup.LEGS, "Lunges");
+
+        DefaultTagger second = new DefaultTagger(file);
+        assertEquals(Set.of("legs"), second.suggest(named("Walking lunges")));
+        assertEquals(first.keywordFingerprint(), second.keywordFingerprint());
+    }
+
+    @Test
+    void suggest_keywordsOnlyInExercises_exerciseTagsMerged() {
+        DefaultTagger tagger = new DefaultTagger();
+        Workout tuesday = named("Tuesday");
+        assertEquals(Set.of(), tagger.suggest(tuesday));
+
+        Exercise deadlift = new Exercise("Deadlift", 5);
+        Exercise plank = new Exercise("Plank", 1);
+        tuesday.addExercise(deadlift);
+        tuesday.addExercise(plank);
+        assertEquals(Set.of("strength", "posterior-chain", "back", "core"), tagger.suggest(tuesday));
+        assertEquals(Set.of("strength", "posterior-chain", "back"), tagger.suggestForExercise(deadlift));
+        assertEquals(Set.of("core"), tagger.suggestForExercise(plank));
+    }
+
+    @Test
+    void reloadFromDisk_handEditedFile_appliedAndGarbageIgnored() throws Exception {
+        Path file = tempDir.resolve(DefaultTagger.KEYWORD_FILE_NAME);
+        DefaultTagger tagger = new DefaultTagger(file);
+        assertEquals(Set.of(), tagger.suggest(named("Sled Push")));
+
+        Files.writeString(file, KeywordDictionary.HEADER + "\nmodality|CARDIO|sled\n\nmuscle|LEGS|push\n");
+        assertTrue(tagger.reloadFromDisk());
+        assertEquals(Set.of("cardio", "legs"), tagger.suggest(named("Sled Push")));
+        assertFalse(tagger.reloadFromDisk());
+
+        Files.writeString(file, KeywordDictionary.HEADER + "\nmodality|YOGA|flow\n");
+        assertFalse(tagger.reloadFromDisk());
+        assertEquals(Set.of("cardio", "legs"), tagger.suggest(named("Sled Push")));
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.fitchasers.tagger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.fitchasers.storage.FileHandler;
+import seedu.fitchasers.storage.MonthCache;
+import seedu.fitchasers.storage.TestStorage;
+import seedu.fitchasers.storage.WorkoutChangeListener;
+import seedu.fitchasers.ui.UI;
+import seedu.fitchasers.workouts.Workout;
+import seedu.fitchasers.workouts.WorkoutManager;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class HistoryRetaggerTest {
+    private static final YearMonth SEP = YearMonth.of(2025, 9);
+    private static final YearMonth OCT = YearMonth.of(2025, 10);
+    private static final YearMonth NOV = YearMonth.of(2025, 11);
+
+    @TempDir
+    Path tempDir;
+
+    private final DefaultTagger tagger = new DefaultTagger();
+    private final List<YearMonth> replaced = new ArrayList<>();
+
+    private Workout workout(String name, LocalDateTime start) {
+        Workout w = TestStorage.workout(name, start);
+        w.setAutoTags(tagger.suggest(w));
+        return w;
+    }
+
+    private FileHandler newHandler() throws IOException {
+        return TestStorage.newHandler(tempDir);
+    }
+
+    private FileHandler sampleHistory() throws IOException {
+        FileHandler fileHandler = newHandler();
+        Workout overridden = workout("Sled Push", LocalDateTime.of(2025, 9, 3, 9, 0));
+        overridden.setManualTags(Set.of("recovery"));
+        overridden.setAutoTags(Set.of());
+        fileHandler.saveMonthList(SEP, new ArrayList<>(List.of(overridden)));
+        fileHandler.saveMonthList(OCT, new ArrayList<>(List.of(
+                workout("Sled Push", LocalDateTime.of(2025, 10, 3, 9, 0)),
+                workout("Leg Day", LocalDateTime.of(2025, 10, 5, 9, 0)))));
+        fileHandler.saveMonthList(NOV, new ArrayList<>(List.of(
+                workout("Bench", LocalDateTime.of(2025, 11, 3, 9, 0)))));
+        fileHandler.addChangeListener(new WorkoutChangeListener() {
+            @Override
+            public void workoutChanged(YearMonth month, Workout workout) {
+            }
+
+            @Override
+            public void workoutRemoved(YearMonth month, Workout workout) {
+            }
+
+            @Override
+            public void monthReplaced(YearMonth month, List<Workout> workouts) {
+                replaced.add(month);
+            }
+        });
+        return fileHandler;
+    }
+
+    @Test
+    void run_newKeyword_onlyChangedMonthRewrittenAndOverridesKept() throws Exception {
+        FileHandler fileHandler = sampleHistory();
+        tagger.addModalityKeyword(Modality.CARDIO, "sled");
+        Path progress = tempDir.resolve(HistoryRetagger.PROGRESS_FILE_NAME);
+
+        HistoryRetagger.Summary summary = new HistoryRetagger(fileHandler, tagger, progress, 2)
+                .run(tagger.keywordFingerprint(), (month, retagged, monthsRun) -> { });
+
+        assertEquals(new HistoryRetagger.Summary(3, 1, 1, 0), summary);
+        assertEquals(List.of(OCT), replaced);
+        assertFalse(Files.exists(progress));
+
+        FileHandler reopened = newHandler();
+        assertEquals(Set.of("cardio"), reopened.loadMonthList(OCT).get(0).getAutoTags());
+        assertEquals(Set.of("recovery"), reopened.loadMonthList(SEP).get(0).getAllTags());
+    }
+
+    @Test
+    void run_interruptedRunWithSameKeywords_resumesAfterDoneMonths() throws Exception {
+        FileHandler fileHandler = sampleHistory();
+        tagger.addModalityKeyword(Modality.CARDIO, "sled");
+        Path progress = tempDir.resolve(HistoryRetagger.PROGRESS_FILE_NAME);
+        Files.writeString(progress, HistoryRetagger.HEADER + "\nkeywords|" + tagger.keywordFingerprint()
+                + "\ndone|" + OCT + "\n");
+
+        HistoryRetagger.Summary summary = new HistoryRetagger(fileHandler, tagger, progress, 2)
+                .run(tagger.keywordFingerprint(), (month, retagged, monthsRun) -> { });
+
+        assertEquals(new HistoryRetagger.Summary(2, 0, 0, 1), summary);
+        assertEquals(List.of(), replaced);
+    }
+
+    @Test
+    void run_progressFromOtherKeywords_startsOver() throws Exception {
+        FileHandler fileHandler = sampleHistory();
+        String before = tagger.keywordFingerprint();
+        tagger.addModalityKeyword(Modality.CARDIO, "sled");
+        Path progress = tempDir.resolve(HistoryRetagger.PROGRESS_FILE_NAME);
+        Files.writeString(progress, HistoryRetagger.HEADER + "\nkeywords|" + before + "\ndone|" + OCT + "\n");
+
+        HistoryRetagger.Summary summary = new HistoryRetagger(fileHandler, tagger, progress, 2)
+                .run(tagger.keywordFingerprint(), (month, retagged, monthsRun) -> { });
+
+        assertEquals(new HistoryRetagger.Summary(3, 1, 1, 0), summary);
+        assertEquals(List.of(OCT), replaced);
+    }
+
+    @Test
+    void run_whileWorkoutOpen_exerciseAddedAfterwardsSaved() throws Exception {
+        FileHandler fileHandler = newHandler();
+        YearMonth now = YearMonth.now();
+        fileHandler.saveMonthList(now, new ArrayList<>());
+        for (int i = 1; i <= MonthCache.DEFAULT_CAPACITY + 1; i++) {
+            YearMonth past = now.minusMonths(i);
+            fileHandler.saveMonthList(past, new ArrayList<>(List.of(workout("Sled Push", past.atDay(3).atTime(9, 0)))));
+        }
+        WorkoutManager manager = new WorkoutManager(tagger, fileHandler);
+        Field uiField = WorkoutManager.class.getDeclaredField("ui");
+        uiField.setAccessible(true);
+        uiField.set(manager, new UI() {
+            @Override
+            public boolean confirmationMessage() {
+                return true;
+            }
+
+            @Override
+            public void showMessage(String message) {
+            }
+        });
+        manager.setWorkouts(fileHandler.loadMonthList(now), now);
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("dd/MM/yy"));
+        manager.addWorkout("/create_workout n/Sled Push d/" + today + " t/1400");
+        tagger.addModalityKeyword(Modality.CARDIO, "sled");
+
+        new HistoryRetagger(fileHandler, tagger, tempDir.resolve(HistoryRetagger.PROGRESS_FILE_NAME), 1)
+                .run(tagger.keywordFingerprint(), (month, retagged, monthsRun) -> { });
+        manager.addExercise("n/Squat r/10");
+        fileHandler.flush();
+
+        Workout saved = newHandler().loadMonthList(now).get(0);
+        assertEquals("Squat", saved.getExercises().get(0).getName());
+        assertTrue(saved.getAutoTags().contains("cardio"));
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.fitchasers.tagger;
+
+import org.junit.jupiter.api.Test;
+import seedu.fitchasers.workouts.Workout;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+//@@author Kart04
+class KeywordMatcherTest {
+
+    private static long containsMask(Map<String, Long> keywords, String text) {
+        long mask = 0;
+        for (Map.Entry<String, Long> e : keywords.entrySet()) {
+            if (text.contains(e.getKey())) {
+                mask |= e.getValue();
+            }
+        }
+        return mask;
+    }
+
+    @Test
+    void match_overlappingKeywords_sameAsContains() {
+        Map<String, Long> keywords = new LinkedHashMap<>();
+        keywords.put("he", 1L);
+        keywords.put("she", 2L);
+        keywords.put("his", 4L);
+        keywords.put("hers", 8L);
+        keywords.put("leg day", 16L);
+        KeywordMatcher matcher = KeywordMatcher.compile(keywords);
+
+        for (String text : List.of("ushers", "this", "sh", "", "leg dleg day", "hishe")) {
+            assertEquals(containsMask(keywords, text), matcher.match(text), text);
+        }
+    }
+
+    @Test
+    void match_randomKeywordsAndTexts_sameAsContains() {
+        Random random = new Random(7);
+        Map<String, Long> keywords = new LinkedHashMap<>();
+        for (int i = 0; i < 200; i++) {
+            keywords.merge(randomWord(random, 1 + random.nextInt(4)), 1L << random.nextInt(9), (a, b) -> a | b);
+        }
+        KeywordMatcher matcher = KeywordMatcher.compile(keywords);
+        for (int i = 0; i < 500; i++) {
+            String text = randomWord(random, random.nextInt(30));
+            assertEquals(containsMask(keywords, text), matcher.match(text), text);
+        }
+    }
+
+    @Test
+    void suggest_keywordAdded_matcherRebuilt() throws IOException {
+        DefaultTagger tagger = new DefaultTagger();
+        Workout workout = new Workout("Hammer Curls and Squats", LocalDateTime.of(2025, 10, 1, 9, 0));
+        assertEquals(Set.of("strength", "legs", "arms"), tagger.suggest(workout));
+
+        Workout sled = new Workout("Sled Push", LocalDateTime.of(2025, 10, 1, 9, 0));
+        assertEquals(Set.of(), tagger.suggest(sled));
+        tagger.addModalityKeyword(Modality.CARDIO, "Sled");
+        tagger.addMuscleKeyword(MuscleGroup.POSTERIOR_CHAIN, "sled push");
+        assertEquals(List.of("cardio", "posterior-chain"), List.copyOf(tagger.suggest(sled)));
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + random.nextInt(3)));
+        }
+        return sb.toString();
+    }
+}
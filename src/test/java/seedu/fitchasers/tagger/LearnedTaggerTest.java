@@ -0,0 +1,88 @@
+package seedu.fitchasers.tagger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.fitchasers.storage.FileHandler;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author Kart04
+class LearnedTaggerTest {
+    @TempDir
+    Path tempDir;
+
+    private FileHandler sampleHistory() throws Exception {
+        FileHandler fileHandler = new FileHandler(tempDir.resolve("data"));
+        fileHandler.setWriteWindow(Duration.ZERO);
+        ArrayList<Workout> month = new ArrayList<>();
+        for (int day = 1; day <= 24; day++) {
+            LocalDateTime start = LocalDateTime.of(2025, 10, day, 9, 0);
+            Workout w;
+            if (day % 3 == 0) {
+                w = new Workout("Sunday Flow", start, start.plusMinutes(45));
+                w.setManualTags(Set.of("yoga"));
+            } else {
+                w = new Workout("Leg Day", start, start.plusMinutes(60));
+                w.addExercise(new Exercise("Squat", 8));
+            }
+            month.add(w);
+        }
+        fileHandler.saveMonthList(YearMonth.of(2025, 10), month);
+        return fileHandler;
+    }
+
+    @Test
+    void retrain_manualTagsInHistory_blendedWithKeywordsAndSaved() throws Exception {
+        FileHandler fileHandler = sampleHistory();
+        Path modelFile = tempDir.resolve(LearnedTagger.MODEL_FILE_NAME);
+        LearnedTagger tagger = new LearnedTagger(new DefaultTagger(), modelFile);
+        Workout flow = new Workout("Flow and Plank", LocalDateTime.of(2025, 11, 2, 9, 0));
+        assertEquals(Set.of("core"), tagger.suggest(flow));
+        long before = tagger.keywordVersion();
+
+        assertTrue(tagger.retrain(fileHandler));
+        assertTrue(Files.exists(modelFile));
+        assertNotEquals(before, tagger.keywordVersion());
+        assertEquals(Set.of("core", "yoga"), tagger.suggest(flow));
+        assertEquals(Set.of("legs"), tagger.suggest(new Workout("Leg Day", 0)));
+        assertFalse(tagger.retrain(fileHandler)); // same history, same model
+
+        LearnedTagger reopened = new LearnedTagger(new DefaultTagger(), modelFile);
+        assertEquals(tagger.modelFingerprint(), reopened.modelFingerprint());
+        assertEquals(Set.of("yoga"), reopened.suggestForName("Evening Flow"));
+    }
+
+    @Test
+    void learn_overrides_foldedIntoSavedModelWithoutHistory() throws Exception {
+        Path modelFile = tempDir.resolve(LearnedTagger.MODEL_FILE_NAME);
+        LearnedTagger tagger = new LearnedTagger(new DefaultTagger(), modelFile);
+        for (int day = 1; day <= 3; day++) {
+            Workout flow = new Workout("Sunday Flow", LocalDateTime.of(2025, 10, day, 9, 0));
+            flow.setManualTags(Set.of("yoga"));
+            tagger.learn(flow, Set.of());
+        }
+        assertEquals(Set.of("yoga"), tagger.suggestForName("Evening Flow"));
+
+        LearnedTagger reopened = new LearnedTagger(new DefaultTagger(), modelFile);
+        assertEquals(tagger.modelFingerprint(), reopened.modelFingerprint());
+        // A saved model is kept as it is; the history is only read when there is none
+        reopened.trainInBackgroundIfMissing(null);
+
+        Workout undone = new Workout("Sunday Flow", LocalDateTime.of(2025, 10, 3, 9, 0));
+        reopened.learn(undone, Set.of("yoga"));
+        assertEquals(Set.of(), reopened.suggestForName("Evening Flow")); // two examples are too few
+    }
+}
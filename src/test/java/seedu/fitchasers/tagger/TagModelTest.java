@@ -0,0 +1,85 @@
+package seedu.fitchasers.tagger;
+
+import org.junit.jupiter.api.Test;
+import seedu.fitchasers.workouts.Exercise;
+import seedu.fitchasers.workouts.Workout;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+//@@author Kart04
+class TagModelTest {
+    private static TagModel sample() {
+        TagModelTrainer trainer = new TagModelTrainer(null);
+        for (int i = 0; i < 4; i++) {
+            trainer.add(List.of("sunday", "flow"), Set.of("yoga"));
+        }
+        trainer.add(List.of("flow", "state"), Set.of("yoga", "recovery"));
+        for (int i = 0; i < 20; i++) {
+            trainer.add(List.of("leg", "day", "squat"), Set.of());
+            trainer.add(List.of("sunday", "run"), Set.of());
+        }
+        trainer.add(List.of("sauna"), Set.of("recovery"));
+        return trainer.build();
+    }
+
+    @Test
+    void predict_wordsSeenWithManualTag_tagPredicted() {
+        TagModel model = sample();
+        assertEquals(Set.of("yoga"), model.predict(List.of("sunday", "flow")));
+        assertEquals(Set.of("yoga"), model.predict(List.of("morning", "flow")));
+        assertEquals(Set.of(), model.predict(List.of("sunday", "run")));
+        assertEquals(Set.of(), model.predict(List.of("sunday"))); // mostly seen untagged
+        assertEquals(Set.of(), model.predict(List.of("unknown", "words")));
+        assertEquals(Set.of(), model.predict(List.of("sauna"))); // too few examples of "recovery"
+        assertEquals(47, model.trainedOn()); // the workout tagged twice counts once per tag
+    }
+
+    @Test
+    void addWorkout_nameAndEachExercise_countedAsSeparateExamples() {
+        Workout tuesday = new Workout("Tuesday", LocalDateTime.of(2025, 10, 7, 9, 0));
+        tuesday.addExercise(new Exercise("Sun Salutation", 5));
+        tuesday.addExercise(new Exercise("Pigeon Pose", 3));
+        assertEquals(List.of(List.of("tuesday"), List.of("sun", "salutation"), List.of("pigeon", "pose")),
+                TagModelTrainer.examplesOf(tuesday));
+
+        TagModelTrainer history = TagModelTrainer.startingFrom(sample());
+        history.addWorkout(tuesday, Set.of());
+        TagModel untagged = history.build();
+        assertEquals(47 + 3, untagged.trainedOn());
+        assertEquals(Set.of(), untagged.predict(List.of("pigeon", "pose")));
+
+        TagModelTrainer override = TagModelTrainer.startingFrom(untagged);
+        override.removeWorkout(tuesday, Set.of());
+        override.addWorkout(tuesday, Set.of("yoga"));
+        TagModel retagged = override.build();
+        assertEquals(untagged.trainedOn(), retagged.trainedOn());
+        assertEquals(Set.of("yoga"), retagged.predict(List.of("pigeon", "pose")));
+
+        TagModelTrainer undo = TagModelTrainer.startingFrom(retagged);
+        undo.removeWorkout(tuesday, Set.of("yoga"));
+        undo.addWorkout(tuesday, Set.of());
+        assertEquals(untagged.render(), undo.build().render());
+    }
+
+    @Test
+    void parse_renderedModel_samePredictionsAndFingerprint() {
+        TagModel model = sample();
+        TagModel read = TagModel.parse(List.of(model.render().split(System.lineSeparator())));
+        assertEquals(model.render(), read.render());
+        assertEquals(model.fingerprint(), read.fingerprint());
+        assertEquals(Set.of("yoga"), read.predict(List.of("flow")));
+    }
+
+    @Test
+    void parse_damagedFile_rejected() {
+        assertThrows(IllegalArgumentException.class, () -> TagModel.parse(List.of("no header")));
+        assertThrows(IllegalArgumentException.class,
+                () -> TagModel.parse(List.of(TagModel.HEADER, "class|1|2|", "word|run|3:1")));
+        assertEquals(Set.of(), TagModel.empty().predict(List.of("run")));
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.fitchasers.workouts;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.fitchasers.storage.FileHandler;
+import seedu.fitchasers.storage.TestStorage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author ZhongBaode
+class TimelineCursorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static Workout workout(String name, int year, int month, int day) {
+        return TestStorage.workout(name, LocalDateTime.of(year, month, day, 8, 0));
+    }
+
+    private static List<String> names(List<Workout> workouts) {
+        return workouts.stream().map(Workout::getWorkoutName).toList();
+    }
+
+    private FileHandler saveHistory() throws IOException {
+        FileHandler writer = TestStorage.newHandler(tempDir);
+        writer.saveMonthList(YearMonth.of(2024, 12), new ArrayList<>(List.of(workout("Dec", 2024, 12, 30))));
+        writer.saveMonthList(YearMonth.of(2025, 1), new ArrayList<>());
+        writer.saveMonthList(YearMonth.of(2025, 2), new ArrayList<>(List.of(
+                workout("Feb1", 2025, 2, 1), workout("Feb20", 2025, 2, 20), workout("Feb10", 2025, 2, 10))));
+        writer.flush();
+        return new FileHandler(tempDir);
+    }
+
+    @Test
+    void next_pagesAcrossMonths_newestFirstSkippingEmptyMonths() throws IOException {
+        TimelineCursor cursor = new TimelineCursor(saveHistory());
+
+        assertEquals(List.of("Feb20", "Feb10"), names(cursor.next(2)));
+        assertEquals(List.of("Feb1", "Dec"), names(cursor.next(2)));
+        assertFalse(cursor.hasMore());
+        assertTrue(cursor.next(2).isEmpty());
+    }
+
+    @Test
+    void skip_wholeMonth_countedWithoutReadingIt() throws IOException {
+        FileHandler fileHandler = saveHistory();
+        TimelineCursor cursor = new TimelineCursor(fileHandler);
+
+        cursor.skip(3);
+
+        assertEquals(3, cursor.position());
+        assertFalse(fileHandler.getArrayByMonth().containsKey(YearMonth.of(2025, 2)));
+        assertEquals(List.of("Dec"), names(cursor.next(5)));
+    }
+
+    @Test
+    void isCurrent_afterWorkoutDeleted_false() throws Exception {
+        FileHandler fileHandler = saveHistory();
+        TimelineCursor cursor = new TimelineCursor(fileHandler);
+        Workout newest = cursor.next(1).get(0);
+
+        fileHandler.deleteWorkout(newest.getId());
+
+        assertFalse(cursor.isCurrent());
+    }
+}
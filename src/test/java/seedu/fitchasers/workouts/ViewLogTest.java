@@ -2,11 +2,16 @@ package seedu.fitchasers.workouts;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.fitchasers.search.WorkoutSearch;
 import seedu.fitchasers.storage.FileHandlerTest;
 import seedu.fitchasers.exceptions.InvalidArgumentInput;
 import seedu.fitchasers.ui.UI;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -16,13 +21,18 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 //@@author Kart04
 public class ViewLogTest {
 
+    @TempDir
+    Path tempDir;
+
     private ViewLog viewLog;
 
     @BeforeEach
     public void setUp() throws IOException {
         FileHandlerTest fileHandlerStub = new FileHandlerTest();
         WorkoutManager workoutManager = new WorkoutManager(null, fileHandlerStub);
-        viewLog = new ViewLog(new UI(), workoutManager, fileHandlerStub);
+        WorkoutSearch workoutSearch =
+                new WorkoutSearch(fileHandlerStub, tempDir.resolve(WorkoutSearch.INDEX_FILE_NAME));
+        viewLog = new ViewLog(new UI(), workoutManager, fileHandlerStub, workoutSearch);
     }
 
     @Test
@@ -95,4 +105,34 @@ public class ViewLogTest {
             viewLog.parseArgs("invalid-input");
         });
     }
+
+    @Test
+    public void testParseArgs_tagsAndDateRange_parsed() throws InvalidArgumentInput {
+        ViewLog.Parsed parsed = viewLog.parseArgs("tag/strength tag/legs from/01/09/25 to/31/10/25");
+        assertEquals(List.of("strength", "legs"), parsed.tags());
+        assertEquals(LocalDate.of(2025, 9, 1), parsed.from());
+        assertEquals(LocalDate.of(2025, 10, 31), parsed.to());
+        assertTrue(parsed.isFiltered());
+    }
+
+    @Test
+    public void testParseArgs_noFilters_notFiltered() throws InvalidArgumentInput {
+        assertFalse(viewLog.parseArgs("ym/10/25 2").isFiltered());
+    }
+
+    @Test
+    public void testParseArgs_dateRangeWithMonth_throws() {
+        assertThrows(InvalidArgumentInput.class, () -> viewLog.parseArgs("m/10 from/01/10/25"));
+    }
+
+    @Test
+    public void testParseArgs_fromAfterTo_throws() {
+        assertThrows(InvalidArgumentInput.class, () -> viewLog.parseArgs("from/02/10/25 to/01/10/25"));
+    }
+
+    @Test
+    public void testParseArgs_emptyTagOrBadDate_throws() {
+        assertThrows(InvalidArgumentInput.class, () -> viewLog.parseArgs("tag/"));
+        assertThrows(InvalidArgumentInput.class, () -> viewLog.parseArgs("from/2025-10-01"));
+    }
 }
@@ -0,0 +1,92 @@
+package seedu.fitchasers.workouts;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+//@@author ZhongBaode
+class WorkoutIntervalIndexTest {
+
+    private static LocalDateTime at(int month, int day, int hour, int minute) {
+        return LocalDateTime.of(2025, month, day, hour, minute);
+    }
+
+    @Test
+    void findOverlap_endedWorkouts_onlyTouchingSpansAllowed() {
+        Workout morning = new Workout("Swim", at(10, 1, 9, 0), at(10, 1, 10, 0));
+        Workout afternoon = new Workout("Lift", at(10, 1, 14, 0), at(10, 1, 15, 0));
+        WorkoutIntervalIndex index = new WorkoutIntervalIndex();
+        index.rebuild(List.of(afternoon, morning));
+
+        assertEquals(morning, index.findOverlap(at(10, 1, 9, 30), at(10, 1, 9, 45), null));
+        assertNull(index.findOverlap(at(10, 1, 10, 0), at(10, 1, 14, 0), null));
+        assertEquals(afternoon, index.findOverlap(at(10, 1, 13, 0), at(10, 1, 14, 1), null));
+    }
+
+    @Test
+    void findContaining_workoutPastMidnightIntoNextMonth_found() {
+        Workout lateRun = new Workout("Run", at(1, 31, 23, 30), LocalDateTime.of(2025, 2, 1, 0, 30));
+        WorkoutIntervalIndex index = new WorkoutIntervalIndex();
+        index.rebuild(List.of(lateRun));
+
+        assertEquals(lateRun, index.findContaining(at(2, 1, 0, 10)));
+        assertNull(index.findContaining(at(2, 1, 0, 30)));
+    }
+
+    @Test
+    void findOverlap_ongoingWorkout_blocksRestOfItsDayUnlessIgnored() {
+        Workout active = new Workout("Yoga", at(10, 2, 14, 0));
+        WorkoutIntervalIndex index = new WorkoutIntervalIndex();
+        index.rebuild(List.of(active));
+
+        assertEquals(active, index.findContaining(at(10, 2, 20, 0)));
+        assertNull(index.findContaining(at(10, 3, 8, 0)));
+        assertNull(index.findOverlap(at(10, 2, 14, 0), at(10, 2, 15, 0), active));
+    }
+
+    @Test
+    void add_afterEndTimeSet_refilesAsEndedSpan() {
+        Workout active = new Workout("Yoga", at(10, 2, 14, 0));
+        WorkoutIntervalIndex index = new WorkoutIntervalIndex();
+        index.add(active);
+        active.setWorkoutEndDateTime(at(10, 2, 15, 0));
+
+        index.add(active);
+
+        assertEquals(1, index.size());
+        assertNull(index.findContaining(at(10, 2, 20, 0)));
+        assertEquals(active, index.findContaining(at(10, 2, 14, 59)));
+    }
+
+    @Test
+    void findOverlap_twoWorkoutsSameStart_bothKeptAndRemovedSeparately() {
+        Workout shortRun = new Workout("Run", at(10, 4, 7, 0), at(10, 4, 7, 30));
+        Workout longRide = new Workout("Ride", at(10, 4, 7, 0), at(10, 4, 9, 0));
+        WorkoutIntervalIndex index = new WorkoutIntervalIndex();
+        index.rebuild(List.of(shortRun, longRide));
+
+        assertEquals(2, index.size());
+        assertEquals(longRide, index.findContaining(at(10, 4, 8, 0)));
+
+        index.remove(longRide);
+        assertEquals(shortRun, index.findContaining(at(10, 4, 7, 10)));
+        assertNull(index.findContaining(at(10, 4, 8, 0)));
+    }
+
+    @Test
+    void findOverlap_longWorkoutHiddenBehindShorterLaterOne_found() {
+        // Saved before overlaps were checked across days: the ride spans the whole run
+        Workout ride = new Workout("Ride", at(10, 5, 6, 0), at(10, 5, 12, 0));
+        Workout run = new Workout("Run", at(10, 5, 8, 0), at(10, 5, 8, 30));
+        WorkoutIntervalIndex index = new WorkoutIntervalIndex();
+        index.rebuild(List.of(ride, run));
+
+        assertEquals(ride, index.findOverlap(at(10, 5, 10, 0), at(10, 5, 11, 0), null));
+        assertEquals(ride, index.findContaining(at(10, 5, 8, 45)));
+        assertNull(index.findContaining(at(10, 5, 12, 0)));
+    }
+}
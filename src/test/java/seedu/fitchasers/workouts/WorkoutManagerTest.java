@@ -13,6 +13,7 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -73,6 +74,15 @@ class WorkoutManagerTest {
         assertEquals("PushUp", w.getExercises().get(0).getName());
     }
 
+    @Test
+    void addExercise_keywordInExerciseName_tagsMergedIntoWorkout() throws IOException {
+        manager.addExercise("n/Deadlift r/5");
+        manager.addExercise("n/Bench Press r/8");
+        manager.addExercise("n/Deadlift r/3");
+        Workout w = manager.getWorkouts().get(0);
+        assertEquals(Set.of("strength", "posterior-chain", "back", "chest"), w.getAutoTags());
+    }
+
     @Test
     void addSet_validInput_addsSetToCurrentExercise() throws IOException {
         manager.addExercise("n/Squat r/12");
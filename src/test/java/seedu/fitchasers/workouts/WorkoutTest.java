@@ -4,6 +4,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -116,5 +119,13 @@ class WorkoutTest {
         assertEquals(-10, workout.getDuration()); // as per your implementation
     }
 
+    @Test
+    void deferExercises_addExercise_appendsAfterDeferredOnes() {
+        workout.deferExercises(() -> new ArrayList<>(List.of(new Exercise("Squat", 5))));
+        workout.addExercise(new Exercise("Lunge", 10));
 
+        assertEquals(2, workout.getExercises().size());
+        assertEquals("Squat", workout.getExercises().get(0).getName());
+        assertEquals("Lunge", workout.getCurrentExercise().getName());
+    }
 }